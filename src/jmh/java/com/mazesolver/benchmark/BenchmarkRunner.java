@@ -0,0 +1,48 @@
+package com.mazesolver.benchmark;
+
+import com.mazesolver.model.Maze;
+import com.mazesolver.util.AlgorithmManager;
+import java.util.Arrays;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmark jar. Accepts the usual JMH command line, and unless told
+ * otherwise runs every algorithm registered in {@link AlgorithmManager} and every
+ * generator with the GC profiler attached, so allocation rates are reported next to throughput.
+ * <p>
+ * Build and run: {@code mvn -P benchmark package && java -jar target/benchmarks.jar [jmh options]}
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+
+        // Take the algorithm list from the registry so new algorithms are benchmarked automatically
+        if (!commandLine.getParameter("algorithm").hasValue()) {
+            options.param("algorithm", AlgorithmManager.getAlgorithmNames().toArray(new String[0]));
+        }
+        if (!commandLine.getParameter("generator").hasValue()) {
+            options.param("generator", Arrays.stream(Maze.MazeGenerationAlgorithm.values())
+                    .map(Enum::name)
+                    .toArray(String[]::new));
+        }
+        if (commandLine.getProfilers().isEmpty()) {
+            options.addProfiler(GCProfiler.class);
+        }
+        if (commandLine.getIncludes().isEmpty()) {
+            options.include(BenchmarkRunner.class.getPackage().getName() + ".*");
+        }
+
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,32 @@
+package com.mazesolver.benchmark;
+
+import com.mazesolver.model.Maze;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Cost of building a maze from scratch: cell allocation, generation, and the landmark tables
+ * and tree oracle that {@link Maze#generateMaze} prepares eagerly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Djava.awt.headless=true"})
+public class GeneratorBenchmark {
+
+    @Param({"101", "501", "1001", "2001"})
+    public int size;
+
+    @Param({"RECURSIVE_BACKTRACKING", "PRIMS_ALGORITHM", "KRUSKALS_ALGORITHM"})
+    public Maze.MazeGenerationAlgorithm generator;
+
+    @Param({"42"})
+    public long seed;
+
+    @Benchmark
+    public Maze generate() {
+        return MazeFixtures.generate(size, generator, seed);
+    }
+}
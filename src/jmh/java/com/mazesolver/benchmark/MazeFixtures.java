@@ -0,0 +1,40 @@
+package com.mazesolver.benchmark;
+
+import com.mazesolver.model.Cell;
+import com.mazesolver.model.Maze;
+
+/**
+ * Builds the deterministic mazes and queries the benchmarks run on.
+ */
+final class MazeFixtures {
+
+    private MazeFixtures() {
+    }
+
+    static Maze generate(int size, Maze.MazeGenerationAlgorithm generator, long seed) {
+        Maze maze = new Maze(size, size, seed);
+        maze.generateMaze(generator);
+        return maze;
+    }
+
+    /**
+     * Finds the query end cell: the default end cell if the start reaches it, otherwise the
+     * reachable walkable cell closest to the bottom-right corner. Generators may leave the
+     * corner cell isolated, which would turn every search into a connectivity lookup.
+     */
+    static Cell farEnd(Maze maze) {
+        Cell start = maze.getStartCell();
+        if (maze.isReachable(start, maze.getEndCell())) {
+            return maze.getEndCell();
+        }
+        for (int row = maze.getRows() - 1; row >= 0; row--) {
+            for (int col = maze.getCols() - 1; col >= 0; col--) {
+                Cell cell = maze.getCell(row, col);
+                if (cell.isWalkable() && maze.isReachable(start, cell)) {
+                    return cell;
+                }
+            }
+        }
+        return start;
+    }
+}
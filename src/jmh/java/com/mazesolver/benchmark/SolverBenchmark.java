@@ -0,0 +1,73 @@
+package com.mazesolver.benchmark;
+
+import com.mazesolver.algorithm.PathfindingAlgorithm;
+import com.mazesolver.algorithm.SearchResult;
+import com.mazesolver.model.Cell;
+import com.mazesolver.model.Maze;
+import com.mazesolver.util.AlgorithmManager;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Throughput of one start-to-end search for every registered algorithm.
+ * The maze is generated once per trial; {@link PathfindingAlgorithm#search} leaves its cells
+ * untouched, so every invocation solves the same problem.
+ * <p>
+ * D* Lite keeps its tree between calls, so on an unchanged maze it measures a no-op replan.
+ * Flow Field and Contraction Hierarchies keep the index built by the search in {@link #setUp},
+ * and Tree Oracle reads the one built with the maze, so all three measure a lookup in that cached
+ * index rather than its construction.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Djava.awt.headless=true"})
+public class SolverBenchmark {
+
+    // Every name registered in AlgorithmManager, for runs that bypass BenchmarkRunner; keep in step
+    @Param({
+        "Dijkstra's Algorithm", "Dijkstra (Bucket Queue)", "Dijkstra (Radix Heap)", "A* Algorithm", "A* (ALT Landmarks)",
+        "ARA* (Anytime)", "Breadth-First Search", "Parallel BFS", "Bit-Parallel BFS", "Depth-First Search",
+        "Bidirectional BFS", "Bidirectional BFS (2 Threads)", "Bidirectional A*", "Bidirectional A* (2 Threads)",
+        "Jump Point Search", "Corridor-Contracted A*", "D* Lite (Incremental)", "Flow Field (Goal-Rooted)",
+        "Tree Oracle (Perfect Mazes)", "Contraction Hierarchies", "IDA* (Iterative Deepening)",
+        "SMA* (Memory-Bounded)"
+    })
+    public String algorithm;
+
+    @Param({"101", "501", "1001", "2001"})
+    public int size;
+
+    @Param({"RECURSIVE_BACKTRACKING", "PRIMS_ALGORITHM", "KRUSKALS_ALGORITHM"})
+    public Maze.MazeGenerationAlgorithm generator;
+
+    @Param({"42"})
+    public long seed;
+
+    private PathfindingAlgorithm solver;
+    private Maze maze;
+    private Cell start;
+    private Cell end;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        solver = AlgorithmManager.getAlgorithm(algorithm);
+        if (solver == null) {
+            throw new IllegalArgumentException("Unknown algorithm: " + algorithm);
+        }
+        maze = MazeFixtures.generate(size, generator, seed);
+        start = maze.getStartCell();
+        end = MazeFixtures.farEnd(maze);
+        // Build the shared derived data outside the measurement
+        maze.getGraph();
+        maze.getCorridorGraph();
+        solver.search(maze, start, end);
+    }
+
+    @Benchmark
+    public SearchResult solve() {
+        return solver.search(maze, start, end);
+    }
+}
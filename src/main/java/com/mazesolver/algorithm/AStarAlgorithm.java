@@ -1,14 +1,53 @@
 package com.mazesolver.algorithm;
 
 import com.mazesolver.model.Cell;
+import com.mazesolver.model.GridGraph;
+import com.mazesolver.model.LandmarkTable;
 import com.mazesolver.model.Maze;
+import com.mazesolver.model.MovementModel;
 import java.util.*;
 
 public class AStarAlgorithm extends AbstractPathfindingAlgorithm {
     
+    /**
+     * Lower bound used to estimate the remaining distance to the end cell.
+     */
+    public enum Heuristic {
+        /**
+         * Manhattan distance, or octile distance for 8-connected movement, times the cheapest
+         * terrain cost on weighted mazes.
+         */
+        MANHATTAN,
+        /**
+         * ALT: the larger of the Manhattan distance and max over landmarks L of
+         * {@code |d(L, end) - d(L, cell)|}, using the maze's precomputed landmark tables.
+         * The tables hold 4-connected distances, so 8-connected searches use the octile distance only.
+         */
+        LANDMARKS
+    }
+    
+    private final Heuristic heuristic;
+    
+    public AStarAlgorithm() {
+        this(Heuristic.MANHATTAN);
+    }
+    
+    public AStarAlgorithm(Heuristic heuristic) {
+        this.heuristic = heuristic;
+    }
+    
     @Override
     public String getName() {
-        return "A* Algorithm";
+        return heuristic == Heuristic.LANDMARKS ? "A* (ALT Landmarks)" : "A* Algorithm";
+    }
+    
+    public Heuristic getHeuristic() {
+        return heuristic;
+    }
+    
+    @Override
+    public String getConfiguration() {
+        return "heuristic=" + heuristic;
     }
     
     @Override
@@ -20,79 +59,190 @@ public class AStarAlgorithm extends AbstractPathfindingAlgorithm {
     public String getSpaceComplexity() {
         return "O(V)";
     }
+    
+    @Override
+    public boolean supportsMovementModel(MovementModel movement) {
+        return true;
+    }
+
+    @Override
+    protected List<Cell> findPathImplementation(SearchContext context, Maze maze, Cell start, Cell end) {
+        // Index-based fast path: indexed open set, primitive g-scores, no Cell mutation
+        GridGraph graph = maze.getGraph();
+        int source = graph.index(start);
+        int target = graph.index(end);
+        SearchBuffers buffers = context.buffers;
+        IndexedMinHeap openSet = context.openSet;
+        buffers.prepare(graph.size());
+        openSet.reset(graph.size());
+        MovementModel movement = context.movement;
+        LandmarkState landmarks = prepareHeuristic(context, maze, graph, target);
+        
+        buffers.reach(source, -1, 0);
+        openSet.offer(source, priority(estimate(graph, movement, landmarks, source, target), 0));
+        
+        while (!openSet.isEmpty()) {
+            int current = openSet.poll();
+            
+            if (current == target) {
+                break;
+            }
+            
+            buffers.close(current);
+            context.visitedCells++;
+            if (context.shouldStop(context.visitedCells)) {
+                return List.of();
+            }
+            
+            int gScore = buffers.distance[current];
+            int mask = graph.neighborMask(current, movement);
+            context.generatedNodes += Integer.bitCount(mask);
+            while (mask != 0) {
+                int direction = Integer.numberOfTrailingZeros(mask);
+                mask &= mask - 1;
+                int neighbor = current + graph.step(direction);
+                int tentativeGScore = gScore + graph.cost(neighbor) * movement.stepLength(direction);
+                if (!buffers.isClosed(neighbor)
+                        && (!buffers.isReached(neighbor) || tentativeGScore < buffers.distance[neighbor])) {
+                    int h = estimate(graph, movement, landmarks, neighbor, target);
+                    if (h == LandmarkTable.UNREACHABLE) {
+                        continue; // a landmark proves the end cell is in another component
+                    }
+                    buffers.reach(neighbor, current, tentativeGScore);
+                    openSet.offer(neighbor, priority(tentativeGScore + h, tentativeGScore));
+                }
+            }
+        }
+        
+        return buffers.isReached(target) ? buildPath(maze, graph, buffers.parent, target) : List.of();
+    }
 
     @Override
-    protected List<Cell> findPathImplementation(Maze maze, Cell start, Cell end) {
-        return findPathImplementationWithAnimation(maze, start, end, null);
+    public boolean supportsMultipleEndpoints() {
+        return true;
     }
 
+    /**
+     * Multi-source, multi-target A*: all sources start with g = 0 and the heuristic is the
+     * smallest estimate to any target, which stays consistent, so the first target polled is
+     * the nearest. Landmark bounds are not used here; every target would need its own.
+     */
     @Override
-    protected List<Cell> findPathImplementationWithAnimation(Maze maze, Cell start, Cell end, AnimationCallback callback) {
-        reset();
+    protected List<Cell> findPathImplementation(SearchContext context, Maze maze, int[] sources, int[] targets) {
+        GridGraph graph = maze.getGraph();
+        SearchBuffers buffers = context.buffers;
+        IndexedMinHeap openSet = context.openSet;
+        buffers.prepare(graph.size());
+        openSet.reset(graph.size());
+        buffers.markTargets(targets);
+        MovementModel movement = context.movement;
         
-        // Priority queue for open set (cells to explore)
-        PriorityQueue<AStarNode> openSet = new PriorityQueue<>((a, b) -> 
-            Double.compare(a.fScore, b.fScore));
+        for (int source : sources) {
+            if (!buffers.isReached(source)) {
+                buffers.reach(source, -1, 0);
+                openSet.offer(source, priority(nearestEstimate(graph, movement, source, targets), 0));
+            }
+        }
         
-        // Maps to track g-scores and f-scores
-        Map<Cell, Double> gScore = new HashMap<>();
-        Map<Cell, Double> fScore = new HashMap<>();
+        int found = -1;
+        while (!openSet.isEmpty()) {
+            int current = openSet.poll();
+            
+            if (buffers.isTarget(current)) {
+                found = current;
+                break;
+            }
+            
+            buffers.close(current);
+            context.visitedCells++;
+            if (context.shouldStop(context.visitedCells)) {
+                return List.of();
+            }
+            
+            int gScore = buffers.distance[current];
+            int mask = graph.neighborMask(current, movement);
+            context.generatedNodes += Integer.bitCount(mask);
+            while (mask != 0) {
+                int direction = Integer.numberOfTrailingZeros(mask);
+                mask &= mask - 1;
+                int neighbor = current + graph.step(direction);
+                int tentativeGScore = gScore + graph.cost(neighbor) * movement.stepLength(direction);
+                if (!buffers.isClosed(neighbor)
+                        && (!buffers.isReached(neighbor) || tentativeGScore < buffers.distance[neighbor])) {
+                    buffers.reach(neighbor, current, tentativeGScore);
+                    int h = nearestEstimate(graph, movement, neighbor, targets);
+                    openSet.offer(neighbor, priority(tentativeGScore + h, tentativeGScore));
+                }
+            }
+        }
+        
+        return found >= 0 ? buildPath(maze, graph, buffers.parent, found) : List.of();
+    }
+
+    @Override
+    protected List<Cell> findPathImplementationWithAnimation(SearchContext context, Maze maze, Cell start, Cell end,
+                                                             AnimationCallback callback) {
+        // Open set (cells to explore) keyed by cell index; g-scores live in the index buffers
+        GridGraph graph = maze.getGraph();
+        SearchBuffers buffers = context.buffers;
+        IndexedMinHeap openSet = context.openSet;
+        buffers.prepare(graph.size());
+        openSet.reset(graph.size());
+        int endIndex = graph.index(end);
+        LandmarkState landmarks = prepareHeuristic(context, maze, graph, endIndex);
         
         // Initialize start node
-        gScore.put(start, 0.0);
-        fScore.put(start, (double) manhattanDistance(start, end));
+        int startIndex = graph.index(start);
+        buffers.reach(startIndex, -1, 0);
         start.setDistance(0);
-        openSet.offer(new AStarNode(start, fScore.get(start)));
-        
-        Set<Cell> closedSet = new HashSet<>();
+        openSet.offer(startIndex, priority(estimate(graph, context.movement, landmarks, startIndex, endIndex), 0));
         
         while (!openSet.isEmpty()) {
-            AStarNode current = openSet.poll();
-            Cell currentCell = current.cell;
+            int currentIndex = openSet.poll();
+            Cell currentCell = maze.getCell(graph.rowOf(currentIndex), graph.colOf(currentIndex));
             
             if (currentCell == end) {
                 break;
             }
             
-            closedSet.add(currentCell);
-            markVisited(currentCell);
+            buffers.close(currentIndex);
+            markVisited(context, currentCell);
             
             // Animation callback for visited cell
             if (callback != null) {
                 callback.onCellVisited(currentCell);
-                try {
-                    Thread.sleep(callback.onStepDelay(50));
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
+                if (!pause(context, callback)) {
                     break;
                 }
             }
             
             // Explore neighbors
-            for (Cell neighbor : getNeighbors(maze, currentCell)) {
-                if (closedSet.contains(neighbor)) {
+            int gScore = buffers.distance[currentIndex];
+            List<Cell> neighbors = getNeighbors(maze, graph, currentCell, context.movement);
+            context.generatedNodes += neighbors.size();
+            for (Cell neighbor : neighbors) {
+                int neighborIndex = graph.index(neighbor);
+                if (buffers.isClosed(neighborIndex)) {
                     continue;
                 }
+                int tentativeGScore = gScore + moveCost(graph, context.movement, currentIndex, neighborIndex);
                 
-                double tentativeGScore = gScore.get(currentCell) + 1;
-                
-                if (!gScore.containsKey(neighbor) || tentativeGScore < gScore.get(neighbor)) {
-                    // This path is better, record it
-                    neighbor.setParent(currentCell);
-                    neighbor.setDistance((int) tentativeGScore);
-                    gScore.put(neighbor, tentativeGScore);
-                    fScore.put(neighbor, tentativeGScore + (double) manhattanDistance(neighbor, end));
-                    
-                    // Add to open set if not already there
-                    if (!openSet.stream().anyMatch(node -> node.cell == neighbor)) {
-                        openSet.offer(new AStarNode(neighbor, fScore.get(neighbor)));
+                if (!buffers.isReached(neighborIndex) || tentativeGScore < buffers.distance[neighborIndex]) {
+                    int h = estimate(graph, context.movement, landmarks, neighborIndex, endIndex);
+                    if (h == LandmarkTable.UNREACHABLE) {
+                        continue;
                     }
+                    // This path is better, record it and insert or decrease-key in the open set
+                    neighbor.setParent(currentCell);
+                    neighbor.setDistance(tentativeGScore);
+                    buffers.reach(neighborIndex, currentIndex, tentativeGScore);
+                    openSet.offer(neighborIndex, priority(tentativeGScore + h, tentativeGScore));
                 }
             }
         }
         
-        // Reconstruct path
-        List<Cell> path = reconstructPath(end);
+        // Reconstruct path if the end cell was reached
+        List<Cell> path = buffers.isReached(endIndex) ? reconstructPath(end) : List.of();
         
         // Animation callback for final path
         if (callback != null) {
@@ -102,16 +252,64 @@ public class AStarAlgorithm extends AbstractPathfindingAlgorithm {
         return path;
     }
     
-    private static class AStarNode {
-        Cell cell;
-        double fScore;
-        
-        AStarNode(Cell cell, double fScore) {
-            this.cell = cell;
-            this.fScore = fScore;
+    /**
+     * Looks up the landmark distances of the target, or returns null to use the movement distance only.
+     */
+    private LandmarkState prepareHeuristic(SearchContext context, Maze maze, GridGraph graph, int target) {
+        if (heuristic != Heuristic.LANDMARKS || context.movement.allowsDiagonals()) {
+            return null;
+        }
+        LandmarkTable table = maze.getLandmarks();
+        if (table.getVersion() != graph.getVersion()) {
+            return null; // maze edited between the two snapshots; fall back to Manhattan
+        }
+        LandmarkState landmarks = context.state(LandmarkState::new);
+        if (landmarks.targetDistances.length < table.getLandmarkCount()) {
+            landmarks.targetDistances = new int[table.getLandmarkCount()];
         }
+        table.distances(target, landmarks.targetDistances);
+        landmarks.table = table;
+        return landmarks;
     }
     
-
+    /**
+     * Estimates the distance from a cell to the target, or returns {@link LandmarkTable#UNREACHABLE}
+     * if the landmark tables show the target cannot be reached from it.
+     */
+    private static int estimate(GridGraph graph, MovementModel movement, LandmarkState landmarks, int cell, int target) {
+        int h = movement.distance(graph, cell, target);
+        if (landmarks != null) {
+            int bound = landmarks.table.lowerBound(cell, landmarks.targetDistances);
+            if (bound == LandmarkTable.UNREACHABLE) {
+                return bound;
+            }
+            h = Math.max(h, bound);
+        }
+        // Both bounds are move lengths; every unit of length costs at least minCost, so the scaled bound stays admissible
+        return h * graph.minCost();
+    }
+    
+    private static int nearestEstimate(GridGraph graph, MovementModel movement, int cell, int[] targets) {
+        int h = Integer.MAX_VALUE;
+        for (int target : targets) {
+            h = Math.min(h, movement.distance(graph, cell, target));
+        }
+        return h * graph.minCost();
+    }
+    
+    /**
+     * Packs an f-score and g-score into one heap priority: lower f first, and among
+     * equal f the larger g (the node closer to the goal) first.
+     */
+    private static long priority(int fScore, int gScore) {
+        return ((long) fScore << 32) - gScore;
+    }
+    
+    /**
+     * Per-search landmark state: the maze's tables and the end cell's landmark distances.
+     */
+    private static final class LandmarkState {
+        LandmarkTable table;
+        int[] targetDistances = new int[0];
+    }
 }
-
@@ -1,104 +1,389 @@
 package com.mazesolver.algorithm;
 
 import com.mazesolver.model.Cell;
+import com.mazesolver.model.GridGraph;
 import com.mazesolver.model.Maze;
+import com.mazesolver.model.MovementModel;
+import com.mazesolver.model.Path;
+import java.lang.management.ManagementFactory;
 import java.util.*;
 
 /**
  * Abstract base class for pathfinding algorithms.
  * Provides common functionality like performance tracking and utility methods.
+ * <p>
+ * All per-search state lives in a {@link SearchContext} passed to the implementation hooks;
+ * contexts are kept per thread, so one instance can serve concurrent {@link #search} calls.
  */
 public abstract class AbstractPathfindingAlgorithm implements PathfindingAlgorithm {
     
-    protected int visitedCellsCount;
-    protected long executionTime;
-    protected long startTime;
+    private static final SearchResult EMPTY_RESULT = new SearchResult(Path.EMPTY, null, SearchMetrics.EMPTY);
     
-    public AbstractPathfindingAlgorithm() {
-        reset();
+    // Per-thread allocation counter of HotSpot-style JVMs; null where unavailable
+    private static final com.sun.management.ThreadMXBean THREADS = threadAllocationBean();
+    
+    // One reusable context per thread; a nested search on the same thread gets a fresh one
+    private final ThreadLocal<SearchContext> contexts = ThreadLocal.withInitial(SearchContext::new);
+    
+    // Result of the most recent findPath/findPathWithAnimation call, for the UI
+    private volatile SearchResult lastResult = EMPTY_RESULT;
+    
+    @Override
+    public SearchResult search(Maze maze, Cell start, Cell end) {
+        return search(maze, start, end, MovementModel.FOUR_CONNECTED, null);
+    }
+    
+    @Override
+    public SearchResult search(Maze maze, Cell start, Cell end, MovementModel movement) {
+        return search(maze, start, end, movement, null);
+    }
+    
+    @Override
+    public SearchResult search(Maze maze, Cell start, Cell end, CancellationToken cancellation) {
+        return search(maze, start, end, MovementModel.FOUR_CONNECTED, cancellation);
+    }
+    
+    @Override
+    public SearchResult search(Maze maze, Cell start, Cell end, MovementModel movement,
+                               CancellationToken cancellation) {
+        SearchContext context = acquireContext(movement);
+        context.cancellation = cancellation;
+        try {
+            long allocatedBefore = allocatedBytes();
+            long startTime = System.nanoTime();
+            List<Cell> path = isPossiblyReachable(context, maze, start, end)
+                    ? findPathImplementation(context, maze, start, end)
+                    : List.of(); // disconnected: answered by the connectivity index without a search
+            return finish(context, maze, path, startTime, allocatedBefore);
+        } finally {
+            context.end();
+        }
+    }
+    
+    @Override
+    public SearchResult search(Maze maze, Collection<Cell> sources, Collection<Cell> targets) {
+        return search(maze, sources, targets, MovementModel.FOUR_CONNECTED, null);
+    }
+    
+    @Override
+    public SearchResult search(Maze maze, Collection<Cell> sources, Collection<Cell> targets,
+                               CancellationToken cancellation) {
+        return search(maze, sources, targets, MovementModel.FOUR_CONNECTED, cancellation);
+    }
+    
+    @Override
+    public SearchResult search(Maze maze, Collection<Cell> sources, Collection<Cell> targets,
+                               MovementModel movement) {
+        return search(maze, sources, targets, movement, null);
+    }
+    
+    @Override
+    public SearchResult search(Maze maze, Collection<Cell> sources, Collection<Cell> targets,
+                               MovementModel movement, CancellationToken cancellation) {
+        if (!supportsMultipleEndpoints()) {
+            throw new UnsupportedOperationException(getName() + " does not support multiple sources or targets");
+        }
+        SearchContext context = acquireContext(movement);
+        context.cancellation = cancellation;
+        try {
+            long allocatedBefore = allocatedBytes();
+            long startTime = System.nanoTime();
+            int[] from = indicesOf(maze, sources);
+            int[] to = indicesOf(maze, targets);
+            List<Cell> path = from.length > 0 && to.length > 0
+                    ? findPathImplementation(context, maze, from, to)
+                    : List.of();
+            return finish(context, maze, path, startTime, allocatedBefore);
+        } finally {
+            context.end();
+        }
+    }
+    
+    /**
+     * Indices of the walkable cells among {@code cells}, each once; blocked cells can neither
+     * start nor end a path.
+     */
+    private static int[] indicesOf(Maze maze, Collection<Cell> cells) {
+        int[] indices = new int[cells.size()];
+        BitSet seen = new BitSet(maze.getRows() * maze.getCols());
+        int count = 0;
+        for (Cell cell : cells) {
+            int index = cell.getRow() * maze.getCols() + cell.getCol();
+            if (cell.isWalkable() && !seen.get(index)) {
+                seen.set(index);
+                indices[count++] = index;
+            }
+        }
+        return Arrays.copyOf(indices, count);
     }
     
     @Override
     public List<Cell> findPath(Maze maze, Cell start, Cell end) {
-        startTime = System.currentTimeMillis();
-        List<Cell> path = findPathImplementation(maze, start, end);
-        executionTime = System.currentTimeMillis() - startTime;
-        return path;
+        return findPath(maze, start, end, MovementModel.FOUR_CONNECTED);
+    }
+    
+    @Override
+    public List<Cell> findPath(Maze maze, Cell start, Cell end, MovementModel movement) {
+        SearchContext context = acquireContext(movement);
+        try {
+            long allocatedBefore = allocatedBytes();
+            long startTime = System.nanoTime();
+            List<Cell> path = isPossiblyReachable(context, maze, start, end)
+                    ? findPathImplementation(context, maze, start, end)
+                    : List.of();
+            SearchResult result = finish(context, maze, path, startTime, allocatedBefore);
+            lastResult = result;
+            return result.getPath();
+        } finally {
+            context.end();
+        }
     }
 
     @Override
     public List<Cell> findPathWithAnimation(Maze maze, Cell start, Cell end, AnimationCallback callback) {
-        startTime = System.currentTimeMillis();
-        List<Cell> path = findPathImplementationWithAnimation(maze, start, end, callback);
-        executionTime = System.currentTimeMillis() - startTime;
-        return path;
+        return findPathWithAnimation(maze, start, end, MovementModel.FOUR_CONNECTED, callback, null);
+    }
+
+    @Override
+    public List<Cell> findPathWithAnimation(Maze maze, Cell start, Cell end, MovementModel movement,
+                                            AnimationCallback callback) {
+        return findPathWithAnimation(maze, start, end, movement, callback, null);
+    }
+
+    @Override
+    public List<Cell> findPathWithAnimation(Maze maze, Cell start, Cell end, AnimationCallback callback,
+                                            CancellationToken cancellation) {
+        return findPathWithAnimation(maze, start, end, MovementModel.FOUR_CONNECTED, callback, cancellation);
+    }
+
+    @Override
+    public List<Cell> findPathWithAnimation(Maze maze, Cell start, Cell end, MovementModel movement,
+                                            AnimationCallback callback, CancellationToken cancellation) {
+        return searchWithAnimation(maze, start, end, movement, callback, cancellation).getPath();
+    }
+
+    @Override
+    public SearchResult searchWithAnimation(Maze maze, Cell start, Cell end, MovementModel movement,
+                                            AnimationCallback callback, CancellationToken cancellation) {
+        SearchContext context = acquireContext(movement);
+        context.cancellation = cancellation;
+        MeasuredCallback measured = callback != null ? new MeasuredCallback(callback, context) : null;
+        SearchResult result;
+        try {
+            long allocatedBefore = allocatedBytes();
+            long startTime = System.nanoTime();
+            List<Cell> path = isPossiblyReachable(context, maze, start, end)
+                    ? findPathImplementationWithAnimation(context, maze, start, end, measured)
+                    : List.of();
+            result = finish(context, maze, path, startTime, allocatedBefore);
+            lastResult = result;
+        } finally {
+            context.end();
+        }
+        // Report completion only once the metrics of this call are published
+        if (measured != null) {
+            callback.onAlgorithmComplete(measured.finalPath != null ? measured.finalPath : result.getPath());
+        }
+        return result;
     }
 
     /**
      * Implementation of the pathfinding algorithm.
-     * Subclasses must implement this method.
+     * Subclasses must implement this method without modifying the maze's cells, keeping all
+     * per-search state in {@code context}.
      */
-    protected abstract List<Cell> findPathImplementation(Maze maze, Cell start, Cell end);
+    protected abstract List<Cell> findPathImplementation(SearchContext context, Maze maze, Cell start, Cell end);
+    
+    /**
+     * Multi-source, multi-target implementation, for algorithms that support it.
+     * Subclasses that override it must also override {@link #supportsMultipleEndpoints()}.
+     * @param sources Indices of the walkable cells the path may start from, each given once
+     * @param targets Indices of the walkable cells the path may end at, each given once
+     */
+    protected List<Cell> findPathImplementation(SearchContext context, Maze maze, int[] sources, int[] targets) {
+        throw new UnsupportedOperationException(getName() + " does not support multiple sources or targets");
+    }
     
     // Default implementation that can be overridden for better animation
-    protected List<Cell> findPathImplementationWithAnimation(Maze maze, Cell start, Cell end, AnimationCallback callback) {
-        // Default implementation just calls the regular method
-        return findPathImplementation(maze, start, end);
+    protected List<Cell> findPathImplementationWithAnimation(SearchContext context, Maze maze, Cell start, Cell end,
+                                                             AnimationCallback callback) {
+        // Default implementation runs the regular method and only reports the final path
+        List<Cell> path = findPathImplementation(context, maze, start, end);
+        if (callback != null) {
+            callback.onAlgorithmComplete(path);
+        }
+        return path;
+    }
+    
+    /**
+     * Gets this thread's context for a new search with the given movement model; callers must
+     * call {@link SearchContext#end()} afterwards.
+     * @throws IllegalArgumentException if this algorithm does not support the movement model
+     */
+    SearchContext acquireContext(MovementModel movement) {
+        if (!supportsMovementModel(movement)) {
+            throw new IllegalArgumentException(getName() + " does not support " + movement.getDisplayName() + " movement");
+        }
+        SearchContext context = contexts.get();
+        if (context.isInUse()) {
+            context = new SearchContext();
+        }
+        context.begin();
+        context.movement = movement;
+        return context;
+    }
+    
+    /**
+     * The connectivity index only knows 4-connected components; diagonal moves can join them,
+     * so it can rule out a path only for 4-connected searches.
+     */
+    private static boolean isPossiblyReachable(SearchContext context, Maze maze, Cell start, Cell end) {
+        return context.movement.allowsDiagonals() || maze.isReachable(start, end);
+    }
+    
+    /**
+     * No settings unless overridden.
+     */
+    @Override
+    public String getConfiguration() {
+        return "";
+    }
+    
+    /**
+     * Only 4-connected movement unless overridden.
+     */
+    @Override
+    public boolean supportsMovementModel(MovementModel movement) {
+        return movement == MovementModel.FOUR_CONNECTED;
+    }
+    
+    @Override
+    public boolean supportsMultipleEndpoints() {
+        return false;
+    }
+    
+    private SearchResult finish(SearchContext context, Maze maze, List<Cell> path, long startTime,
+                                long allocatedBefore) {
+        long elapsed = System.nanoTime() - startTime;
+        long allocated = allocatedBefore < 0 ? -1 : allocatedBytes() - allocatedBefore;
+        // Paths from buildPath are views of a Path already; only other solvers' lists are encoded here
+        return new SearchResult(Path.of(maze.getGraph(), path), maze, context.toMetrics(elapsed, allocated),
+                context.suboptimalityBound, context.budgetExhausted);
+    }
+    
+    private static long allocatedBytes() {
+        return THREADS != null ? THREADS.getCurrentThreadAllocatedBytes() : -1;
+    }
+    
+    private static com.sun.management.ThreadMXBean threadAllocationBean() {
+        try {
+            java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (bean instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+                if (threads.isThreadAllocatedMemorySupported()) {
+                    threads.setThreadAllocatedMemoryEnabled(true);
+                    return threads;
+                }
+            }
+        } catch (LinkageError | UnsupportedOperationException | SecurityException e) {
+            // Allocation metrics are optional
+        }
+        return null;
+    }
+    
+    /**
+     * Sleeps for the callback's step delay, counting the time as paused so it is excluded
+     * from the search's elapsed time. A cancelled token ends the delay at once.
+     * @return false if the search was cancelled or the thread interrupted and the search should stop
+     */
+    protected boolean pause(SearchContext context, AnimationCallback callback) {
+        long pauseStart = System.nanoTime();
+        try {
+            long delay = callback.onStepDelay(50);
+            if (context.cancellation != null) {
+                return !context.cancellation.await(delay);
+            }
+            Thread.sleep(delay);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            context.pausedNanos += System.nanoTime() - pauseStart;
+        }
+    }
+    
+    @Override
+    public SearchMetrics getMetrics() {
+        return lastResult.getMetrics();
+    }
+    
+    @Override
+    public SearchResult getLastResult() {
+        return lastResult;
     }
     
     @Override
     public int getVisitedCellsCount() {
-        return visitedCellsCount;
+        return lastResult.getVisitedCells();
     }
     
     @Override
     public long getExecutionTime() {
-        return executionTime;
+        return lastResult.getExecutionTime();
     }
     
     @Override
     public void reset() {
-        visitedCellsCount = 0;
-        executionTime = 0;
-        startTime = 0;
+        lastResult = EMPTY_RESULT;
     }
     
     /**
-     * Marks a cell as visited and increments the counter.
+     * Marks a cell as visited and increments the context's counter.
      */
-    protected void markVisited(Cell cell) {
+    protected void markVisited(SearchContext context, Cell cell) {
         if (cell != null && !cell.isVisited()) {
             cell.setVisited(true);
-            visitedCellsCount++;
+            context.visitedCells++;
         }
     }
     
     /**
-     * Gets all valid neighbors of a cell.
+     * Gets all valid 4-connected neighbors of a cell.
      */
     protected List<Cell> getNeighbors(Maze maze, Cell cell) {
-        List<Cell> neighbors = new ArrayList<>();
-        int row = cell.getRow();
-        int col = cell.getCol();
-        
-        // Check all 4 directions: up, right, down, left
-        int[][] directions = {{-1, 0}, {0, 1}, {1, 0}, {0, -1}};
-        
-        for (int[] dir : directions) {
-            int newRow = row + dir[0];
-            int newCol = col + dir[1];
-            
-            if (isValidPosition(maze, newRow, newCol)) {
-                Cell neighbor = maze.getCell(newRow, newCol);
-                if (neighbor != null && neighbor.isWalkable()) {
-                    neighbors.add(neighbor);
-                }
-            }
+        return getNeighbors(maze, maze.getGraph(), cell, MovementModel.FOUR_CONNECTED);
+    }
+    
+    /**
+     * Gets the neighbors a search may move to from a cell, in direction order
+     * (up, right, down, left, then the diagonals), using the graph's precomputed masks.
+     */
+    protected List<Cell> getNeighbors(Maze maze, GridGraph graph, Cell cell, MovementModel movement) {
+        int index = graph.index(cell);
+        int mask = graph.neighborMask(index, movement);
+        List<Cell> neighbors = new ArrayList<>(Integer.bitCount(mask));
+        while (mask != 0) {
+            int direction = Integer.numberOfTrailingZeros(mask);
+            mask &= mask - 1;
+            int neighbor = index + graph.step(direction);
+            neighbors.add(maze.getCell(graph.rowOf(neighbor), graph.colOf(neighbor)));
         }
-        
         return neighbors;
     }
     
+    /**
+     * Gets the cost of moving between two adjacent cells: the terrain cost of the entered cell,
+     * times the move's length under the movement model.
+     */
+    protected int moveCost(GridGraph graph, MovementModel movement, int from, int to) {
+        if (!movement.allowsDiagonals()) {
+            return graph.cost(to);
+        }
+        boolean diagonal = graph.rowOf(from) != graph.rowOf(to) && graph.colOf(from) != graph.colOf(to);
+        return graph.cost(to) * (diagonal ? MovementModel.DIAGONAL_LENGTH : MovementModel.STRAIGHT_LENGTH);
+    }
+    
     /**
      * Checks if a position is valid within the maze bounds.
      */
@@ -110,15 +395,35 @@ public abstract class AbstractPathfindingAlgorithm implements PathfindingAlgorit
      * Reconstructs the path from end to start using parent pointers.
      */
     protected List<Cell> reconstructPath(Cell end) {
-        List<Cell> path = new ArrayList<>();
-        Cell current = end;
+        int length = 0;
+        for (Cell current = end; current != null; current = current.getParent()) {
+            length++;
+        }
         
-        while (current != null) {
-            path.add(0, current); // Add to front to maintain order
-            current = current.getParent();
+        // Fill from the back, so the path comes out in order without shifting
+        Cell[] cells = new Cell[length];
+        int position = length;
+        for (Cell current = end; current != null; current = current.getParent()) {
+            cells[--position] = current;
         }
         
-        return path;
+        return new ArrayList<>(Arrays.asList(cells));
+    }
+    
+    /**
+     * Reconstructs a path from index-based parent pointers, following them from
+     * {@code end} until a parent of -1 (the start) is reached. The path is encoded as a compact
+     * {@link Path}; the returned list is an unmodifiable view of it, decoded on first access.
+     */
+    protected List<Cell> buildPath(Maze maze, GridGraph graph, int[] parent, int end) {
+        return Path.fromParents(graph, parent, end).asList(maze);
+    }
+    
+    /**
+     * Converts a path of cell indices into an unmodifiable view of a compact {@link Path}.
+     */
+    protected List<Cell> toCells(Maze maze, GridGraph graph, int[] indices) {
+        return Path.of(graph.getCols(), indices).asList(maze);
     }
     
     /**
@@ -136,4 +441,44 @@ public abstract class AbstractPathfindingAlgorithm implements PathfindingAlgorit
         int dc = a.getCol() - b.getCol();
         return Math.sqrt(dr * dr + dc * dc);
     }
+    
+    /**
+     * Forwards animation callbacks, counting their time as paused and holding back
+     * {@code onAlgorithmComplete} until the call's metrics have been recorded.
+     */
+    private static final class MeasuredCallback implements AnimationCallback {
+        
+        private final AnimationCallback delegate;
+        private final SearchContext context;
+        private List<Cell> finalPath;
+        
+        MeasuredCallback(AnimationCallback delegate, SearchContext context) {
+            this.delegate = delegate;
+            this.context = context;
+        }
+        
+        @Override
+        public void onCellVisited(Cell cell) {
+            long callStart = System.nanoTime();
+            delegate.onCellVisited(cell);
+            context.pausedNanos += System.nanoTime() - callStart;
+        }
+        
+        @Override
+        public void onPathUpdated(List<Cell> currentPath) {
+            long callStart = System.nanoTime();
+            delegate.onPathUpdated(currentPath);
+            context.pausedNanos += System.nanoTime() - callStart;
+        }
+        
+        @Override
+        public void onAlgorithmComplete(List<Cell> path) {
+            finalPath = path;
+        }
+        
+        @Override
+        public long onStepDelay(long milliseconds) {
+            return delegate.onStepDelay(milliseconds);
+        }
+    }
 }
@@ -0,0 +1,281 @@
+package com.mazesolver.algorithm;
+
+import com.mazesolver.model.Cell;
+import com.mazesolver.model.GridGraph;
+import com.mazesolver.model.Maze;
+import com.mazesolver.model.MovementModel;
+import java.util.*;
+
+/**
+ * Anytime Repairing A* (ARA*): weighted A* with f = g + w * h, which finds a first path quickly,
+ * followed by searches with ever smaller weights that reuse all earlier work until w reaches 1.
+ * Cells improved after being expanded in the current round are set aside and requeued for the
+ * next one instead of being expanded again.
+ * <p>
+ * The search stops when the time budget runs out or its token is cancelled, and returns the
+ * best path found so far. The result's suboptimality bound is the path cost divided by the
+ * smallest unweighted f-score still waiting, capped by the weight of the last completed round;
+ * it is 1 once the path is proven optimal.
+ */
+public class AnytimeAStarAlgorithm extends AbstractPathfindingAlgorithm {
+
+    public static final double DEFAULT_INITIAL_WEIGHT = 3.0;
+    public static final double DEFAULT_WEIGHT_STEP = 0.5;
+    public static final long DEFAULT_TIME_BUDGET_MILLIS = 1000;
+
+    // Weights are fixed point in steps of 1/WEIGHT_SCALE, so keys stay integers
+    private static final int WEIGHT_SCALE = 1000;
+
+    private static final long INFINITE = Long.MAX_VALUE;
+
+    private final int initialWeight;
+    private final int weightStep;
+    private volatile long timeBudgetNanos;
+
+    public AnytimeAStarAlgorithm() {
+        this(DEFAULT_INITIAL_WEIGHT, DEFAULT_WEIGHT_STEP, DEFAULT_TIME_BUDGET_MILLIS);
+    }
+
+    /**
+     * @param initialWeight Heuristic weight of the first search, at least 1
+     * @param weightStep Amount the weight drops after each search, positive
+     * @param timeBudgetMillis Time after which the best path so far is returned, or 0 for none
+     */
+    public AnytimeAStarAlgorithm(double initialWeight, double weightStep, long timeBudgetMillis) {
+        if (initialWeight < 1) {
+            throw new IllegalArgumentException("Initial weight must be at least 1: " + initialWeight);
+        }
+        if (weightStep <= 0) {
+            throw new IllegalArgumentException("Weight step must be positive: " + weightStep);
+        }
+        this.initialWeight = (int) Math.round(initialWeight * WEIGHT_SCALE);
+        this.weightStep = Math.max(1, (int) Math.round(weightStep * WEIGHT_SCALE));
+        setTimeBudget(timeBudgetMillis);
+    }
+
+    @Override
+    public String getName() {
+        return "ARA* (Anytime)";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O((V + E) log V) per round";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(V)";
+    }
+
+    public long getTimeBudget() {
+        return timeBudgetNanos / 1_000_000;
+    }
+
+    /**
+     * Sets how long a search may run before it returns its best path, in milliseconds; 0 for no limit.
+     */
+    public void setTimeBudget(long timeBudgetMillis) {
+        if (timeBudgetMillis < 0) {
+            throw new IllegalArgumentException("Time budget must not be negative: " + timeBudgetMillis);
+        }
+        this.timeBudgetNanos = timeBudgetMillis * 1_000_000;
+    }
+
+    @Override
+    public String getConfiguration() {
+        return "initialWeight=" + initialWeight + ",weightStep=" + weightStep + ",timeBudgetNanos=" + timeBudgetNanos;
+    }
+
+    @Override
+    public boolean supportsMovementModel(MovementModel movement) {
+        return true;
+    }
+
+    @Override
+    protected List<Cell> findPathImplementation(SearchContext context, Maze maze, Cell start, Cell end) {
+        long budget = timeBudgetNanos;
+        long deadline = budget > 0 ? System.nanoTime() + budget : INFINITE;
+        GridGraph graph = maze.getGraph();
+        MovementModel movement = context.movement;
+        int source = graph.index(start);
+        int target = graph.index(end);
+        SearchBuffers buffers = context.buffers;
+        IndexedMinHeap open = context.openSet;
+        buffers.prepare(graph.size());
+        open.reset(graph.size());
+        Rounds rounds = context.state(Rounds::new);
+        rounds.prepare(graph.size());
+        context.memory(rounds.footprintBytes());
+
+        int weight = initialWeight;
+        int proven = 0; // weight of the last completed round, 0 before the first
+        buffers.reach(source, -1, 0);
+        open.offer(source, key(graph, movement, buffers, source, target, weight));
+
+        long expansions = 0;
+        boolean stopped = false;
+        while (!stopped) {
+            rounds.next();
+
+            // Expand until no queued key is below the end cell's weighted f-score
+            while (!open.isEmpty() && open.priorityOf(open.peek()) < goalKey(buffers, target)) {
+                int current = open.poll();
+                rounds.close(current);
+                context.visitedCells++;
+
+                int gScore = buffers.distance[current];
+                int mask = graph.neighborMask(current, movement);
+                context.generatedNodes += Integer.bitCount(mask);
+                while (mask != 0) {
+                    int direction = Integer.numberOfTrailingZeros(mask);
+                    mask &= mask - 1;
+                    int neighbor = current + graph.step(direction);
+                    int tentative = gScore + graph.cost(neighbor) * movement.stepLength(direction);
+                    if (buffers.isReached(neighbor) && tentative >= buffers.distance[neighbor]) {
+                        continue;
+                    }
+                    buffers.reach(neighbor, current, tentative);
+                    if (rounds.isClosed(neighbor)) {
+                        rounds.setAside(neighbor);
+                    } else {
+                        open.update(neighbor, key(graph, movement, buffers, neighbor, target, weight));
+                    }
+                }
+
+                if ((++expansions & SearchContext.CANCEL_CHECK_MASK) == 0 && isOver(context, deadline)) {
+                    stopped = true;
+                    break;
+                }
+            }
+
+            if (!stopped) {
+                proven = weight;
+                if (weight == WEIGHT_SCALE || !buffers.isReached(target)) {
+                    break; // optimal, or no path at all
+                }
+                stopped = isOver(context, deadline);
+            }
+            if (!stopped) {
+                // Tighten the weight and requeue everything under it, including the set-aside cells
+                int w = Math.max(WEIGHT_SCALE, weight - weightStep);
+                for (int i = 0; i < rounds.asideCount; i++) {
+                    open.offer(rounds.aside[i], key(graph, movement, buffers, rounds.aside[i], target, w));
+                }
+                open.reprioritize(index -> key(graph, movement, buffers, index, target, w));
+                weight = w;
+            }
+        }
+
+        // Stopped by the clock rather than the token, a later search with more time may do better
+        context.budgetExhausted = stopped && !context.isCancelled();
+        if (!buffers.isReached(target)) {
+            if (stopped) {
+                context.suboptimalityBound = Double.POSITIVE_INFINITY; // gave up, not proven unreachable
+            }
+            return List.of();
+        }
+        // Costs only fall, so the path to the end cell is never worse than the last completed round's
+        context.suboptimalityBound = bound(graph, movement, buffers, open, rounds, target, proven);
+        return buildPath(maze, graph, buffers.parent, target);
+    }
+
+    private static boolean isOver(SearchContext context, long deadline) {
+        return System.nanoTime() >= deadline || context.isCancelled();
+    }
+
+    /**
+     * Proves how far the found path can be from optimal: every cheaper path would pass through a
+     * queued or set-aside cell, so the smallest unweighted f-score among them bounds the optimum.
+     * A completed round with weight w also proves a factor of w.
+     */
+    private static double bound(GridGraph graph, MovementModel movement, SearchBuffers buffers,
+                                IndexedMinHeap open, Rounds rounds, int target, int proven) {
+        long lowest = INFINITE;
+        for (int i = 0; i < open.size(); i++) {
+            lowest = Math.min(lowest, fScore(graph, movement, buffers, open.at(i), target));
+        }
+        for (int i = 0; i < rounds.asideCount; i++) {
+            lowest = Math.min(lowest, fScore(graph, movement, buffers, rounds.aside[i], target));
+        }
+        double cost = buffers.distance[target];
+        if (lowest >= cost) {
+            return 1;
+        }
+        double bound = cost / lowest;
+        return proven > 0 ? Math.min((double) proven / WEIGHT_SCALE, bound) : bound;
+    }
+
+    private static long fScore(GridGraph graph, MovementModel movement, SearchBuffers buffers, int cell, int target) {
+        return buffers.distance[cell] + (long) estimate(graph, movement, cell, target);
+    }
+
+    /**
+     * Gets the weighted f-score of a reached cell in fixed point: g + w * h.
+     */
+    private static long key(GridGraph graph, MovementModel movement, SearchBuffers buffers,
+                            int cell, int target, int weight) {
+        return (long) buffers.distance[cell] * WEIGHT_SCALE + (long) weight * estimate(graph, movement, cell, target);
+    }
+
+    private static long goalKey(SearchBuffers buffers, int target) {
+        return buffers.isReached(target) ? (long) buffers.distance[target] * WEIGHT_SCALE : INFINITE;
+    }
+
+    private static int estimate(GridGraph graph, MovementModel movement, int cell, int target) {
+        return movement.distance(graph, cell, target) * graph.minCost();
+    }
+
+    /**
+     * Per-round bookkeeping: the round each cell was last expanded in, and the cells improved
+     * after their expansion in the current round. Kept in the search context.
+     */
+    private static final class Rounds {
+
+        private int[] closedRound = new int[0];
+        private int[] asideRound = new int[0];
+        int[] aside = new int[0];
+        int asideCount;
+        private int round;
+
+        void prepare(int size) {
+            if (closedRound.length < size) {
+                closedRound = new int[size];
+                asideRound = new int[size];
+                aside = new int[size];
+                round = 0;
+            }
+        }
+
+        /**
+         * Starts a round with every cell open again and nothing set aside.
+         */
+        void next() {
+            if (++round == Integer.MAX_VALUE) {
+                Arrays.fill(closedRound, 0);
+                Arrays.fill(asideRound, 0);
+                round = 1;
+            }
+            asideCount = 0;
+        }
+
+        void close(int cell) {
+            closedRound[cell] = round;
+        }
+
+        boolean isClosed(int cell) {
+            return closedRound[cell] == round;
+        }
+
+        void setAside(int cell) {
+            if (asideRound[cell] != round) {
+                asideRound[cell] = round;
+                aside[asideCount++] = cell;
+            }
+        }
+
+        long footprintBytes() {
+            return 12L * closedRound.length;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.mazesolver.algorithm;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of a {@link BatchSolver} run: one {@link SearchResult} per query, in query order,
+ * plus aggregate throughput.
+ */
+public final class BatchResult {
+
+    private final List<SearchResult> results;
+    private final long wallTimeNanos;
+    private final int threads;
+
+    BatchResult(List<SearchResult> results, long wallTimeNanos, int threads) {
+        this.results = Collections.unmodifiableList(results);
+        this.wallTimeNanos = wallTimeNanos;
+        this.threads = threads;
+    }
+
+    /**
+     * Gets the per-query results; entry {@code i} answers query {@code i}.
+     */
+    public List<SearchResult> getResults() { return results; }
+
+    public int getQueryCount() { return results.size(); }
+
+    /**
+     * Gets the elapsed time of the whole batch, from submission to the last answer.
+     */
+    public long getWallTimeNanos() { return wallTimeNanos; }
+
+    public int getThreads() { return threads; }
+
+    /**
+     * Gets the aggregate throughput in queries per second of wall time.
+     */
+    public double getQueriesPerSecond() {
+        return wallTimeNanos == 0 ? 0 : results.size() * 1e9 / wallTimeNanos;
+    }
+
+    public int getFoundCount() {
+        int found = 0;
+        for (SearchResult result : results) {
+            if (result.isFound()) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    public long getTotalVisitedCells() {
+        long visited = 0;
+        for (SearchResult result : results) {
+            visited += result.getVisitedCells();
+        }
+        return visited;
+    }
+}
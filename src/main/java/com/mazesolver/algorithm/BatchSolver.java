@@ -0,0 +1,151 @@
+package com.mazesolver.algorithm;
+
+import com.mazesolver.model.Cell;
+import com.mazesolver.model.Maze;
+import com.mazesolver.model.MovementModel;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Solves many start/end queries against one maze in parallel.
+ * Queries are handed out to the workers in small chunks from a shared cursor and answered with
+ * {@link PathfindingAlgorithm#search}, which only reads the maze, so the grid is never mutated.
+ * Each query carries its own movement model, so one batch may mix them.
+ * The maze must not be edited while a batch runs.
+ */
+public class BatchSolver implements AutoCloseable {
+
+    // Queries claimed per cursor step; small enough to balance uneven query costs
+    private static final int CHUNK_SIZE = 16;
+
+    private final PathfindingAlgorithm algorithm;
+    private final ExecutorService pool;
+    private final int threads;
+    private final boolean ownsPool;
+
+    /**
+     * Creates a solver with its own pool of one worker per available processor.
+     */
+    public BatchSolver(PathfindingAlgorithm algorithm) {
+        this(algorithm, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a solver with its own fixed pool of {@code threads} workers.
+     */
+    public BatchSolver(PathfindingAlgorithm algorithm, int threads) {
+        this(algorithm, Executors.newFixedThreadPool(Math.max(1, threads), daemonThreads()), Math.max(1, threads), true);
+    }
+
+    /**
+     * Creates a solver that runs {@code threads} workers on an existing pool, which it does not shut down.
+     */
+    public BatchSolver(PathfindingAlgorithm algorithm, ExecutorService pool, int threads) {
+        this(algorithm, pool, Math.max(1, threads), false);
+    }
+
+    private BatchSolver(PathfindingAlgorithm algorithm, ExecutorService pool, int threads, boolean ownsPool) {
+        this.algorithm = algorithm;
+        this.pool = pool;
+        this.threads = threads;
+        this.ownsPool = ownsPool;
+    }
+
+    public PathfindingAlgorithm getAlgorithm() { return algorithm; }
+    public int getThreads() { return threads; }
+
+    /**
+     * Answers every query and returns the results in query order.
+     * @throws IllegalArgumentException if a query lies outside the maze or uses a movement model the
+     *         algorithm does not support
+     * @throws IllegalStateException if the maze is edited while the batch runs
+     */
+    public BatchResult solve(Maze maze, List<PathQuery> queries) {
+        // Resolve cells up front so workers only read
+        Cell[] starts = new Cell[queries.size()];
+        Cell[] ends = new Cell[queries.size()];
+        MovementModel[] movements = new MovementModel[queries.size()];
+        for (int i = 0; i < queries.size(); i++) {
+            PathQuery query = queries.get(i);
+            starts[i] = maze.getCell(query.getStartRow(), query.getStartCol());
+            ends[i] = maze.getCell(query.getEndRow(), query.getEndCol());
+            movements[i] = query.getMovement();
+            if (starts[i] == null || ends[i] == null) {
+                throw new IllegalArgumentException("Query " + i + " is outside the maze: " + query);
+            }
+            if (!algorithm.supportsMovementModel(movements[i])) {
+                throw new IllegalArgumentException("Query " + i + " uses unsupported "
+                        + movements[i].getDisplayName() + " movement: " + query);
+            }
+        }
+
+        // Build the shared graph and component labels once, before the workers race to them;
+        // queries then read the published snapshots without taking the maze's lock
+        int version = maze.getModificationCount();
+        maze.getGraph();
+        maze.getComponentCount();
+
+        SearchResult[] results = new SearchResult[queries.size()];
+        AtomicInteger cursor = new AtomicInteger();
+        int workers = Math.min(threads, Math.max(1, (queries.size() + CHUNK_SIZE - 1) / CHUNK_SIZE));
+        long startTime = System.nanoTime();
+
+        List<Future<?>> futures = new ArrayList<>(workers);
+        for (int w = 0; w < workers; w++) {
+            futures.add(pool.submit(() -> {
+                int from;
+                while ((from = cursor.getAndAdd(CHUNK_SIZE)) < results.length) {
+                    int to = Math.min(from + CHUNK_SIZE, results.length);
+                    for (int i = from; i < to; i++) {
+                        results[i] = algorithm.search(maze, starts[i], ends[i], movements[i]);
+                    }
+                }
+            }));
+        }
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("Batch interrupted", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Batch query failed", e.getCause());
+        }
+        long wallTime = System.nanoTime() - startTime;
+
+        if (maze.getModificationCount() != version) {
+            throw new IllegalStateException("Maze was modified while the batch was running");
+        }
+        return new BatchResult(Arrays.asList(results), wallTime, workers);
+    }
+
+    /**
+     * Shuts down the pool if this solver created it.
+     */
+    @Override
+    public void close() {
+        if (ownsPool) {
+            pool.shutdown();
+        }
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "batch-solver-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,57 @@
+package com.mazesolver.algorithm;
+
+import com.mazesolver.model.Cell;
+import com.mazesolver.model.GridGraph;
+import com.mazesolver.model.Maze;
+import java.util.*;
+
+/**
+ * A* run from both the start and the end cell with symmetric Manhattan potentials,
+ * stopping once the frontiers provably meet on a shortest path.
+ * Optionally expands the two frontiers on separate threads.
+ */
+public class BidirectionalAStarAlgorithm extends AbstractPathfindingAlgorithm {
+    
+    private final boolean parallel;
+    
+    public BidirectionalAStarAlgorithm() {
+        this(false);
+    }
+    
+    /**
+     * @param parallel Whether to run the forward and backward frontiers on two threads
+     */
+    public BidirectionalAStarAlgorithm(boolean parallel) {
+        this.parallel = parallel;
+    }
+    
+    @Override
+    public String getName() {
+        return parallel ? "Bidirectional A* (2 Threads)" : "Bidirectional A*";
+    }
+    
+    @Override
+    public String getTimeComplexity() {
+        return "O((V + E) log V)";
+    }
+    
+    @Override
+    public String getSpaceComplexity() {
+        return "O(V)";
+    }
+    
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    @Override
+    protected List<Cell> findPathImplementation(SearchContext context, Maze maze, Cell start, Cell end) {
+        GridGraph graph = maze.getGraph();
+        // The engine holds both frontiers, so each context gets its own
+        BidirectionalSearch search = context.state(() -> new BidirectionalSearch(true));
+        int[] path = search.search(context, graph, graph.index(start), graph.index(end), parallel);
+        search.recordMetrics(context);
+        
+        return toCells(maze, graph, path);
+    }
+}
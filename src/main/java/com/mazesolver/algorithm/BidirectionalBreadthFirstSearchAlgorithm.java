@@ -0,0 +1,56 @@
+package com.mazesolver.algorithm;
+
+import com.mazesolver.model.Cell;
+import com.mazesolver.model.GridGraph;
+import com.mazesolver.model.Maze;
+import java.util.*;
+
+/**
+ * Breadth-first search run from both the start and the end cell until the frontiers meet.
+ * Optionally expands the two frontiers on separate threads.
+ */
+public class BidirectionalBreadthFirstSearchAlgorithm extends AbstractPathfindingAlgorithm {
+    
+    private final boolean parallel;
+    
+    public BidirectionalBreadthFirstSearchAlgorithm() {
+        this(false);
+    }
+    
+    /**
+     * @param parallel Whether to run the forward and backward frontiers on two threads
+     */
+    public BidirectionalBreadthFirstSearchAlgorithm(boolean parallel) {
+        this.parallel = parallel;
+    }
+    
+    @Override
+    public String getName() {
+        return parallel ? "Bidirectional BFS (2 Threads)" : "Bidirectional BFS";
+    }
+    
+    @Override
+    public String getTimeComplexity() {
+        return "O(V + E)";
+    }
+    
+    @Override
+    public String getSpaceComplexity() {
+        return "O(V)";
+    }
+    
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    @Override
+    protected List<Cell> findPathImplementation(SearchContext context, Maze maze, Cell start, Cell end) {
+        GridGraph graph = maze.getGraph();
+        // The engine holds both frontiers, so each context gets its own
+        BidirectionalSearch search = context.state(() -> new BidirectionalSearch(false));
+        int[] path = search.search(context, graph, graph.index(start), graph.index(end), parallel);
+        search.recordMetrics(context);
+        
+        return toCells(maze, graph, path);
+    }
+}
@@ -0,0 +1,307 @@
+package com.mazesolver.algorithm;
+
+import com.mazesolver.model.GridGraph;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Index-based bidirectional search engine shared by bidirectional BFS and bidirectional A*.
+ * <p>
+ * Both frontiers are ordered by a doubled key {@code 2g + p(v)}, where {@code p} is the
+ * symmetric potential {@code h_end(v) - h_start(v)} for A* and 0 for BFS. The search stops
+ * once {@code topForward + topBackward >= 2 * best}, which proves no shorter connection exists.
+ * In parallel mode the two frontiers run on separate threads and exchange g-values through
+ * volatile array accesses, so at least one side always observes a meeting edge.
+ */
+final class BidirectionalSearch {
+
+    private static final VarHandle INTS = MethodHandles.arrayElementVarHandle(int[].class);
+    private static final long NO_KEY = Long.MAX_VALUE / 4;
+
+    private final boolean useHeuristic;
+    private final Side forward = new Side();
+    private final Side backward = new Side();
+
+    private SearchContext context;
+    private GridGraph graph;
+    private int source;
+    private int target;
+    private boolean concurrent;
+
+    private volatile boolean stopped;
+    private volatile boolean cancelled;
+    private volatile int bestCost;
+    private int meetForward;
+    private int meetBackward;
+
+    BidirectionalSearch(boolean useHeuristic) {
+        this.useHeuristic = useHeuristic;
+    }
+
+    /**
+     * Runs a search and returns the path as cell indices, or an empty array if none exists or
+     * the context's search was cancelled. Both frontiers poll the context for cancellation.
+     */
+    int[] search(SearchContext context, GridGraph graph, int source, int target, boolean parallel) {
+        this.context = context;
+        this.graph = graph;
+        this.source = source;
+        this.target = target;
+        this.concurrent = parallel;
+        this.stopped = false;
+        this.cancelled = false;
+        this.bestCost = Integer.MAX_VALUE;
+        this.meetForward = -1;
+        this.meetBackward = -1;
+
+        if (source == target) {
+            forward.clearCounters();
+            backward.clearCounters();
+            return new int[]{source};
+        }
+
+        forward.init(graph.size(), source, true);
+        backward.init(graph.size(), target, false);
+        forward.other = backward;
+        backward.other = forward;
+
+        if (parallel) {
+            CompletableFuture<Void> backwardRun = CompletableFuture.runAsync(() -> runSide(backward));
+            runSide(forward);
+            backwardRun.join();
+        } else {
+            runAlternating();
+        }
+
+        if (meetForward < 0 || cancelled) {
+            return new int[0];
+        }
+        return joinPath();
+    }
+
+    int getExpandedCount() {
+        return forward.expanded + backward.expanded;
+    }
+
+    /**
+     * Adds the counters of both frontiers of the last search to {@code context}.
+     */
+    void recordMetrics(SearchContext context) {
+        context.visitedCells = getExpandedCount();
+        context.generatedNodes += forward.generated + backward.generated;
+        context.queuePushes += forward.pushes() + backward.pushes();
+        context.queuePops += forward.pops() + backward.pops();
+        // Both frontiers are live at once; the sum of their peaks bounds the combined peak
+        context.frontier(forward.peakSize() + backward.peakSize());
+    }
+
+    private void runAlternating() {
+        while (!stopped) {
+            // Expand the smaller frontier first
+            Side side = forward.size() <= backward.size() ? forward : backward;
+            step(side);
+        }
+    }
+
+    private void runSide(Side side) {
+        while (!stopped) {
+            step(side);
+        }
+    }
+
+    /**
+     * Checks the stopping rule, then settles and scans one node of {@code side}.
+     */
+    private void step(Side side) {
+        if (side.isEmpty()) {
+            // One side exhausted its component: every meeting edge has been seen
+            stopped = true;
+            return;
+        }
+        long best = bestCost;
+        if (best != Integer.MAX_VALUE && side.peekKey() + side.other.publishedKey >= 2 * best) {
+            stopped = true;
+            return;
+        }
+
+        if (context.shouldStop(side.expanded + 1)) {
+            cancelled = true;
+            stopped = true;
+            return;
+        }
+        int current = side.poll();
+        side.settled[current] = true;
+        side.expanded++;
+
+        int g = side.distance(current);
+        int mask = graph.neighborMask(current);
+        side.generated += Integer.bitCount(mask);
+        while (mask != 0) {
+            int direction = Integer.numberOfTrailingZeros(mask);
+            mask &= mask - 1;
+            int neighbor = current + graph.step(direction);
+
+            int otherDistance = side.other.distance(neighbor);
+            if (otherDistance >= 0) {
+                offerMeeting(side, current, neighbor, g + 1 + otherDistance);
+            }
+
+            if (side.settled[neighbor]) {
+                continue;
+            }
+            int known = side.distance(neighbor);
+            if (known < 0 || g + 1 < known) {
+                side.parent[neighbor] = current;
+                side.setDistance(neighbor, g + 1);
+                side.offer(neighbor, g + 1);
+            }
+        }
+        side.publishedKey = side.isEmpty() ? NO_KEY : side.peekKey();
+    }
+
+    private synchronized void offerMeeting(Side side, int from, int to, int cost) {
+        if (cost < bestCost) {
+            meetForward = side == forward ? from : to;
+            meetBackward = side == forward ? to : from;
+            bestCost = cost;
+        }
+    }
+
+    private int[] joinPath() {
+        int length = 0;
+        for (int index = meetForward; index != -1; index = forward.parent[index]) {
+            length++;
+        }
+        for (int index = meetBackward; index != -1; index = backward.parent[index]) {
+            length++;
+        }
+
+        int[] path = new int[length];
+        int position = 0;
+        for (int index = meetForward; index != -1; index = forward.parent[index]) {
+            path[position++] = index;
+        }
+        // Forward half was collected end-to-start; reverse it in place
+        for (int i = 0, j = position - 1; i < j; i++, j--) {
+            int tmp = path[i];
+            path[i] = path[j];
+            path[j] = tmp;
+        }
+        for (int index = meetBackward; index != -1; index = backward.parent[index]) {
+            path[position++] = index;
+        }
+        return path;
+    }
+
+    private long potential(int index, boolean isForward) {
+        if (!useHeuristic) {
+            return 0;
+        }
+        long p = graph.manhattan(index, target) - graph.manhattan(index, source);
+        return isForward ? p : -p;
+    }
+
+    /**
+     * One search direction: distances, parents and an ordered frontier.
+     */
+    private final class Side {
+        int[] parent = new int[0];
+        int[] distance = new int[0];
+        boolean[] settled = new boolean[0];
+        int[] fifo = new int[0];
+        int head;
+        int tail;
+        final IndexedMinHeap heap = new IndexedMinHeap();
+        boolean isForward;
+        int expanded;
+        long generated;
+        int fifoPeak;
+        Side other;
+        volatile long publishedKey;
+
+        void init(int size, int root, boolean isForward) {
+            if (distance.length < size) {
+                parent = new int[size];
+                distance = new int[size];
+                settled = new boolean[size];
+                fifo = new int[size];
+            }
+            Arrays.fill(distance, 0, size, -1);
+            Arrays.fill(settled, 0, size, false);
+            heap.reset(size);
+            head = 0;
+            tail = 0;
+            clearCounters();
+            this.isForward = isForward;
+
+            parent[root] = -1;
+            distance[root] = 0;
+            offer(root, 0);
+            publishedKey = peekKey();
+        }
+
+        int distance(int index) {
+            return concurrent ? (int) INTS.getVolatile(distance, index) : distance[index];
+        }
+
+        void setDistance(int index, int value) {
+            if (concurrent) {
+                INTS.setVolatile(distance, index, value);
+            } else {
+                distance[index] = value;
+            }
+        }
+
+        void offer(int index, int g) {
+            if (useHeuristic) {
+                heap.offer(index, 2L * g + potential(index, isForward));
+            } else {
+                // BFS reaches each cell once, already at its final distance
+                fifo[tail++] = index;
+                if (tail - head > fifoPeak) {
+                    fifoPeak = tail - head;
+                }
+            }
+        }
+
+        void clearCounters() {
+            expanded = 0;
+            generated = 0;
+            fifoPeak = 0;
+            heap.resetCounters();
+        }
+
+        long pushes() {
+            return useHeuristic ? heap.pushCount : tail;
+        }
+
+        long pops() {
+            return useHeuristic ? heap.popCount : head;
+        }
+
+        int peakSize() {
+            return useHeuristic ? heap.peakSize : fifoPeak;
+        }
+
+        boolean isEmpty() {
+            return useHeuristic ? heap.isEmpty() : head == tail;
+        }
+
+        int size() {
+            return useHeuristic ? heap.size() : tail - head;
+        }
+
+        long peekKey() {
+            if (useHeuristic) {
+                return heap.priorityOf(heap.peek());
+            }
+            return 2L * distance[fifo[head]];
+        }
+
+        int poll() {
+            return useHeuristic ? heap.poll() : fifo[head++];
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.mazesolver.algorithm;
+
+import com.mazesolver.model.Cell;
+import com.mazesolver.model.GridGraph;
+import com.mazesolver.model.Maze;
+import com.mazesolver.model.MovementModel;
+import java.util.*;
+
+/**
+ * Breadth-first search over 64-bit row bitboards.
+ * Walkable, visited and frontier sets are stored as {@code long} words per row; each wave
+ * computes the next frontier for 64 cells at a time with shifts and masks, touching only the
+ * words that hold frontier cells and their four neighboring words. Every level's
+ * non-zero frontier words are kept as a compact layer, and the path is recovered afterwards
+ * by stepping back from the end cell to any neighbor in the previous layer.
+ */
+public class BitParallelBreadthFirstSearchAlgorithm extends AbstractPathfindingAlgorithm {
+
+    @Override
+    public String getName() {
+        return "Bit-Parallel BFS";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(V + E)";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(V / 64 + V)";
+    }
+
+    @Override
+    protected List<Cell> findPathImplementation(SearchContext context, Maze maze, Cell start, Cell end) {
+        GridGraph graph = maze.getGraph();
+        Bitboards boards = context.state(Bitboards::new);
+        int distance = boards.search(context, graph, graph.index(start), graph.index(end), true);
+        context.visitedCells = boards.expanded;
+        context.generatedNodes += boards.generated;
+        context.queuePushes += boards.pushed;
+        context.queuePops += boards.expanded;
+        context.frontier(boards.peakLevel);
+        if (distance < 0) {
+            return List.of();
+        }
+        return boards.buildPathFromLayers(maze, graph, graph.index(end), distance);
+    }
+
+    /**
+     * Computes only the shortest-path distance between two cells, without recording layers.
+     * @return Number of steps, or -1 if the end cell is unreachable
+     */
+    public int shortestDistance(Maze maze, Cell start, Cell end) {
+        SearchContext context = acquireContext(MovementModel.FOUR_CONNECTED);
+        try {
+            GridGraph graph = maze.getGraph();
+            return context.state(Bitboards::new).search(context, graph, graph.index(start), graph.index(end), false);
+        } finally {
+            context.end();
+        }
+    }
+
+    /**
+     * Bitboards and recorded layers of one search; kept in the search context.
+     */
+    private static final class Bitboards {
+        private long[] visited = new long[0];
+        private long[] frontier = new long[0];
+        private long[] next = new long[0];
+
+        // Word indices of the non-zero words of the current and next frontier
+        private int[] active = new int[0];
+        private int[] nextActive = new int[0];
+
+        // Layers: for level l, entries [layerStart[l], layerStart[l + 1]) of layerWord/layerBits
+        private int[] layerStart = new int[16];
+        private int[] layerWord = new int[256];
+        private long[] layerBits = new long[256];
+        private int layerCount;
+        private int layerSize;
+        int expanded;
+        // Candidate cells of the spread words before filtering, cells kept, and the largest level
+        long generated;
+        long pushed;
+        int peakLevel;
+
+        /**
+         * Runs the wave expansion until the target is reached. Returns its level, or -1 if it
+         * is unreachable or the context's search is cancelled (checked once per level).
+         */
+        int search(SearchContext context, GridGraph graph, int source, int target, boolean recordLayers) {
+            expanded = 0;
+            generated = 0;
+            pushed = 1;
+            peakLevel = 1;
+            int rows = graph.getRows();
+            int words = graph.wordsPerRow();
+            int size = rows * words;
+            if (visited.length < size) {
+                visited = new long[size];
+                frontier = new long[size];
+                next = new long[size];
+                active = new int[size];
+                nextActive = new int[size];
+            } else {
+                Arrays.fill(visited, 0, size, 0L);
+            }
+            layerCount = 0;
+            layerSize = 0;
+            if (!graph.isWalkable(source)) {
+                return -1;
+            }
+
+            int targetWord = graph.rowOf(target) * words + (graph.colOf(target) >>> 6);
+            long targetBit = 1L << graph.colOf(target);
+            int sourceWord = graph.rowOf(source) * words + (graph.colOf(source) >>> 6);
+            frontier[sourceWord] = 1L << graph.colOf(source);
+            visited[sourceWord] = frontier[sourceWord];
+            active[0] = sourceWord;
+            int activeCount = 1;
+            int level = 0;
+
+            while (true) {
+                if (recordLayers) {
+                    recordLayer(activeCount);
+                }
+                if ((frontier[targetWord] & targetBit) != 0) {
+                    clearFrontier(activeCount);
+                    return level;
+                }
+                if (context.isCancelled()) {
+                    clearFrontier(activeCount);
+                    return -1;
+                }
+                // Push each frontier word's spread into its own and its four neighboring words
+                int nextCount = 0;
+                int levelSize = 0;
+                for (int i = 0; i < activeCount; i++) {
+                    int word = active[i];
+                    long f = frontier[word];
+                    levelSize += Long.bitCount(f);
+                    int row = word / words;
+                    int w = word - row * words;
+                    nextCount = push(word, (f << 1) | (f >>> 1), nextCount);
+                    if (w > 0 && (f & 1L) != 0) {
+                        nextCount = push(word - 1, Long.MIN_VALUE, nextCount);
+                    }
+                    if (w + 1 < words && f < 0) {
+                        nextCount = push(word + 1, 1L, nextCount);
+                    }
+                    if (row > 0) {
+                        nextCount = push(word - words, f, nextCount);
+                    }
+                    if (row + 1 < rows) {
+                        nextCount = push(word + words, f, nextCount);
+                    }
+                }
+                expanded += levelSize;
+                peakLevel = Math.max(peakLevel, levelSize);
+
+                // Keep only walkable, unvisited cells and drop words that became empty
+                int kept = 0;
+                for (int i = 0; i < nextCount; i++) {
+                    int word = nextActive[i];
+                    generated += Long.bitCount(next[word]);
+                    long bits = next[word] & graph.walkableWord(word) & ~visited[word];
+                    pushed += Long.bitCount(bits);
+                    next[word] = bits;
+                    if (bits != 0) {
+                        nextActive[kept++] = word;
+                    }
+                }
+                nextCount = kept;
+
+                clearFrontier(activeCount);
+                if (nextCount == 0) {
+                    return -1;
+                }
+                long[] swapBits = frontier;
+                frontier = next;
+                next = swapBits;
+                int[] swapWords = active;
+                active = nextActive;
+                nextActive = swapWords;
+                activeCount = nextCount;
+                for (int i = 0; i < activeCount; i++) {
+                    visited[active[i]] |= frontier[active[i]];
+                }
+                level++;
+            }
+        }
+
+        private int push(int word, long bits, int nextCount) {
+            if (next[word] == 0L) {
+                nextActive[nextCount++] = word;
+            }
+            next[word] |= bits;
+            return nextCount;
+        }
+
+        private void clearFrontier(int activeCount) {
+            for (int i = 0; i < activeCount; i++) {
+                frontier[active[i]] = 0L;
+            }
+        }
+
+        private void recordLayer(int activeCount) {
+            if (layerCount + 2 > layerStart.length) {
+                layerStart = Arrays.copyOf(layerStart, layerStart.length * 2);
+            }
+            if (layerSize + activeCount > layerWord.length) {
+                int capacity = Math.max(layerWord.length * 2, layerSize + activeCount);
+                layerWord = Arrays.copyOf(layerWord, capacity);
+                layerBits = Arrays.copyOf(layerBits, capacity);
+            }
+            // Sorted word indices let the path recovery binary-search each layer
+            Arrays.sort(active, 0, activeCount);
+            layerStart[layerCount] = layerSize;
+            for (int i = 0; i < activeCount; i++) {
+                layerWord[layerSize] = active[i];
+                layerBits[layerSize++] = frontier[active[i]];
+            }
+            layerCount++;
+            layerStart[layerCount] = layerSize;
+        }
+
+        private boolean inLayer(int level, int word, int col) {
+            int position = Arrays.binarySearch(layerWord, layerStart[level], layerStart[level + 1], word);
+            return position >= 0 && (layerBits[position] & (1L << col)) != 0;
+        }
+
+        List<Cell> buildPathFromLayers(Maze maze, GridGraph graph, int target, int distance) {
+            int words = graph.wordsPerRow();
+            Cell[] cells = new Cell[distance + 1];
+            int current = target;
+            cells[distance] = maze.getCell(graph.rowOf(current), graph.colOf(current));
+
+            for (int level = distance - 1; level >= 0; level--) {
+                int mask = graph.neighborMask(current);
+                while (mask != 0) {
+                    int direction = Integer.numberOfTrailingZeros(mask);
+                    mask &= mask - 1;
+                    int neighbor = current + graph.step(direction);
+                    int row = graph.rowOf(neighbor);
+                    int col = graph.colOf(neighbor);
+                    if (inLayer(level, row * words + (col >>> 6), col)) {
+                        current = neighbor;
+                        break;
+                    }
+                }
+                cells[level] = maze.getCell(graph.rowOf(current), graph.colOf(current));
+            }
+            return new ArrayList<>(Arrays.asList(cells));
+        }
+    }
+}
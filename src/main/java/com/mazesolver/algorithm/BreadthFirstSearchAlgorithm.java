@@ -1,7 +1,9 @@
 package com.mazesolver.algorithm;
 
 import com.mazesolver.model.Cell;
+import com.mazesolver.model.GridGraph;
 import com.mazesolver.model.Maze;
+import com.mazesolver.model.MovementModel;
 import java.util.*;
 
 public class BreadthFirstSearchAlgorithm extends AbstractPathfindingAlgorithm {
@@ -20,16 +22,120 @@ public class BreadthFirstSearchAlgorithm extends AbstractPathfindingAlgorithm {
     public String getSpaceComplexity() {
         return "O(V)";
     }
+    
+    @Override
+    public boolean supportsMovementModel(MovementModel movement) {
+        return true;
+    }
+
+    @Override
+    protected List<Cell> findPathImplementation(SearchContext context, Maze maze, Cell start, Cell end) {
+        // Index-based fast path: array queue, primitive parent/distance, no Cell mutation
+        GridGraph graph = maze.getGraph();
+        int source = graph.index(start);
+        int target = graph.index(end);
+        SearchBuffers buffers = context.buffers;
+        buffers.prepare(graph.size());
+        MovementModel movement = context.movement;
+        int[] queue = buffers.queue;
+        int head = 0;
+        int tail = 0;
+        
+        buffers.reach(source, -1, 0);
+        queue[tail++] = source;
+        
+        while (head < tail) {
+            int current = queue[head++];
+            
+            if (current == target) {
+                break;
+            }
+            
+            context.visitedCells++;
+            if (context.shouldStop(context.visitedCells)) {
+                break;
+            }
+            
+            int mask = graph.neighborMask(current, movement);
+            context.generatedNodes += Integer.bitCount(mask);
+            while (mask != 0) {
+                int direction = Integer.numberOfTrailingZeros(mask);
+                mask &= mask - 1;
+                int neighbor = current + graph.step(direction);
+                if (!buffers.isReached(neighbor)) {
+                    buffers.reach(neighbor, current, buffers.distance[current] + 1);
+                    queue[tail++] = neighbor;
+                }
+            }
+            context.frontier(tail - head);
+        }
+        context.queuePushes += tail;
+        context.queuePops += head;
+        
+        return buffers.isReached(target) ? buildPath(maze, graph, buffers.parent, target) : List.of();
+    }
 
     @Override
-    protected List<Cell> findPathImplementation(Maze maze, Cell start, Cell end) {
-        return findPathImplementationWithAnimation(maze, start, end, null);
+    public boolean supportsMultipleEndpoints() {
+        return true;
     }
 
     @Override
-    protected List<Cell> findPathImplementationWithAnimation(Maze maze, Cell start, Cell end, AnimationCallback callback) {
-        reset();
+    protected List<Cell> findPathImplementation(SearchContext context, Maze maze, int[] sources, int[] targets) {
+        // Every source starts the first level, so the first target dequeued is the nearest to any source
+        GridGraph graph = maze.getGraph();
+        SearchBuffers buffers = context.buffers;
+        buffers.prepare(graph.size());
+        buffers.markTargets(targets);
+        MovementModel movement = context.movement;
+        int[] queue = buffers.queue;
+        int head = 0;
+        int tail = 0;
+        
+        for (int source : sources) {
+            if (!buffers.isReached(source)) {
+                buffers.reach(source, -1, 0);
+                queue[tail++] = source;
+            }
+        }
+        
+        int found = -1;
+        while (head < tail) {
+            int current = queue[head++];
+            
+            if (buffers.isTarget(current)) {
+                found = current;
+                break;
+            }
+            
+            context.visitedCells++;
+            if (context.shouldStop(context.visitedCells)) {
+                break;
+            }
+            
+            int mask = graph.neighborMask(current, movement);
+            context.generatedNodes += Integer.bitCount(mask);
+            while (mask != 0) {
+                int direction = Integer.numberOfTrailingZeros(mask);
+                mask &= mask - 1;
+                int neighbor = current + graph.step(direction);
+                if (!buffers.isReached(neighbor)) {
+                    buffers.reach(neighbor, current, buffers.distance[current] + 1);
+                    queue[tail++] = neighbor;
+                }
+            }
+            context.frontier(tail - head);
+        }
+        context.queuePushes += tail;
+        context.queuePops += head;
         
+        return found >= 0 ? buildPath(maze, graph, buffers.parent, found) : List.of();
+    }
+
+    @Override
+    protected List<Cell> findPathImplementationWithAnimation(SearchContext context, Maze maze, Cell start, Cell end,
+                                                             AnimationCallback callback) {
+        GridGraph graph = maze.getGraph();
         // Queue for BFS traversal
         Queue<Cell> queue = new LinkedList<>();
         Set<Cell> visited = new HashSet<>();
@@ -38,40 +144,43 @@ public class BreadthFirstSearchAlgorithm extends AbstractPathfindingAlgorithm {
         start.setDistance(0);
         queue.offer(start);
         visited.add(start);
+        context.queuePushes++;
         
         while (!queue.isEmpty()) {
             Cell current = queue.poll();
+            context.queuePops++;
             
             if (current == end) {
                 break;
             }
             
-            markVisited(current);
+            markVisited(context, current);
             
             // Animation callback for visited cell
             if (callback != null) {
                 callback.onCellVisited(current);
-                try {
-                    Thread.sleep(callback.onStepDelay(50));
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
+                if (!pause(context, callback)) {
                     break;
                 }
             }
             
             // Explore all neighbors
-            for (Cell neighbor : getNeighbors(maze, current)) {
+            List<Cell> neighbors = getNeighbors(maze, graph, current, context.movement);
+            context.generatedNodes += neighbors.size();
+            for (Cell neighbor : neighbors) {
                 if (!visited.contains(neighbor)) {
                     visited.add(neighbor);
                     neighbor.setDistance(current.getDistance() + 1);
                     neighbor.setParent(current);
                     queue.offer(neighbor);
+                    context.queuePushes++;
                 }
             }
+            context.frontier(queue.size());
         }
         
-        // Reconstruct path
-        List<Cell> path = reconstructPath(end);
+        // Reconstruct path if the end cell was reached
+        List<Cell> path = visited.contains(end) ? reconstructPath(end) : List.of();
         
         // Animation callback for final path
         if (callback != null) {
@@ -0,0 +1,93 @@
+package com.mazesolver.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * Monotone bucket queue (Dial's algorithm) for small non-negative integer keys.
+ * Keeps {@code maxStepCost + 1} circular buckets of cell indices, so push and pop
+ * are O(1) as long as every pushed key lies within {@code maxStepCost} of the
+ * last popped key, which holds for Dijkstra with step costs up to that bound.
+ */
+final class BucketQueue {
+
+    private int[][] buckets = new int[0][];
+    private int[] sizes = new int[0];
+    private int bucketCount;
+    private int currentKey;
+    private int count;
+
+    // Operation counters for search metrics; cleared by resetCounters()
+    long pushCount;
+    long popCount;
+    int peakSize;
+
+    /**
+     * Empties the queue and sizes it for step costs up to {@code maxStepCost}.
+     */
+    void reset(int maxStepCost) {
+        bucketCount = maxStepCost + 1;
+        if (buckets.length < bucketCount) {
+            buckets = Arrays.copyOf(buckets, bucketCount);
+            sizes = new int[bucketCount];
+            for (int i = 0; i < bucketCount; i++) {
+                if (buckets[i] == null) {
+                    buckets[i] = new int[64];
+                }
+            }
+        }
+        Arrays.fill(sizes, 0);
+        currentKey = 0;
+        count = 0;
+    }
+
+    void resetCounters() {
+        pushCount = 0;
+        popCount = 0;
+        peakSize = 0;
+    }
+
+    long footprintBytes() {
+        long bytes = 4L * sizes.length;
+        for (int[] bucket : buckets) {
+            bytes += 4L * bucket.length;
+        }
+        return bytes;
+    }
+
+    boolean isEmpty() {
+        return count == 0;
+    }
+
+    void push(int key, int index) {
+        int bucket = key % bucketCount;
+        int[] entries = buckets[bucket];
+        if (sizes[bucket] == entries.length) {
+            entries = Arrays.copyOf(entries, entries.length * 2);
+            buckets[bucket] = entries;
+        }
+        entries[sizes[bucket]++] = index;
+        count++;
+        pushCount++;
+        if (count > peakSize) {
+            peakSize = count;
+        }
+    }
+
+    /**
+     * Removes an index with the smallest key; {@link #currentKey()} then returns that key.
+     */
+    int poll() {
+        int bucket = currentKey % bucketCount;
+        while (sizes[bucket] == 0) {
+            currentKey++;
+            bucket = currentKey % bucketCount;
+        }
+        count--;
+        popCount++;
+        return buckets[bucket][--sizes[bucket]];
+    }
+
+    int currentKey() {
+        return currentKey;
+    }
+}
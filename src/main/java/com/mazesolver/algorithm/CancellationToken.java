@@ -0,0 +1,38 @@
+package com.mazesolver.algorithm;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cooperative cancellation for one or more searches. Searches poll the token every few
+ * thousand expansions and stop with the best result they have; animated searches also wake
+ * from their step delay as soon as the token is cancelled, so no thread has to be interrupted.
+ */
+public final class CancellationToken {
+
+    private final CountDownLatch cancelled = new CountDownLatch(1);
+
+    /**
+     * Asks every search using this token to stop. Safe to call from any thread, more than once.
+     */
+    public void cancel() {
+        cancelled.countDown();
+    }
+
+    public boolean isCancelled() {
+        return cancelled.getCount() == 0;
+    }
+
+    /**
+     * Waits for the given time unless the token is cancelled first.
+     * @return true if the token was cancelled or the thread interrupted while waiting
+     */
+    boolean await(long milliseconds) {
+        try {
+            return cancelled.await(milliseconds, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return true;
+        }
+    }
+}
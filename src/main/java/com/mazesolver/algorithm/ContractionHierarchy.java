@@ -0,0 +1,880 @@
+package com.mazesolver.algorithm;
+
+import com.mazesolver.model.GridGraph;
+import com.mazesolver.model.Maze;
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Contraction hierarchy over a maze's 4-connected walkable cells, for mazes that are built once
+ * and queried many times. Cells are contracted one by one in order of importance; whenever
+ * removing a cell would lengthen a shortest path between two of its neighbors, a shortcut edge
+ * replaces it. A query then runs Dijkstra from both ends over upward edges only (towards
+ * later-contracted cells) and settles a tiny fraction of the maze.
+ * <p>
+ * Moving onto a cell costs that cell's terrain cost, so the grid is directed. Weighting each
+ * edge with the sum of both cells' costs makes it undirected instead: a path's weight is then
+ * twice its cost plus the cost of its start minus the cost of its end, so both measures rank
+ * paths between two fixed cells alike. With undirected weights the downward graph of the
+ * backward search is the upward graph itself, and one upward CSR array serves both searches.
+ * <p>
+ * Contraction runs in rounds: every cell whose priority is lower than that of all its remaining
+ * neighbors is contracted in the same round, with priorities and shortcuts computed in parallel.
+ * Hierarchies are immutable; {@link #writeTo} and {@link #readFrom} store one in a plain binary
+ * format and load it again without rebuilding, and {@link #matches} tells whether a loaded
+ * hierarchy still describes a maze.
+ */
+public final class ContractionHierarchy {
+
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    // Witness searches give up after settling this many cells and add the shortcut anyway;
+    // searches that only estimate a cell's priority give up sooner
+    private static final int WITNESS_SETTLE_LIMIT = 256;
+    private static final int ESTIMATE_SETTLE_LIMIT = 16;
+
+    // Cells per task when a round is split across the pool
+    private static final int LEAF_SIZE = 512;
+
+    // "CHIX" and the layout version of the stream written by writeTo
+    private static final int MAGIC = 0x43484958;
+    private static final int FORMAT_VERSION = 1;
+
+    private final int rows;
+    private final int cols;
+    // Layout fingerprint of the maze it was built from, see Maze#getLayoutFingerprint
+    private final long fingerprint;
+    // Maze version it was built from, or -1 for a hierarchy read from a stream
+    private final int version;
+    private final byte[] cost;
+    // Contraction order of each cell, -1 for walls
+    private final int[] rank;
+    // Upward edges of cell c are positions upFirst[c] .. upFirst[c + 1] - 1
+    private final int[] upFirst;
+    private final int[] upTarget;
+    private final int[] upWeight;
+    // Cell a shortcut bypasses, -1 for an edge of the grid itself
+    private final int[] upMiddle;
+    private final int shortcutCount;
+    private final long preprocessingNanos;
+    private final int threads;
+
+    private ContractionHierarchy(Builder builder, long fingerprint, long preprocessingNanos) {
+        GridGraph graph = builder.graph;
+        int size = graph.size();
+        this.rows = graph.getRows();
+        this.cols = graph.getCols();
+        this.fingerprint = fingerprint;
+        this.version = graph.getVersion();
+        this.cost = new byte[size];
+        for (int cell = 0; cell < size; cell++) {
+            cost[cell] = (byte) graph.cost(cell);
+        }
+        this.rank = builder.rank;
+        this.upFirst = new int[size + 1];
+        for (int cell = 0; cell < size; cell++) {
+            int[] targets = builder.upTarget[cell];
+            upFirst[cell + 1] = upFirst[cell] + (targets == null ? 0 : targets.length);
+        }
+        this.upTarget = new int[upFirst[size]];
+        this.upWeight = new int[upFirst[size]];
+        this.upMiddle = new int[upFirst[size]];
+        int shortcuts = 0;
+        for (int cell = 0; cell < size; cell++) {
+            int[] targets = builder.upTarget[cell];
+            if (targets == null) {
+                continue;
+            }
+            System.arraycopy(targets, 0, upTarget, upFirst[cell], targets.length);
+            System.arraycopy(builder.upWeight[cell], 0, upWeight, upFirst[cell], targets.length);
+            System.arraycopy(builder.upMiddle[cell], 0, upMiddle, upFirst[cell], targets.length);
+            for (int middle : builder.upMiddle[cell]) {
+                if (middle >= 0) {
+                    shortcuts++;
+                }
+            }
+        }
+        this.shortcutCount = shortcuts;
+        this.preprocessingNanos = preprocessingNanos;
+        this.threads = builder.pool.getParallelism();
+    }
+
+    /**
+     * Reads the fields written by {@link #writeTo}, checking every index before any query can use it.
+     */
+    private ContractionHierarchy(DataInputStream in) throws IOException {
+        check(in.readInt() == MAGIC, "not a contraction hierarchy");
+        int format = in.readInt();
+        check(format == FORMAT_VERSION, "unsupported format " + format);
+        this.rows = in.readInt();
+        this.cols = in.readInt();
+        check(rows > 0 && cols > 0 && (long) rows * cols < Integer.MAX_VALUE, "bad size " + rows + "x" + cols);
+        int size = rows * cols;
+        this.fingerprint = in.readLong();
+        this.version = -1;
+        this.preprocessingNanos = in.readLong();
+        this.threads = in.readInt();
+        this.cost = new byte[size];
+        in.readFully(cost);
+
+        this.rank = readInts(in, size);
+        boolean[] ranked = new boolean[size];
+        for (int cell = 0; cell < size; cell++) {
+            int r = rank[cell];
+            check(r >= -1 && r < size && (r < 0 || !ranked[r]), "bad rank of cell " + cell);
+            if (r >= 0) {
+                ranked[r] = true;
+            }
+        }
+
+        int edges = in.readInt();
+        check(edges >= 0, "bad edge count " + edges);
+        this.upFirst = readInts(in, size + 1);
+        check(upFirst[0] == 0 && upFirst[size] == edges, "edge offsets do not span the edges");
+        this.upTarget = readInts(in, edges);
+        this.upWeight = readInts(in, edges);
+        this.upMiddle = readInts(in, edges);
+        // Path costs must stay within an int: no edge may outweigh a path through every cell
+        long maxWeight = Math.min(Integer.MAX_VALUE / 2, 2L * Maze.MAX_TERRAIN_COST * size);
+        int shortcuts = 0;
+        for (int cell = 0; cell < size; cell++) {
+            check(upFirst[cell] <= upFirst[cell + 1], "edge offsets decrease at cell " + cell);
+            check(rank[cell] >= 0 || upFirst[cell] == upFirst[cell + 1], "wall " + cell + " has edges");
+            for (int e = upFirst[cell]; e < upFirst[cell + 1]; e++) {
+                int target = upTarget[e];
+                int middle = upMiddle[e];
+                // Edges lead upward and shortcuts bypass a lower cell, so unpacking always ends
+                check(target >= 0 && target < size && rank[target] > rank[cell], "bad target of edge " + e);
+                check(upWeight[e] > 0 && upWeight[e] <= maxWeight, "bad weight of edge " + e);
+                check(middle >= -1 && middle < size && (middle < 0 || (rank[middle] >= 0 && rank[middle] < rank[cell])),
+                        "bad middle cell of edge " + e);
+                if (middle >= 0) {
+                    shortcuts++;
+                }
+            }
+        }
+        this.shortcutCount = shortcuts;
+    }
+
+    private static int[] readInts(DataInputStream in, int length) throws IOException {
+        int[] values = new int[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = in.readInt();
+        }
+        return values;
+    }
+
+    private static void check(boolean condition, String message) throws IOException {
+        if (!condition) {
+            throw new StreamCorruptedException("Corrupt contraction hierarchy: " + message);
+        }
+    }
+
+    /**
+     * Builds the hierarchy of the maze as it is now on the common fork/join pool.
+     */
+    public static ContractionHierarchy build(Maze maze) {
+        return build(maze, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Builds the hierarchy of the maze as it is now, contracting each round on the given pool.
+     */
+    public static ContractionHierarchy build(Maze maze, ForkJoinPool pool) {
+        return build(maze, pool, null);
+    }
+
+    /**
+     * Builds the hierarchy, checking the search context for cancellation before each round.
+     * @return The hierarchy, or null if the search was cancelled first
+     */
+    static ContractionHierarchy build(Maze maze, ForkJoinPool pool, SearchContext context) {
+        long startTime = System.nanoTime();
+        // Read the fingerprint first: an edit racing the build can only make the hierarchy look stale
+        long fingerprint = maze.getLayoutFingerprint();
+        Builder builder = new Builder(maze.getGraph(), pool);
+        if (!builder.contract(context)) {
+            return null;
+        }
+        return new ContractionHierarchy(builder, fingerprint, System.nanoTime() - startTime);
+    }
+
+    /**
+     * Checks whether the hierarchy describes the maze's current layout and terrain. The start
+     * and end cells play no part, so moving them keeps the hierarchy.
+     */
+    public boolean matches(Maze maze) {
+        return maze.getRows() == rows && maze.getCols() == cols && maze.getLayoutFingerprint() == fingerprint;
+    }
+
+    /**
+     * Checks whether the hierarchy still describes the maze, trusting the maze's version over
+     * the fingerprint for a hierarchy built in this process; one read from a stream only has
+     * the fingerprint to go by.
+     */
+    boolean isCurrent(Maze maze) {
+        return matches(maze) && (version < 0 || version == maze.getModificationCount());
+    }
+
+    public int getRows() { return rows; }
+
+    public int getCols() { return cols; }
+
+    /**
+     * Gets the number of shortcut edges added during contraction.
+     */
+    public int getShortcutCount() { return shortcutCount; }
+
+    /**
+     * Gets the number of upward edges, original and shortcut.
+     */
+    public int getEdgeCount() { return upTarget.length; }
+
+    public long getPreprocessingNanos() { return preprocessingNanos; }
+
+    /**
+     * Gets the parallelism of the pool the hierarchy was built on.
+     */
+    public int getPreprocessingThreads() { return threads; }
+
+    /**
+     * Gets the size of the hierarchy's arrays in bytes.
+     */
+    public long footprintBytes() {
+        return cost.length + 4L * rank.length + 4L * upFirst.length + 12L * upTarget.length;
+    }
+
+    /**
+     * Creates the scratch state for queries. A query object is not thread-safe; use one per thread.
+     */
+    public Query newQuery() {
+        return new Query();
+    }
+
+    /**
+     * Writes the hierarchy to a stream: a header with the size and fingerprint, then the arrays
+     * as big-endian values.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(MAGIC);
+        data.writeInt(FORMAT_VERSION);
+        data.writeInt(rows);
+        data.writeInt(cols);
+        data.writeLong(fingerprint);
+        data.writeLong(preprocessingNanos);
+        data.writeInt(threads);
+        data.write(cost);
+        writeInts(data, rank);
+        data.writeInt(upTarget.length);
+        writeInts(data, upFirst);
+        writeInts(data, upTarget);
+        writeInts(data, upWeight);
+        writeInts(data, upMiddle);
+        data.flush();
+    }
+
+    private static void writeInts(DataOutputStream out, int[] values) throws IOException {
+        for (int value : values) {
+            out.writeInt(value);
+        }
+    }
+
+    /**
+     * Reads a hierarchy written by {@link #writeTo}.
+     * @throws StreamCorruptedException if the stream is not a hierarchy or any of its indices is out of range
+     * @throws EOFException if the stream ends early
+     */
+    public static ContractionHierarchy readFrom(InputStream in) throws IOException {
+        return new ContractionHierarchy(new DataInputStream(new BufferedInputStream(in)));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%dx%d, %d edges (%d shortcuts), %d B, built in %d ms on %d threads",
+                rows, cols, upTarget.length, shortcutCount, footprintBytes(), preprocessingNanos / 1_000_000, threads);
+    }
+
+    /**
+     * Bidirectional upward search with stall-on-demand: a cell reached more cheaply from a
+     * higher cell is not expanded, because no shortest path continues upward through it.
+     */
+    public final class Query {
+
+        private final int[] forward = new int[rank.length];
+        private final int[] backward = new int[rank.length];
+        private final int[] forwardParent = new int[rank.length];
+        private final int[] backwardParent = new int[rank.length];
+        private final LongMinHeap forwardQueue = new LongMinHeap();
+        private final LongMinHeap backwardQueue = new LongMinHeap();
+        private int[] touched = new int[64];
+        private int touchedCount;
+        private int[] stack = new int[64];
+        private int settled;
+        private int relaxed;
+        private int best;
+
+        private Query() {
+            Arrays.fill(forward, UNREACHABLE);
+            Arrays.fill(backward, UNREACHABLE);
+        }
+
+        /**
+         * Gets the cost of a shortest path between two cells, or {@link #UNREACHABLE}.
+         */
+        public int distance(int from, int to) {
+            if (meet(from, to, null) < 0) {
+                return UNREACHABLE;
+            }
+            return (best + (cost[to] & 0xFF) - (cost[from] & 0xFF)) / 2;
+        }
+
+        /**
+         * Gets the cells of a shortest path between two cells, or an empty array if there is none.
+         */
+        public int[] path(int from, int to) {
+            return path(from, to, null);
+        }
+
+        /**
+         * Gets the cells of a shortest path, or an empty array if there is none or the search
+         * context was cancelled first.
+         */
+        int[] path(int from, int to, SearchContext context) {
+            int meeting = meet(from, to, context);
+            if (meeting < 0) {
+                return new int[0];
+            }
+            // Hierarchy nodes from the start up to the meeting cell and down to the end
+            int count = 0;
+            for (int cell = meeting; cell != -1; cell = forwardParent[cell]) {
+                count++;
+            }
+            int[] nodes = new int[count];
+            int position = count;
+            for (int cell = meeting; cell != -1; cell = forwardParent[cell]) {
+                nodes[--position] = cell;
+            }
+            for (int cell = backwardParent[meeting]; cell != -1; cell = backwardParent[cell]) {
+                nodes = append(nodes, count++, cell);
+            }
+            nodes = Arrays.copyOf(nodes, count);
+
+            int[] path = new int[Math.max(16, count)];
+            int length = 0;
+            path[length++] = from;
+            for (int i = 1; i < count; i++) {
+                // Unpack shortcuts depth-first with an explicit stack of cell pairs
+                int top = 0;
+                stack = append(stack, top++, nodes[i - 1]);
+                stack = append(stack, top++, nodes[i]);
+                while (top > 0) {
+                    int b = stack[--top];
+                    int a = stack[--top];
+                    int middle = middleOf(a, b);
+                    if (middle < 0) {
+                        path = append(path, length++, b);
+                    } else {
+                        stack = append(stack, top++, middle);
+                        stack = append(stack, top++, b);
+                        stack = append(stack, top++, a);
+                        stack = append(stack, top++, middle);
+                    }
+                }
+            }
+            return Arrays.copyOf(path, length);
+        }
+
+        /**
+         * Gets the number of cells settled by the last query, in both directions.
+         */
+        public int getSettledCount() { return settled; }
+
+        /**
+         * Gets the number of edges relaxed by the last query.
+         */
+        public int getRelaxedCount() { return relaxed; }
+
+        long footprintBytes() {
+            return 16L * forward.length + forwardQueue.footprintBytes() + backwardQueue.footprintBytes()
+                    + 4L * touched.length + 4L * stack.length;
+        }
+
+        /**
+         * Runs both searches and returns the cell where the shortest path peaks, or -1 if there
+         * is none or the search context was cancelled.
+         */
+        private int meet(int from, int to, SearchContext context) {
+            for (int i = 0; i < touchedCount; i++) {
+                forward[touched[i]] = UNREACHABLE;
+                backward[touched[i]] = UNREACHABLE;
+            }
+            touchedCount = 0;
+            forwardQueue.clear();
+            backwardQueue.clear();
+            settled = 0;
+            relaxed = 0;
+            best = UNREACHABLE;
+            if (rank[from] < 0 || rank[to] < 0) {
+                return -1;
+            }
+            reach(forward, forwardParent, forwardQueue, from, -1, 0);
+            reach(backward, backwardParent, backwardQueue, to, -1, 0);
+            int meeting = -1;
+            while (true) {
+                int forwardKey = forwardQueue.isEmpty() ? UNREACHABLE : LongMinHeap.priorityOf(forwardQueue.peek());
+                int backwardKey = backwardQueue.isEmpty() ? UNREACHABLE : LongMinHeap.priorityOf(backwardQueue.peek());
+                // Neither search can improve on a path once both queues are past its cost
+                if (Math.min(forwardKey, backwardKey) >= best) {
+                    return meeting;
+                }
+                if (context != null && context.shouldStop(settled + 1)) {
+                    return -1;
+                }
+                int cell = forwardKey <= backwardKey
+                        ? settle(forward, backward, forwardParent, forwardQueue)
+                        : settle(backward, forward, backwardParent, backwardQueue);
+                if (cell >= 0) {
+                    meeting = cell;
+                }
+            }
+        }
+
+        /**
+         * Settles the next cell of one search.
+         * @return The cell if it improved the best meeting point, otherwise -1
+         */
+        private int settle(int[] distance, int[] other, int[] parent, LongMinHeap queue) {
+            long entry = queue.pop();
+            int cell = LongMinHeap.indexOf(entry);
+            int d = LongMinHeap.priorityOf(entry);
+            if (d != distance[cell]) {
+                return -1; // stale entry left by a later improvement
+            }
+            settled++;
+            int improved = -1;
+            if (other[cell] != UNREACHABLE && d + other[cell] < best) {
+                best = d + other[cell];
+                improved = cell;
+            }
+            int end = upFirst[cell + 1];
+            for (int e = upFirst[cell]; e < end; e++) {
+                int next = upTarget[e];
+                if (distance[next] != UNREACHABLE && distance[next] + upWeight[e] < d) {
+                    return improved; // stalled
+                }
+            }
+            for (int e = upFirst[cell]; e < end; e++) {
+                relaxed++;
+                int next = upTarget[e];
+                int candidate = d + upWeight[e];
+                if (candidate < distance[next]) {
+                    reach(distance, parent, queue, next, cell, candidate);
+                }
+            }
+            return improved;
+        }
+
+        private void reach(int[] distance, int[] parent, LongMinHeap queue, int cell, int from, int d) {
+            if (forward[cell] == UNREACHABLE && backward[cell] == UNREACHABLE) {
+                touched = append(touched, touchedCount++, cell);
+            }
+            distance[cell] = d;
+            parent[cell] = from;
+            queue.push(LongMinHeap.pack(d, cell));
+        }
+    }
+
+    /**
+     * Finds the cell an edge between two cells bypasses, looking it up among the upward edges
+     * of the lower-ranked one; -1 for an edge of the grid.
+     */
+    private int middleOf(int a, int b) {
+        int low = rank[a] < rank[b] ? a : b;
+        int high = low == a ? b : a;
+        for (int e = upFirst[low]; e < upFirst[low + 1]; e++) {
+            if (upTarget[e] == high) {
+                return upMiddle[e];
+            }
+        }
+        throw new IllegalStateException("No edge between cells " + a + " and " + b);
+    }
+
+    private static int[] append(int[] array, int position, int value) {
+        if (position == array.length) {
+            array = Arrays.copyOf(array, Math.max(16, array.length * 2));
+        }
+        array[position] = value;
+        return array;
+    }
+
+    /**
+     * Mutable graph and bookkeeping used only while contracting.
+     */
+    private static final class Builder {
+
+        final GridGraph graph;
+        final ForkJoinPool pool;
+        // Remaining edges of each uncontracted cell
+        final int[][] neighbor;
+        final int[][] weight;
+        final int[][] middle;
+        final int[] degree;
+        final boolean[] contracted;
+        // Cells contracted in the current round; witness searches avoid them too
+        final boolean[] selected;
+        final int[] priority;
+        final int[] level;
+        final int[] rank;
+        final int[][] upTarget;
+        final int[][] upWeight;
+        final int[][] upMiddle;
+        // Shortcuts found for the cells of the current round, in parallel, before any is contracted
+        final int[][] pending;
+        final ThreadLocal<Witness> witnesses = ThreadLocal.withInitial(Witness::new);
+
+        Builder(GridGraph graph, ForkJoinPool pool) {
+            this.graph = graph;
+            this.pool = pool;
+            int size = graph.size();
+            neighbor = new int[size][];
+            weight = new int[size][];
+            middle = new int[size][];
+            degree = new int[size];
+            contracted = new boolean[size];
+            selected = new boolean[size];
+            priority = new int[size];
+            level = new int[size];
+            rank = new int[size];
+            upTarget = new int[size][];
+            upWeight = new int[size][];
+            upMiddle = new int[size][];
+            pending = new int[size][];
+            Arrays.fill(rank, -1);
+            for (int cell = 0; cell < size; cell++) {
+                if (!graph.isWalkable(cell)) {
+                    continue;
+                }
+                neighbor[cell] = new int[GridGraph.DIRECTIONS];
+                weight[cell] = new int[GridGraph.DIRECTIONS];
+                middle[cell] = new int[GridGraph.DIRECTIONS];
+                int mask = graph.neighborMask(cell);
+                while (mask != 0) {
+                    int d = Integer.numberOfTrailingZeros(mask);
+                    mask &= mask - 1;
+                    int next = cell + graph.step(d);
+                    int i = degree[cell]++;
+                    neighbor[cell][i] = next;
+                    weight[cell][i] = graph.cost(cell) + graph.cost(next);
+                    middle[cell][i] = -1;
+                }
+            }
+        }
+
+        /**
+         * Contracts every cell, round by round.
+         * @return False if the search context was cancelled between two rounds
+         */
+        boolean contract(SearchContext context) {
+            int size = graph.size();
+            int[] active = new int[size];
+            int activeCount = 0;
+            for (int cell = 0; cell < size; cell++) {
+                if (graph.isWalkable(cell)) {
+                    active[activeCount++] = cell;
+                }
+            }
+            forEach(active, activeCount, cell -> priority[cell] = priorityOf(cell));
+
+            int[] chosen = new int[activeCount];
+            int[] neighbors = new int[activeCount];
+            int[] seen = new int[size];
+            int nextRank = 0;
+            int round = 0;
+            while (activeCount > 0) {
+                // Rounds run on the pool, so cancellation is checked on the calling thread between them
+                if (context != null && context.isCancelled()) {
+                    return false;
+                }
+                round++;
+                forEach(active, activeCount, cell -> selected[cell] = isLocalMinimum(cell));
+                int chosenCount = 0;
+                for (int i = 0; i < activeCount; i++) {
+                    if (selected[active[i]]) {
+                        chosen[chosenCount++] = active[i];
+                    }
+                }
+
+                forEach(chosen, chosenCount, cell -> pending[cell] = shortcutsOf(cell, WITNESS_SETTLE_LIMIT));
+                int neighborCount = 0;
+                for (int i = 0; i < chosenCount; i++) {
+                    int cell = chosen[i];
+                    for (int k = 0; k < degree[cell]; k++) {
+                        int next = neighbor[cell][k];
+                        if (seen[next] != round) {
+                            seen[next] = round;
+                            neighbors[neighborCount++] = next;
+                        }
+                    }
+                    remove(cell, nextRank++, pending[cell]);
+                    pending[cell] = null;
+                }
+                forEach(neighbors, neighborCount, cell -> priority[cell] = priorityOf(cell));
+
+                int kept = 0;
+                for (int i = 0; i < activeCount; i++) {
+                    if (!contracted[active[i]]) {
+                        active[kept++] = active[i];
+                    }
+                }
+                activeCount = kept;
+            }
+            return true;
+        }
+
+        /**
+         * Importance of a cell: shortcuts its removal would add less the edges it would remove,
+         * plus its depth in the hierarchy so far, which spreads contraction evenly over the maze.
+         */
+        private int priorityOf(int cell) {
+            int added = shortcutsOf(cell, ESTIMATE_SETTLE_LIMIT).length / 3;
+            return 2 * (added - degree[cell]) + level[cell];
+        }
+
+        private boolean isLocalMinimum(int cell) {
+            for (int i = 0; i < degree[cell]; i++) {
+                if (before(neighbor[cell][i], cell)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Orders cells by priority, breaking ties by a hash so equal cells are not contracted in scan order.
+         */
+        private boolean before(int a, int b) {
+            if (priority[a] != priority[b]) {
+                return priority[a] < priority[b];
+            }
+            int hashA = mix(a);
+            int hashB = mix(b);
+            return hashA != hashB ? hashA < hashB : a < b;
+        }
+
+        private static int mix(int value) {
+            int h = value * 0x9E3779B1;
+            return h ^ (h >>> 16);
+        }
+
+        /**
+         * Finds the shortcuts needed to contract a cell, as (from, to, weight) triples: one for
+         * each pair of neighbors whose cheapest connection avoiding the cell is dearer than going through it.
+         */
+        private int[] shortcutsOf(int cell, int settleLimit) {
+            Witness witness = witnesses.get();
+            int[] found = new int[0];
+            int count = 0;
+            int edges = degree[cell];
+            for (int i = 0; i < edges - 1; i++) {
+                int limit = 0;
+                for (int j = i + 1; j < edges; j++) {
+                    limit = Math.max(limit, weight[cell][i] + weight[cell][j]);
+                }
+                witness.search(cell, i, limit, settleLimit);
+                for (int j = i + 1; j < edges; j++) {
+                    int through = weight[cell][i] + weight[cell][j];
+                    if (witness.distance(neighbor[cell][j]) > through) {
+                        found = append(found, count++, neighbor[cell][i]);
+                        found = append(found, count++, neighbor[cell][j]);
+                        found = append(found, count++, through);
+                    }
+                }
+            }
+            return Arrays.copyOf(found, count);
+        }
+
+        /**
+         * Contracts a cell: its remaining edges become its upward edges and the shortcuts take its place.
+         */
+        private void remove(int cell, int order, int[] shortcuts) {
+            int edges = degree[cell];
+            rank[cell] = order;
+            contracted[cell] = true;
+            upTarget[cell] = Arrays.copyOf(neighbor[cell], edges);
+            upWeight[cell] = Arrays.copyOf(weight[cell], edges);
+            upMiddle[cell] = Arrays.copyOf(middle[cell], edges);
+            for (int i = 0; i < edges; i++) {
+                int next = neighbor[cell][i];
+                removeEdge(next, cell);
+                level[next] = Math.max(level[next], level[cell] + 1);
+            }
+            for (int i = 0; i < shortcuts.length; i += 3) {
+                addEdge(shortcuts[i], shortcuts[i + 1], shortcuts[i + 2], cell);
+                addEdge(shortcuts[i + 1], shortcuts[i], shortcuts[i + 2], cell);
+            }
+            neighbor[cell] = null;
+            weight[cell] = null;
+            middle[cell] = null;
+        }
+
+        private void removeEdge(int cell, int target) {
+            int last = --degree[cell];
+            for (int i = 0; i <= last; i++) {
+                if (neighbor[cell][i] == target) {
+                    neighbor[cell][i] = neighbor[cell][last];
+                    weight[cell][i] = weight[cell][last];
+                    middle[cell][i] = middle[cell][last];
+                    return;
+                }
+            }
+        }
+
+        private void addEdge(int cell, int target, int w, int via) {
+            for (int i = 0; i < degree[cell]; i++) {
+                if (neighbor[cell][i] == target) {
+                    if (w < weight[cell][i]) {
+                        weight[cell][i] = w;
+                        middle[cell][i] = via;
+                    }
+                    return;
+                }
+            }
+            int i = degree[cell]++;
+            if (i == neighbor[cell].length) {
+                neighbor[cell] = Arrays.copyOf(neighbor[cell], i * 2);
+                weight[cell] = Arrays.copyOf(weight[cell], i * 2);
+                middle[cell] = Arrays.copyOf(middle[cell], i * 2);
+            }
+            neighbor[cell][i] = target;
+            weight[cell][i] = w;
+            middle[cell][i] = via;
+        }
+
+        private void forEach(int[] cells, int count, IntConsumer action) {
+            if (count <= LEAF_SIZE) {
+                for (int i = 0; i < count; i++) {
+                    action.accept(cells[i]);
+                }
+            } else {
+                pool.invoke(new RoundTask(cells, 0, count, action));
+            }
+        }
+
+        /**
+         * Bounded Dijkstra over the remaining graph, avoiding the cell being contracted and
+         * every other cell of the round. One per worker thread.
+         */
+        private final class Witness {
+
+            private final int[] distance = new int[graph.size()];
+            // Cells marked with the current search's number are neighbors still to be settled
+            private final int[] target = new int[graph.size()];
+            private final LongMinHeap queue = new LongMinHeap();
+            private int[] touched = new int[64];
+            private int touchedCount;
+            private int searchNumber;
+
+            Witness() {
+                Arrays.fill(distance, UNREACHABLE);
+            }
+
+            /**
+             * Searches from neighbor {@code first} of a cell towards the neighbors after it, until
+             * all of them are settled, the cost limit is passed or the settle limit is reached.
+             */
+            void search(int avoided, int first, int limit, int settleLimit) {
+                for (int i = 0; i < touchedCount; i++) {
+                    distance[touched[i]] = UNREACHABLE;
+                }
+                touchedCount = 0;
+                queue.clear();
+                if (++searchNumber == 0) {
+                    Arrays.fill(target, 0);
+                    searchNumber = 1;
+                }
+                int remaining = degree[avoided] - first - 1;
+                for (int j = first + 1; j < degree[avoided]; j++) {
+                    target[neighbor[avoided][j]] = searchNumber;
+                }
+                reach(neighbor[avoided][first], 0);
+                int settledCount = 0;
+                while (!queue.isEmpty() && settledCount < settleLimit) {
+                    long entry = queue.pop();
+                    int cell = LongMinHeap.indexOf(entry);
+                    int d = LongMinHeap.priorityOf(entry);
+                    if (d != distance[cell]) {
+                        continue;
+                    }
+                    if (d > limit) {
+                        return;
+                    }
+                    settledCount++;
+                    if (target[cell] == searchNumber && --remaining == 0) {
+                        return;
+                    }
+                    for (int i = 0; i < degree[cell]; i++) {
+                        int next = neighbor[cell][i];
+                        if (next == avoided || selected[next]) {
+                            continue;
+                        }
+                        int candidate = d + weight[cell][i];
+                        if (candidate <= limit && candidate < distance[next]) {
+                            reach(next, candidate);
+                        }
+                    }
+                }
+            }
+
+            /**
+             * Gets the cost of the cheapest path found to a cell; unsettled cells hold an upper bound.
+             */
+            int distance(int cell) {
+                return distance[cell];
+            }
+
+            private void reach(int cell, int d) {
+                if (distance[cell] == UNREACHABLE) {
+                    touched = append(touched, touchedCount++, cell);
+                }
+                distance[cell] = d;
+                queue.push(LongMinHeap.pack(d, cell));
+            }
+        }
+    }
+
+    /**
+     * Applies an action to a slice of a round's cells, splitting it in halves down to leaves.
+     */
+    private static final class RoundTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[] cells;
+        private final int from;
+        private final int to;
+        private final IntConsumer action;
+
+        RoundTask(int[] cells, int from, int to, IntConsumer action) {
+            this.cells = cells;
+            this.from = from;
+            this.to = to;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_SIZE) {
+                for (int i = from; i < to; i++) {
+                    action.accept(cells[i]);
+                }
+            } else {
+                int mid = (from + to) >>> 1;
+                invokeAll(new RoundTask(cells, from, mid, action), new RoundTask(cells, mid, to, action));
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.mazesolver.algorithm;
+
+import com.mazesolver.model.Cell;
+import com.mazesolver.model.GridGraph;
+import com.mazesolver.model.Maze;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Queries a {@link ContractionHierarchy} of the maze. The first query on a maze layout builds
+ * the hierarchy, which takes far longer than any single search; every later query on the same
+ * layout settles only a few hundred cells. Any obstacle or terrain edit makes the next query
+ * rebuild it; moving the start or end cell does not. A hierarchy loaded from disk can be
+ * installed with {@link #setHierarchy}.
+ */
+public class ContractionHierarchyAlgorithm extends AbstractPathfindingAlgorithm {
+
+    private volatile ContractionHierarchy hierarchy;
+
+    @Override
+    public String getName() {
+        return "Contraction Hierarchies";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "Preprocessing, then O(k log k) for k settled cells per query";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(V + shortcuts)";
+    }
+
+    @Override
+    protected List<Cell> findPathImplementation(SearchContext context, Maze maze, Cell start, Cell end) {
+        ContractionHierarchy current = hierarchyFor(context, maze);
+        if (current == null) {
+            return List.of();
+        }
+        GridGraph graph = maze.getGraph();
+        Queries queries = context.state(Queries::new);
+        if (queries.hierarchy != current) {
+            queries.hierarchy = current;
+            queries.query = current.newQuery();
+        }
+        int[] path = queries.query.path(graph.index(start), graph.index(end), context);
+        context.visitedCells += queries.query.getSettledCount();
+        context.generatedNodes += queries.query.getRelaxedCount();
+        context.memory(queries.query.footprintBytes());
+        return toCells(maze, graph, path);
+    }
+
+    /**
+     * Gets the hierarchy of the maze's current layout, building it if the kept one is stale.
+     */
+    public ContractionHierarchy getHierarchy(Maze maze) {
+        return hierarchyFor(null, maze);
+    }
+
+    /**
+     * Gets the hierarchy of the maze's current layout, or null if the search was cancelled while
+     * building it; a cancelled build is dropped and the next query starts over.
+     */
+    private ContractionHierarchy hierarchyFor(SearchContext context, Maze maze) {
+        ContractionHierarchy current = hierarchy;
+        if (current != null && current.isCurrent(maze)) {
+            return current;
+        }
+        synchronized (this) {
+            // Another thread may have built it while this one waited
+            if (hierarchy == null || !hierarchy.isCurrent(maze)) {
+                ContractionHierarchy built = ContractionHierarchy.build(maze, ForkJoinPool.commonPool(), context);
+                if (built == null) {
+                    return null;
+                }
+                hierarchy = built;
+            }
+            return hierarchy;
+        }
+    }
+
+    /**
+     * Installs a prebuilt hierarchy, such as one read with {@link ContractionHierarchy#readFrom};
+     * it is used for as long as it {@linkplain ContractionHierarchy#matches matches} the maze being solved.
+     */
+    public void setHierarchy(ContractionHierarchy hierarchy) {
+        this.hierarchy = hierarchy;
+    }
+
+    /**
+     * Per-thread query scratch, recreated when the hierarchy changes.
+     */
+    private static final class Queries {
+        ContractionHierarchy hierarchy;
+        ContractionHierarchy.Query query;
+    }
+}
@@ -0,0 +1,231 @@
+package com.mazesolver.algorithm;
+
+import com.mazesolver.model.Cell;
+import com.mazesolver.model.CorridorGraph;
+import com.mazesolver.model.GridGraph;
+import com.mazesolver.model.Maze;
+import java.util.*;
+
+/**
+ * A* over the maze's corridor-contracted graph.
+ * Only junctions and dead ends are expanded; corridor runs are crossed as single weighted
+ * edges and walked cell by cell again only to build the final path.
+ */
+public class CorridorAStarAlgorithm extends AbstractPathfindingAlgorithm {
+
+    @Override
+    public String getName() {
+        return "Corridor-Contracted A*";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O((J + E') log J)";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(V)";
+    }
+
+    @Override
+    protected List<Cell> findPathImplementation(SearchContext context, Maze maze, Cell start, Cell end) {
+        CorridorGraph corridors = maze.getCorridorGraph();
+        GridGraph graph = corridors.getGridGraph();
+        int source = graph.index(start);
+        int target = graph.index(end);
+        if (source == target) {
+            return List.of(start);
+        }
+        if (!graph.isWalkable(source) || !graph.isWalkable(target)) {
+            return List.of();
+        }
+
+        int capacity = corridors.getNodeCapacity();
+        Scratch scratch = context.state(Scratch::new);
+        scratch.prepare(context, capacity);
+        SearchBuffers buffers = context.buffers;
+        IndexedMinHeap openSet = context.openSet;
+        CorridorGraph.IntList walk = scratch.walk;
+        int[] parentDirection = scratch.parentDirection;
+
+        // Nodes from which the target is reached along its own corridor (at most two)
+        int[] goalNode = new int[2];
+        int[] goalDistance = new int[2];
+        int[] goalDirection = new int[2];
+        int goalCount = 0;
+        if (corridors.nodeOf(target) >= 0) {
+            goalNode[goalCount] = corridors.nodeOf(target);
+            goalDirection[goalCount++] = -1;
+        } else {
+            int mask = graph.neighborMask(target);
+            while (mask != 0) {
+                int direction = Integer.numberOfTrailingZeros(mask);
+                mask &= mask - 1;
+                int node = corridors.walkToNode(target, direction, null);
+                if (node >= 0) {
+                    goalNode[goalCount] = corridors.nodeOf(node);
+                    goalDistance[goalCount] = corridors.walkLength(target, direction);
+                    goalDirection[goalCount++] = direction;
+                }
+            }
+        }
+
+        // Seed the open set with the node(s) at the ends of the source's corridor
+        int best = Integer.MAX_VALUE;
+        int bestGoal = -1;
+        int directDirection = -1;
+        if (corridors.nodeOf(source) >= 0) {
+            seed(context, scratch, corridors, corridors.nodeOf(source), 0, -1, target);
+        } else {
+            int mask = graph.neighborMask(source);
+            while (mask != 0) {
+                int direction = Integer.numberOfTrailingZeros(mask);
+                mask &= mask - 1;
+                walk.clear();
+                int node = corridors.walkToNode(source, direction, walk);
+                for (int i = 0; i < walk.size(); i++) {
+                    if (walk.get(i) == target && i + 1 < best) {
+                        // Target lies on the source's corridor
+                        best = i + 1;
+                        directDirection = direction;
+                    }
+                }
+                if (node >= 0) {
+                    seed(context, scratch, corridors, corridors.nodeOf(node), walk.size(), direction, target);
+                }
+            }
+        }
+
+        while (!openSet.isEmpty()) {
+            int current = openSet.peek();
+            if (buffers.distance[current] + graph.manhattan(corridors.cellOf(current), target) >= best) {
+                break;
+            }
+            openSet.poll();
+            buffers.close(current);
+            context.visitedCells++;
+            if (context.shouldStop(context.visitedCells)) {
+                return List.of();
+            }
+
+            int g = buffers.distance[current];
+            for (int i = 0; i < goalCount; i++) {
+                if (goalNode[i] == current && g + goalDistance[i] < best) {
+                    best = g + goalDistance[i];
+                    bestGoal = i;
+                }
+            }
+
+            for (int direction = 0; direction < GridGraph.DIRECTIONS; direction++) {
+                int next = corridors.edgeTarget(current, direction);
+                if (next < 0) {
+                    continue;
+                }
+                context.generatedNodes++;
+                if (buffers.isClosed(next)) {
+                    continue;
+                }
+                int tentativeGScore = g + corridors.edgeWeight(current, direction);
+                if (!buffers.isReached(next) || tentativeGScore < buffers.distance[next]) {
+                    buffers.reach(next, current, tentativeGScore);
+                    parentDirection[next] = direction;
+                    openSet.offer(next, priority(tentativeGScore + graph.manhattan(corridors.cellOf(next), target), tentativeGScore));
+                }
+            }
+        }
+
+        if (best == Integer.MAX_VALUE) {
+            return List.of();
+        }
+
+        List<Cell> path = new ArrayList<>();
+        path.add(start);
+        if (bestGoal < 0) {
+            walk.clear();
+            corridors.walkToNode(source, directDirection, walk);
+            appendUntil(walk, maze, graph, path, target);
+            return path;
+        }
+
+        // Chain of nodes from the seed to the goal node
+        int chainLength = 0;
+        for (int node = goalNode[bestGoal]; node != -1; node = buffers.parent[node]) {
+            chainLength++;
+        }
+        int[] chain = new int[chainLength];
+        int position = chainLength;
+        for (int node = goalNode[bestGoal]; node != -1; node = buffers.parent[node]) {
+            chain[--position] = node;
+        }
+
+        if (parentDirection[chain[0]] >= 0) {
+            walk.clear();
+            corridors.walkToNode(source, parentDirection[chain[0]], walk);
+            appendUntil(walk, maze, graph, path, corridors.cellOf(chain[0]));
+        }
+        for (int i = 1; i < chain.length; i++) {
+            walk.clear();
+            corridors.walkToNode(corridors.cellOf(chain[i - 1]), parentDirection[chain[i]], walk);
+            appendUntil(walk, maze, graph, path, corridors.cellOf(chain[i]));
+        }
+        if (goalDirection[bestGoal] >= 0) {
+            // Walk from the target to the goal node, then append it in reverse
+            walk.clear();
+            corridors.walkToNode(target, goalDirection[bestGoal], walk);
+            for (int i = walk.size() - 2; i >= 0; i--) {
+                path.add(cellAt(maze, graph, walk.get(i)));
+            }
+            path.add(end);
+        }
+        return path;
+    }
+
+    private static void seed(SearchContext context, Scratch scratch, CorridorGraph corridors,
+                             int node, int g, int direction, int target) {
+        SearchBuffers buffers = context.buffers;
+        if (!buffers.isReached(node) || g < buffers.distance[node]) {
+            buffers.reach(node, -1, g);
+            scratch.parentDirection[node] = direction;
+            GridGraph graph = corridors.getGridGraph();
+            context.openSet.offer(node, priority(g + graph.manhattan(corridors.cellOf(node), target), g));
+        }
+    }
+
+    /**
+     * Appends the walked cells up to and including {@code last}.
+     */
+    private static void appendUntil(CorridorGraph.IntList walk, Maze maze, GridGraph graph, List<Cell> path, int last) {
+        for (int i = 0; i < walk.size(); i++) {
+            int cell = walk.get(i);
+            path.add(cellAt(maze, graph, cell));
+            if (cell == last) {
+                return;
+            }
+        }
+    }
+
+    private static Cell cellAt(Maze maze, GridGraph graph, int index) {
+        return maze.getCell(graph.rowOf(index), graph.colOf(index));
+    }
+
+    private static long priority(int fScore, int gScore) {
+        return ((long) fScore << 32) - gScore;
+    }
+
+    /**
+     * Per-search scratch kept in the search context.
+     */
+    private static final class Scratch {
+        final CorridorGraph.IntList walk = new CorridorGraph.IntList();
+        int[] parentDirection = new int[0];
+
+        void prepare(SearchContext context, int capacity) {
+            context.buffers.prepare(capacity);
+            context.openSet.reset(capacity);
+            if (parentDirection.length < capacity) {
+                parentDirection = new int[capacity];
+            }
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.mazesolver.algorithm;
+
+import com.mazesolver.model.Cell;
+import com.mazesolver.model.GridGraph;
+import com.mazesolver.model.Maze;
+import java.util.*;
+
+/**
+ * Incremental replanning with D* Lite.
+ * The search tree is rooted at the end cell and kept between runs. Obstacle edits are read from
+ * the maze's edit journal and only the edited cells and their neighbors are re-queued, and
+ * moving the start cell only grows the key modifier, so re-solving after a small edit expands
+ * roughly the cells whose distance changed. Moving the end cell, regenerating or resetting the
+ * maze, or switching to another maze starts a fresh search.
+ * <p>
+ * The kept tree is the point of this algorithm, so unlike the other solvers an instance is not
+ * re-entrant: concurrent searches on one instance are serialized.
+ */
+public class DStarLiteAlgorithm extends AbstractPathfindingAlgorithm {
+
+    private static final int INFINITY = Integer.MAX_VALUE / 2;
+
+    // Rebuild before the key modifier could overflow the packed keys
+    private static final int MAX_KEY_MODIFIER = 1 << 28;
+
+    private final IndexedMinHeap openSet = new IndexedMinHeap();
+
+    // Search tree kept between runs
+    private Maze maze;
+    private GridGraph graph;
+    private int[] g = new int[0];
+    private int[] rhs = new int[0];
+    private int goal = -1;
+    private int lastStart = -1;
+    private int keyModifier;
+
+    @Override
+    public String getName() {
+        return "D* Lite (Incremental)";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(V log V) first run, O(k log k) per replan";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(V)";
+    }
+
+    @Override
+    protected synchronized List<Cell> findPathImplementation(SearchContext context, Maze maze, Cell start, Cell end) {
+        GridGraph current = maze.getGraph();
+        int source = current.index(start);
+        int target = current.index(end);
+        // The open set outlives a single call, so its counters are read per call into the context
+        openSet.resetCounters();
+        if (!repair(maze, current, source, target)) {
+            initialize(maze, current, source, target);
+        }
+        context.frontier(openSet.size());
+        boolean finished = computeShortestPath(context, source);
+        context.queuePushes += openSet.pushCount;
+        context.queuePops += openSet.popCount;
+        context.frontier(openSet.peakSize);
+
+        if (!finished || rhs[source] >= INFINITY) {
+            return List.of();
+        }
+        // Follow the steepest descent of g from the start to the end cell
+        int cell = source;
+        List<Cell> path = new ArrayList<>();
+        path.add(start);
+        while (cell != goal) {
+            int best = -1;
+            int mask = graph.neighborMask(cell);
+            while (mask != 0) {
+                int direction = Integer.numberOfTrailingZeros(mask);
+                mask &= mask - 1;
+                int neighbor = cell + graph.step(direction);
+                if (best < 0 || g[neighbor] < g[best]) {
+                    best = neighbor;
+                }
+            }
+            if (best < 0 || g[best] >= INFINITY || path.size() > graph.size()) {
+                return List.of();
+            }
+            cell = best;
+            path.add(maze.getCell(graph.rowOf(cell), graph.colOf(cell)));
+        }
+        return path;
+    }
+
+    /**
+     * Brings the kept search tree up to date with the maze's edits and the new start cell.
+     * @return false if the tree cannot be reused and a fresh search is needed
+     */
+    private boolean repair(Maze maze, GridGraph current, int source, int target) {
+        if (this.maze != maze || graph == null || goal != target || graph.size() != current.size()) {
+            return false;
+        }
+        int[] edits = null;
+        if (graph.getVersion() != current.getVersion()) {
+            edits = maze.getEditsSince(graph.getVersion());
+            if (edits == null) {
+                return false;
+            }
+        }
+
+        keyModifier += current.manhattan(lastStart, source);
+        if (keyModifier > MAX_KEY_MODIFIER) {
+            return false;
+        }
+        lastStart = source;
+        graph = current;
+
+        if (edits != null) {
+            // Toggling a cell changes the edges to all four of its neighbors
+            for (int cell : edits) {
+                updateVertex(cell);
+                int row = graph.rowOf(cell);
+                int col = graph.colOf(cell);
+                for (int d = 0; d < GridGraph.DIRECTIONS; d++) {
+                    int newRow = row + GridGraph.rowDelta(d);
+                    int newCol = col + GridGraph.colDelta(d);
+                    if (newRow >= 0 && newRow < graph.getRows() && newCol >= 0 && newCol < graph.getCols()) {
+                        updateVertex(graph.index(newRow, newCol));
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private void initialize(Maze maze, GridGraph current, int source, int target) {
+        this.maze = maze;
+        graph = current;
+        goal = target;
+        lastStart = source;
+        keyModifier = 0;
+
+        int size = graph.size();
+        if (g.length < size) {
+            g = new int[size];
+            rhs = new int[size];
+        }
+        Arrays.fill(g, 0, size, INFINITY);
+        Arrays.fill(rhs, 0, size, INFINITY);
+        openSet.reset(size);
+
+        rhs[goal] = 0;
+        openSet.offer(goal, key(goal));
+    }
+
+    /**
+     * Expands inconsistent cells until the start cell's distance is settled.
+     * @return false if the search was cancelled first; the tree stays valid and the next run resumes it
+     */
+    private boolean computeShortestPath(SearchContext context, int source) {
+        while (!openSet.isEmpty()
+                && (openSet.priorityOf(openSet.peek()) < key(source) || rhs[source] != g[source])) {
+            int u = openSet.peek();
+            long newKey = key(u);
+            if (openSet.priorityOf(u) < newKey) {
+                // Key is stale from an earlier start position
+                openSet.update(u, newKey);
+                continue;
+            }
+            if (context.shouldStop(context.visitedCells + 1)) {
+                return false;
+            }
+            openSet.poll();
+            context.visitedCells++;
+
+            if (g[u] > rhs[u]) {
+                g[u] = rhs[u];
+            } else {
+                g[u] = INFINITY;
+                updateVertex(u);
+            }
+            int mask = graph.neighborMask(u);
+            context.generatedNodes += Integer.bitCount(mask);
+            while (mask != 0) {
+                int direction = Integer.numberOfTrailingZeros(mask);
+                mask &= mask - 1;
+                updateVertex(u + graph.step(direction));
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Recomputes a cell's one-step lookahead value and (re)queues it if it is inconsistent.
+     */
+    private void updateVertex(int u) {
+        if (u != goal) {
+            int best = INFINITY;
+            int mask = graph.neighborMask(u);
+            while (mask != 0) {
+                int direction = Integer.numberOfTrailingZeros(mask);
+                mask &= mask - 1;
+                int candidate = g[u + graph.step(direction)] + 1;
+                if (candidate < best) {
+                    best = candidate;
+                }
+            }
+            rhs[u] = best;
+        }
+        if (g[u] != rhs[u]) {
+            openSet.update(u, key(u));
+        } else {
+            openSet.remove(u);
+        }
+    }
+
+    /**
+     * Packs the D* Lite key [min(g, rhs) + h + km; min(g, rhs)] into one heap priority.
+     */
+    private long key(int u) {
+        int m = Math.min(g[u], rhs[u]);
+        return ((long) (m + graph.manhattan(lastStart, u) + keyModifier) << 32) | m;
+    }
+}
@@ -1,7 +1,9 @@
 package com.mazesolver.algorithm;
 
 import com.mazesolver.model.Cell;
+import com.mazesolver.model.GridGraph;
 import com.mazesolver.model.Maze;
+import com.mazesolver.model.MovementModel;
 import java.util.*;
 
 public class DepthFirstSearchAlgorithm extends AbstractPathfindingAlgorithm {
@@ -20,16 +22,67 @@ public class DepthFirstSearchAlgorithm extends AbstractPathfindingAlgorithm {
     public String getSpaceComplexity() {
         return "O(V)";
     }
-
+    
     @Override
-    protected List<Cell> findPathImplementation(Maze maze, Cell start, Cell end) {
-        return findPathImplementationWithAnimation(maze, start, end, null);
+    public boolean supportsMovementModel(MovementModel movement) {
+        return true;
     }
 
     @Override
-    protected List<Cell> findPathImplementationWithAnimation(Maze maze, Cell start, Cell end, AnimationCallback callback) {
-        reset();
+    protected List<Cell> findPathImplementation(SearchContext context, Maze maze, Cell start, Cell end) {
+        // Index-based fast path: int[] stack, primitive parent/distance, no Cell mutation
+        GridGraph graph = maze.getGraph();
+        int source = graph.index(start);
+        int target = graph.index(end);
+        SearchBuffers buffers = context.buffers;
+        buffers.prepare(graph.size());
+        MovementModel movement = context.movement;
+        int[] stack = buffers.queue;
+        int top = 0;
+        
+        buffers.reach(source, -1, 0);
+        stack[top++] = source;
+        
+        long pops = 0;
+        while (top > 0) {
+            int current = stack[--top];
+            pops++;
+            
+            if (current == target) {
+                break;
+            }
+            
+            context.visitedCells++;
+            if (context.shouldStop(context.visitedCells)) {
+                break;
+            }
+            
+            // Push in reverse direction order so "up" is explored first, as in the animated search
+            int mask = graph.neighborMask(current, movement);
+            context.generatedNodes += Integer.bitCount(mask);
+            for (int direction = movement.directions() - 1; direction >= 0; direction--) {
+                if ((mask & (1 << direction)) == 0) {
+                    continue;
+                }
+                int neighbor = current + graph.step(direction);
+                if (!buffers.isReached(neighbor)) {
+                    buffers.reach(neighbor, current, buffers.distance[current] + 1);
+                    stack[top++] = neighbor;
+                }
+            }
+            context.frontier(top);
+        }
+        // Every pushed cell has either been popped or is still on the stack
+        context.queuePops += pops;
+        context.queuePushes += pops + top;
         
+        return buffers.isReached(target) ? buildPath(maze, graph, buffers.parent, target) : List.of();
+    }
+
+    @Override
+    protected List<Cell> findPathImplementationWithAnimation(SearchContext context, Maze maze, Cell start, Cell end,
+                                                             AnimationCallback callback) {
+        GridGraph graph = maze.getGraph();
         // Stack for DFS traversal
         Stack<Cell> stack = new Stack<>();
         Set<Cell> visited = new HashSet<>();
@@ -38,29 +91,29 @@ public class DepthFirstSearchAlgorithm extends AbstractPathfindingAlgorithm {
         start.setDistance(0);
         stack.push(start);
         visited.add(start);
+        context.queuePushes++;
         
         while (!stack.isEmpty()) {
             Cell current = stack.pop();
+            context.queuePops++;
             
             if (current == end) {
                 break;
             }
             
-            markVisited(current);
+            markVisited(context, current);
             
             // Animation callback for visited cell
             if (callback != null) {
                 callback.onCellVisited(current);
-                try {
-                    Thread.sleep(callback.onStepDelay(50));
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
+                if (!pause(context, callback)) {
                     break;
                 }
             }
             
             // Explore all neighbors (in reverse order for better visualization)
-            List<Cell> neighbors = getNeighbors(maze, current);
+            List<Cell> neighbors = getNeighbors(maze, graph, current, context.movement);
+            context.generatedNodes += neighbors.size();
             for (int i = neighbors.size() - 1; i >= 0; i--) {
                 Cell neighbor = neighbors.get(i);
                 if (!visited.contains(neighbor)) {
@@ -68,12 +121,14 @@ public class DepthFirstSearchAlgorithm extends AbstractPathfindingAlgorithm {
                     neighbor.setDistance(current.getDistance() + 1);
                     neighbor.setParent(current);
                     stack.push(neighbor);
+                    context.queuePushes++;
                 }
             }
+            context.frontier(stack.size());
         }
         
-        // Reconstruct path
-        List<Cell> path = reconstructPath(end);
+        // Reconstruct path if the end cell was reached
+        List<Cell> path = visited.contains(end) ? reconstructPath(end) : List.of();
         
         // Animation callback for final path
         if (callback != null) {
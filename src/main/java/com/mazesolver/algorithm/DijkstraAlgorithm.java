@@ -1,89 +1,243 @@
 package com.mazesolver.algorithm;
 
 import com.mazesolver.model.Cell;
+import com.mazesolver.model.GridGraph;
 import com.mazesolver.model.Maze;
+import com.mazesolver.model.MovementModel;
 import java.util.*;
 
 public class DijkstraAlgorithm extends AbstractPathfindingAlgorithm {
     
+    /**
+     * Priority queue used to order the frontier.
+     */
+    public enum QueueStrategy {
+        /** Bucket queue when the maze has uniform step costs, radix heap for weighted terrain. */
+        AUTO,
+        /** Binary heap of packed (distance, cell) entries. */
+        BINARY_HEAP,
+        /** Monotone bucket queue (Dial's algorithm) with O(1) push/pop. */
+        BUCKET_QUEUE,
+        /** Monotone radix heap: O(1) push, O(log C) amortized pop for step costs up to C. */
+        RADIX_HEAP
+    }
+    
+    private final QueueStrategy queueStrategy;
+    
+    public DijkstraAlgorithm() {
+        this(QueueStrategy.AUTO);
+    }
+    
+    public DijkstraAlgorithm(QueueStrategy queueStrategy) {
+        this.queueStrategy = queueStrategy;
+    }
+    
     @Override
     public String getName() {
-        return "Dijkstra's Algorithm";
+        switch (queueStrategy) {
+            case BUCKET_QUEUE: return "Dijkstra (Bucket Queue)";
+            case RADIX_HEAP: return "Dijkstra (Radix Heap)";
+            default: return "Dijkstra's Algorithm";
+        }
     }
     
     @Override
     public String getTimeComplexity() {
-        return "O((V + E) log V)";
+        switch (queueStrategy) {
+            case BUCKET_QUEUE: return "O(V + E + C)";
+            case RADIX_HEAP: return "O(E + V log C)";
+            default: return "O((V + E) log V)";
+        }
     }
     
     @Override
     public String getSpaceComplexity() {
         return "O(V)";
     }
+    
+    public QueueStrategy getQueueStrategy() {
+        return queueStrategy;
+    }
+    
+    @Override
+    public String getConfiguration() {
+        return "queueStrategy=" + queueStrategy;
+    }
+    
+    @Override
+    public boolean supportsMovementModel(MovementModel movement) {
+        return true;
+    }
+
+    @Override
+    protected List<Cell> findPathImplementation(SearchContext context, Maze maze, Cell start, Cell end) {
+        // Index-based fast path: primitive distances, comparator-free queue, no Cell mutation
+        GridGraph graph = maze.getGraph();
+        QueueStrategy queue = resolveQueue(context, graph);
+        int source = graph.index(start);
+        int target = graph.index(end);
+        SearchBuffers buffers = context.buffers;
+        MovementModel movement = context.movement;
+        buffers.prepare(graph.size());
+        
+        buffers.reach(source, -1, 0);
+        push(context, queue, 0, source);
+        
+        while (!isEmpty(context, queue)) {
+            int current = poll(context, queue);
+            
+            if (current == target) {
+                break;
+            }
+            
+            if (buffers.isClosed(current)) {
+                continue;
+            }
+            
+            buffers.close(current);
+            context.visitedCells++;
+            if (context.shouldStop(context.visitedCells)) {
+                return List.of();
+            }
+            
+            int distance = buffers.distance[current];
+            int mask = graph.neighborMask(current, movement);
+            context.generatedNodes += Integer.bitCount(mask);
+            while (mask != 0) {
+                int direction = Integer.numberOfTrailingZeros(mask);
+                mask &= mask - 1;
+                int neighbor = current + graph.step(direction);
+                int newDistance = distance + graph.cost(neighbor) * movement.stepLength(direction);
+                if (!buffers.isClosed(neighbor)
+                        && (!buffers.isReached(neighbor) || newDistance < buffers.distance[neighbor])) {
+                    buffers.reach(neighbor, current, newDistance);
+                    push(context, queue, newDistance, neighbor);
+                }
+            }
+        }
+        
+        return buffers.isReached(target) ? buildPath(maze, graph, buffers.parent, target) : List.of();
+    }
 
     @Override
-    protected List<Cell> findPathImplementation(Maze maze, Cell start, Cell end) {
-        return findPathImplementationWithAnimation(maze, start, end, null);
+    public boolean supportsMultipleEndpoints() {
+        return true;
     }
 
     @Override
-    protected List<Cell> findPathImplementationWithAnimation(Maze maze, Cell start, Cell end, AnimationCallback callback) {
-        reset();
+    protected List<Cell> findPathImplementation(SearchContext context, Maze maze, int[] sources, int[] targets) {
+        // One search from a virtual root joined to every source at cost 0; the first target
+        // settled is the nearest to any source
+        GridGraph graph = maze.getGraph();
+        QueueStrategy queue = resolveQueue(context, graph);
+        SearchBuffers buffers = context.buffers;
+        MovementModel movement = context.movement;
+        buffers.prepare(graph.size());
+        buffers.markTargets(targets);
         
-        // Initialize distances and visited set
-        Map<Cell, Integer> distances = new HashMap<>();
-        Set<Cell> visited = new HashSet<>();
-        PriorityQueue<Cell> pq = new PriorityQueue<>((a, b) -> 
-            Integer.compare(distances.getOrDefault(a, Integer.MAX_VALUE), 
-                          distances.getOrDefault(b, Integer.MAX_VALUE)));
+        for (int source : sources) {
+            if (!buffers.isReached(source)) {
+                buffers.reach(source, -1, 0);
+                push(context, queue, 0, source);
+            }
+        }
+        
+        int found = -1;
+        while (!isEmpty(context, queue)) {
+            int current = poll(context, queue);
+            
+            if (buffers.isClosed(current)) {
+                continue;
+            }
+            
+            if (buffers.isTarget(current)) {
+                found = current;
+                break;
+            }
+            
+            buffers.close(current);
+            context.visitedCells++;
+            if (context.shouldStop(context.visitedCells)) {
+                return List.of();
+            }
+            
+            int distance = buffers.distance[current];
+            int mask = graph.neighborMask(current, movement);
+            context.generatedNodes += Integer.bitCount(mask);
+            while (mask != 0) {
+                int direction = Integer.numberOfTrailingZeros(mask);
+                mask &= mask - 1;
+                int neighbor = current + graph.step(direction);
+                int newDistance = distance + graph.cost(neighbor) * movement.stepLength(direction);
+                if (!buffers.isClosed(neighbor)
+                        && (!buffers.isReached(neighbor) || newDistance < buffers.distance[neighbor])) {
+                    buffers.reach(neighbor, current, newDistance);
+                    push(context, queue, newDistance, neighbor);
+                }
+            }
+        }
+        
+        return found >= 0 ? buildPath(maze, graph, buffers.parent, found) : List.of();
+    }
+
+    @Override
+    protected List<Cell> findPathImplementationWithAnimation(SearchContext context, Maze maze, Cell start, Cell end,
+                                                             AnimationCallback callback) {
+        // Distances live in the index buffers; queue entries carry the distance they were
+        // pushed with, so priorities never change while an entry is queued
+        GridGraph graph = maze.getGraph();
+        QueueStrategy queue = resolveQueue(context, graph);
+        SearchBuffers buffers = context.buffers;
+        buffers.prepare(graph.size());
         
         // Set start distance to 0
-        distances.put(start, 0);
+        int startIndex = graph.index(start);
+        buffers.reach(startIndex, -1, 0);
         start.setDistance(0);
-        pq.offer(start);
+        push(context, queue, 0, startIndex);
         
-        while (!pq.isEmpty()) {
-            Cell current = pq.poll();
+        while (!isEmpty(context, queue)) {
+            int currentIndex = poll(context, queue);
+            Cell current = maze.getCell(graph.rowOf(currentIndex), graph.colOf(currentIndex));
             
             if (current == end) {
                 break;
             }
             
-            if (visited.contains(current)) {
+            if (buffers.isClosed(currentIndex)) {
                 continue;
             }
             
-            visited.add(current);
-            markVisited(current);
+            buffers.close(currentIndex);
+            markVisited(context, current);
             
             // Animation callback for visited cell
             if (callback != null) {
                 callback.onCellVisited(current);
-                try {
-                    Thread.sleep(callback.onStepDelay(50));
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
+                if (!pause(context, callback)) {
                     break;
                 }
             }
             
             // Explore neighbors
-            for (Cell neighbor : getNeighbors(maze, current)) {
-                if (!visited.contains(neighbor)) {
-                    int newDistance = distances.get(current) + 1;
-                    
-                    if (newDistance < distances.getOrDefault(neighbor, Integer.MAX_VALUE)) {
-                        distances.put(neighbor, newDistance);
-                        neighbor.setDistance(newDistance);
-                        neighbor.setParent(current);
-                        pq.offer(neighbor);
-                    }
+            int distance = buffers.distance[currentIndex];
+            List<Cell> neighbors = getNeighbors(maze, graph, current, context.movement);
+            context.generatedNodes += neighbors.size();
+            for (Cell neighbor : neighbors) {
+                int neighborIndex = graph.index(neighbor);
+                int newDistance = distance + moveCost(graph, context.movement, currentIndex, neighborIndex);
+                if (!buffers.isClosed(neighborIndex)
+                        && (!buffers.isReached(neighborIndex) || newDistance < buffers.distance[neighborIndex])) {
+                    buffers.reach(neighborIndex, currentIndex, newDistance);
+                    neighbor.setDistance(newDistance);
+                    neighbor.setParent(current);
+                    push(context, queue, newDistance, neighborIndex);
                 }
             }
         }
         
-        // Reconstruct path
-        List<Cell> path = reconstructPath(end);
+        // Reconstruct path if the end cell was reached
+        List<Cell> path = buffers.isReached(graph.index(end)) ? reconstructPath(end) : List.of();
         
         // Animation callback for final path
         if (callback != null) {
@@ -92,5 +246,47 @@ public class DijkstraAlgorithm extends AbstractPathfindingAlgorithm {
         
         return path;
     }
+    
+    /**
+     * Picks the queue for this search and empties it.
+     */
+    private QueueStrategy resolveQueue(SearchContext context, GridGraph graph) {
+        QueueStrategy queue = queueStrategy;
+        if (queue == QueueStrategy.AUTO) {
+            queue = graph.hasUniformCosts() ? QueueStrategy.BUCKET_QUEUE : QueueStrategy.RADIX_HEAP;
+        }
+        switch (queue) {
+            case BUCKET_QUEUE:
+                int longestStep = context.movement.allowsDiagonals() ? MovementModel.DIAGONAL_LENGTH : 1;
+                context.buckets.reset(graph.maxCost() * longestStep);
+                break;
+            case RADIX_HEAP: context.radix.clear(); break;
+            default: context.heap.clear(); break;
+        }
+        return queue;
+    }
+    
+    private static void push(SearchContext context, QueueStrategy queue, int distance, int index) {
+        switch (queue) {
+            case BUCKET_QUEUE: context.buckets.push(distance, index); break;
+            case RADIX_HEAP: context.radix.push(distance, index); break;
+            default: context.heap.push(LongMinHeap.pack(distance, index)); break;
+        }
+    }
+    
+    private static int poll(SearchContext context, QueueStrategy queue) {
+        switch (queue) {
+            case BUCKET_QUEUE: return context.buckets.poll();
+            case RADIX_HEAP: return context.radix.poll();
+            default: return LongMinHeap.indexOf(context.heap.pop());
+        }
+    }
+    
+    private static boolean isEmpty(SearchContext context, QueueStrategy queue) {
+        switch (queue) {
+            case BUCKET_QUEUE: return context.buckets.isEmpty();
+            case RADIX_HEAP: return context.radix.isEmpty();
+            default: return context.heap.isEmpty();
+        }
+    }
 }
-
@@ -0,0 +1,212 @@
+package com.mazesolver.algorithm;
+
+import com.mazesolver.model.Cell;
+import com.mazesolver.model.GridGraph;
+import com.mazesolver.model.Maze;
+import com.mazesolver.model.MovementModel;
+import java.util.*;
+
+/**
+ * Distances to one goal cell from every cell, with the first move of a shortest path from each,
+ * computed by a single reverse search rooted at the goal: BFS on uniform 4-connected grids,
+ * Dijkstra otherwise. Any start cell's path is then a walk along the stored moves, in time
+ * proportional to its length. Takes 5 bytes per cell: an int distance and a byte direction.
+ * <p>
+ * A field describes one snapshot of the maze; {@link #isCurrent} tells whether it still does.
+ * Fields are immutable, so any number of threads can read one.
+ */
+public final class FlowField {
+
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    // Direction of the goal cell and of cells that cannot reach it
+    private static final byte NO_MOVE = -1;
+
+    private final int version;
+    private final int target;
+    private final int cols;
+    private final MovementModel movement;
+    private final int[] step = new int[GridGraph.ALL_DIRECTIONS];
+    private final int[] distance;
+    private final byte[] direction;
+    private final int settled;
+    private final boolean complete;
+
+    FlowField(GridGraph graph, int target, MovementModel movement) {
+        this(graph, target, movement, null);
+    }
+
+    /**
+     * Builds the field, polling the context for cancellation if one is given. A cancelled build
+     * leaves the field incomplete; see {@link #isComplete}.
+     */
+    FlowField(GridGraph graph, int target, MovementModel movement, SearchContext context) {
+        this.version = graph.getVersion();
+        this.target = target;
+        this.cols = graph.getCols();
+        this.movement = movement;
+        for (int d = 0; d < movement.directions(); d++) {
+            step[d] = graph.step(d);
+        }
+        distance = new int[graph.size()];
+        direction = new byte[graph.size()];
+        Arrays.fill(distance, UNREACHABLE);
+        Arrays.fill(direction, NO_MOVE);
+        int count;
+        if (!graph.isWalkable(target)) {
+            count = 0;
+        } else if (graph.hasUniformCosts() && !movement.allowsDiagonals()) {
+            count = breadthFirst(graph, context);
+        } else {
+            count = dijkstra(graph, context);
+        }
+        complete = count >= 0;
+        settled = Math.abs(count);
+    }
+
+    /**
+     * Fills the field level by level; every step costs the same, so the first visit is the shortest.
+     * @return Number of cells expanded, negated if the build was cancelled
+     */
+    private int breadthFirst(GridGraph graph, SearchContext context) {
+        int[] queue = new int[graph.size()];
+        int head = 0;
+        int tail = 0;
+        int unit = graph.minCost();
+        distance[target] = 0;
+        queue[tail++] = target;
+        while (head < tail) {
+            if (context != null && context.shouldStop(head + 1)) {
+                return -head;
+            }
+            int current = queue[head++];
+            int mask = graph.neighborMask(current);
+            while (mask != 0) {
+                int d = Integer.numberOfTrailingZeros(mask);
+                mask &= mask - 1;
+                int neighbor = current + graph.step(d);
+                if (distance[neighbor] == UNREACHABLE) {
+                    distance[neighbor] = distance[current] + unit;
+                    direction[neighbor] = (byte) GridGraph.opposite(d);
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+        return tail;
+    }
+
+    /**
+     * Reverse Dijkstra: moving from a neighbor into {@code current} costs the terrain cost of
+     * {@code current} times the move's length. Neighborhoods are symmetric in every movement
+     * model, so the forward masks also list the cells that can step into a cell.
+     * @return Number of cells settled, negated if the build was cancelled
+     */
+    private int dijkstra(GridGraph graph, SearchContext context) {
+        LongMinHeap heap = new LongMinHeap();
+        boolean[] done = new boolean[graph.size()];
+        int count = 0;
+        distance[target] = 0;
+        heap.push(LongMinHeap.pack(0, target));
+        while (!heap.isEmpty()) {
+            long entry = heap.pop();
+            int current = LongMinHeap.indexOf(entry);
+            if (done[current]) {
+                continue; // stale entry left by a later improvement
+            }
+            if (context != null && context.shouldStop(count + 1)) {
+                return -count;
+            }
+            done[current] = true;
+            count++;
+            int entering = graph.cost(current);
+            int mask = graph.neighborMask(current, movement);
+            while (mask != 0) {
+                int d = Integer.numberOfTrailingZeros(mask);
+                mask &= mask - 1;
+                int neighbor = current + graph.step(d);
+                int candidate = distance[current] + entering * movement.stepLength(d);
+                if (!done[neighbor] && candidate < distance[neighbor]) {
+                    distance[neighbor] = candidate;
+                    direction[neighbor] = (byte) GridGraph.opposite(d);
+                    heap.push(LongMinHeap.pack(candidate, neighbor));
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Checks whether the field still describes the maze: same snapshot, goal and movement model.
+     */
+    public boolean isCurrent(GridGraph graph, int target, MovementModel movement) {
+        return graph.getVersion() == version && graph.getCols() == cols && graph.size() == distance.length
+                && this.target == target && this.movement == movement;
+    }
+
+    public int getTarget() { return target; }
+
+    public MovementModel getMovementModel() { return movement; }
+
+    /**
+     * Gets the number of cells that can reach the goal.
+     */
+    public int getReachableCount() { return settled; }
+
+    /**
+     * Checks whether the build ran to the end; a cancelled build is never handed out.
+     */
+    boolean isComplete() { return complete; }
+
+    /**
+     * Gets the shortest-path cost from a cell to the goal, or {@link #UNREACHABLE}.
+     */
+    public int distance(int cell) {
+        return distance[cell];
+    }
+
+    /**
+     * Gets the first move of a shortest path from a cell to the goal, as a {@link GridGraph}
+     * direction, or -1 for the goal itself and for cells that cannot reach it.
+     */
+    public int direction(int cell) {
+        return direction[cell];
+    }
+
+    /**
+     * Gets the cells of a shortest path from a cell to the goal, or an empty array if there is none.
+     */
+    public int[] pathFrom(int source) {
+        if (distance[source] == UNREACHABLE) {
+            return new int[0];
+        }
+        int length = 1;
+        for (int cell = source; cell != target; cell += step[direction[cell]]) {
+            length++;
+        }
+        int[] path = new int[length];
+        int cell = source;
+        for (int i = 0; i < length; i++) {
+            path[i] = cell;
+            if (i + 1 < length) {
+                cell += step[direction[cell]];
+            }
+        }
+        return path;
+    }
+
+    /**
+     * Gets a shortest path from a cell to the goal as the maze's cells, or an empty list if there is none.
+     */
+    public List<Cell> pathFrom(Maze maze, Cell start) {
+        int[] path = pathFrom(start.getRow() * cols + start.getCol());
+        List<Cell> cells = new ArrayList<>(path.length);
+        for (int index : path) {
+            cells.add(maze.getCell(index / cols, index % cols));
+        }
+        return cells;
+    }
+
+    long footprintBytes() {
+        return 5L * distance.length;
+    }
+}
@@ -0,0 +1,94 @@
+package com.mazesolver.algorithm;
+
+import com.mazesolver.model.Cell;
+import com.mazesolver.model.GridGraph;
+import com.mazesolver.model.Maze;
+import com.mazesolver.model.MovementModel;
+import java.util.*;
+
+/**
+ * Answers many queries that share one end cell from a {@link FlowField} rooted at it.
+ * The first query pays for one reverse search over the whole maze; later queries from any
+ * start cell only walk the stored moves, until the maze, the end cell or the movement model
+ * changes and the field is rebuilt.
+ * <p>
+ * Only the latest field is kept. Concurrent queries for the same end cell share it; queries that
+ * arrive while it is built wait for it rather than building their own.
+ */
+public class FlowFieldAlgorithm extends AbstractPathfindingAlgorithm {
+
+    // Latest field and the maze it was built for
+    private Maze fieldMaze;
+    private FlowField field;
+
+    @Override
+    public String getName() {
+        return "Flow Field (Goal-Rooted)";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(V log V) per end cell, O(L) per query";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(V)";
+    }
+
+    @Override
+    public boolean supportsMovementModel(MovementModel movement) {
+        return true;
+    }
+
+    @Override
+    protected List<Cell> findPathImplementation(SearchContext context, Maze maze, Cell start, Cell end) {
+        GridGraph graph = maze.getGraph();
+        FlowField current = fieldFor(context, maze, graph, graph.index(end), context.movement);
+        if (current == null) {
+            return List.of(); // cancelled while building the field
+        }
+        context.memory(current.footprintBytes());
+        return toCells(maze, graph, current.pathFrom(graph.index(start)));
+    }
+
+    /**
+     * Gets the field rooted at the maze's end cell for the given movement model, building it
+     * if the kept one is out of date. Agents sharing the destination can walk it directly.
+     */
+    public FlowField getFlowField(Maze maze, MovementModel movement) {
+        GridGraph graph = maze.getGraph();
+        return fieldFor(null, maze, graph, graph.index(maze.getEndCell()), movement);
+    }
+
+    /**
+     * Gets the kept field or builds a new one; returns null if the context's search is cancelled
+     * during the build, which keeps the previous field.
+     */
+    private synchronized FlowField fieldFor(SearchContext context, Maze maze, GridGraph graph, int target,
+                                            MovementModel movement) {
+        if (field == null || fieldMaze != maze || !field.isCurrent(graph, target, movement)) {
+            FlowField built = new FlowField(graph, target, movement, context);
+            if (context != null) {
+                // Only the query that builds the field is charged for its expansions
+                context.visitedCells += built.getReachableCount();
+            }
+            if (!built.isComplete()) {
+                return null;
+            }
+            field = built;
+            fieldMaze = maze;
+        }
+        return field;
+    }
+
+    /**
+     * Drops the kept field, so the next query rebuilds it.
+     */
+    @Override
+    public synchronized void reset() {
+        super.reset();
+        field = null;
+        fieldMaze = null;
+    }
+}
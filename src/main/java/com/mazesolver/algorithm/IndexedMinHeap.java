@@ -0,0 +1,233 @@
+package com.mazesolver.algorithm;
+
+import java.util.Arrays;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Binary min-heap of cell indices with a long priority per index.
+ * A position table gives O(1) {@link #contains(int)} and O(log n) decrease-key,
+ * so an index is never present more than once.
+ */
+final class IndexedMinHeap {
+
+    private int[] heap = new int[0];
+    private int[] position = new int[0];
+    private long[] priority = new long[0];
+    private int size;
+
+    // Operation counters for search metrics; cleared by resetCounters()
+    long pushCount;
+    long popCount;
+    int peakSize;
+
+    /**
+     * Makes room for indices in {@code [0, capacity)} and empties the heap.
+     */
+    void reset(int capacity) {
+        if (position.length < capacity) {
+            heap = new int[capacity];
+            position = new int[capacity];
+            priority = new long[capacity];
+            Arrays.fill(position, -1);
+            size = 0;
+        } else {
+            clear();
+        }
+    }
+
+    void resetCounters() {
+        pushCount = 0;
+        popCount = 0;
+        peakSize = 0;
+    }
+
+    /**
+     * Gets the bytes held by the heap's arrays.
+     */
+    long footprintBytes() {
+        return 16L * position.length;
+    }
+
+    /**
+     * Makes room for indices in {@code [0, capacity)} without removing queued entries.
+     */
+    void grow(int capacity) {
+        int old = position.length;
+        if (old < capacity) {
+            heap = Arrays.copyOf(heap, capacity);
+            position = Arrays.copyOf(position, capacity);
+            priority = Arrays.copyOf(priority, capacity);
+            Arrays.fill(position, old, capacity, -1);
+        }
+    }
+
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            position[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean contains(int index) {
+        return position[index] >= 0;
+    }
+
+    /**
+     * Returns the index with the smallest priority without removing it.
+     */
+    int peek() {
+        return heap[0];
+    }
+
+    long priorityOf(int index) {
+        return priority[index];
+    }
+
+    /**
+     * Gets the index at a heap position in {@code [0, size())}, for scans in no particular order.
+     */
+    int at(int pos) {
+        return heap[pos];
+    }
+
+    /**
+     * Recomputes the priority of every queued index and restores the heap order in O(n).
+     */
+    void reprioritize(IntToLongFunction priorities) {
+        for (int pos = 0; pos < size; pos++) {
+            priority[heap[pos]] = priorities.applyAsLong(heap[pos]);
+        }
+        for (int pos = (size >>> 1) - 1; pos >= 0; pos--) {
+            siftDown(pos);
+        }
+    }
+
+    /**
+     * Inserts the index, or lowers its priority if it is already queued with a higher one.
+     * @return true if the heap changed
+     */
+    boolean offer(int index, long newPriority) {
+        int pos = position[index];
+        if (pos < 0) {
+            priority[index] = newPriority;
+            heap[size] = index;
+            position[index] = size;
+            siftUp(size++);
+            pushCount++;
+            if (size > peakSize) {
+                peakSize = size;
+            }
+            return true;
+        }
+        if (newPriority < priority[index]) {
+            priority[index] = newPriority;
+            siftUp(pos);
+            pushCount++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Inserts the index, or moves it to the new priority whether that is lower or higher.
+     */
+    void update(int index, long newPriority) {
+        int pos = position[index];
+        if (pos < 0) {
+            offer(index, newPriority);
+            return;
+        }
+        long oldPriority = priority[index];
+        priority[index] = newPriority;
+        pushCount++;
+        if (newPriority < oldPriority) {
+            siftUp(pos);
+        } else {
+            siftDown(pos);
+        }
+    }
+
+    /**
+     * Removes the index if it is queued.
+     */
+    void remove(int index) {
+        int pos = position[index];
+        if (pos < 0) {
+            return;
+        }
+        position[index] = -1;
+        popCount++;
+        int last = heap[--size];
+        if (pos == size) {
+            return;
+        }
+        heap[pos] = last;
+        position[last] = pos;
+        siftDown(pos);
+        if (heap[pos] == last) {
+            siftUp(pos);
+        }
+    }
+
+    /**
+     * Removes and returns the index with the smallest priority.
+     */
+    int poll() {
+        popCount++;
+        int top = heap[0];
+        position[top] = -1;
+        int last = heap[--size];
+        if (size > 0) {
+            heap[0] = last;
+            position[last] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    private void siftUp(int pos) {
+        int index = heap[pos];
+        long key = priority[index];
+        while (pos > 0) {
+            int parentPos = (pos - 1) >>> 1;
+            int parent = heap[parentPos];
+            if (priority[parent] <= key) {
+                break;
+            }
+            heap[pos] = parent;
+            position[parent] = pos;
+            pos = parentPos;
+        }
+        heap[pos] = index;
+        position[index] = pos;
+    }
+
+    private void siftDown(int pos) {
+        int index = heap[pos];
+        long key = priority[index];
+        int half = size >>> 1;
+        while (pos < half) {
+            int childPos = 2 * pos + 1;
+            int child = heap[childPos];
+            if (childPos + 1 < size && priority[heap[childPos + 1]] < priority[child]) {
+                child = heap[++childPos];
+            }
+            if (key <= priority[child]) {
+                break;
+            }
+            heap[pos] = child;
+            position[child] = pos;
+            pos = childPos;
+        }
+        heap[pos] = index;
+        position[index] = pos;
+    }
+}
@@ -0,0 +1,211 @@
+package com.mazesolver.algorithm;
+
+import com.mazesolver.model.Cell;
+import com.mazesolver.model.GridGraph;
+import com.mazesolver.model.Maze;
+import com.mazesolver.model.MovementModel;
+import java.util.*;
+
+/**
+ * IDA*: repeated depth-first searches bounded by an f-score threshold, raising the threshold
+ * to the smallest f-score that exceeded it until the end cell is found.
+ * Only the current path is kept, as an explicit stack, plus one bit per cell marking the cells
+ * on that path, so memory grows with the path length instead of the maze size. The price is
+ * CPU: cells are expanded again in every iteration and once per route that reaches them.
+ * <p>
+ * The node budget caps the stack depth. Branches that would need more stack entries are cut,
+ * so a path longer than the budget is not found.
+ */
+public class IterativeDeepeningAStarAlgorithm extends AbstractPathfindingAlgorithm {
+
+    public static final int DEFAULT_NODE_BUDGET = 1 << 20;
+
+    private static final int INFINITE = Integer.MAX_VALUE;
+
+    private volatile int nodeBudget;
+
+    public IterativeDeepeningAStarAlgorithm() {
+        this(DEFAULT_NODE_BUDGET);
+    }
+
+    public IterativeDeepeningAStarAlgorithm(int nodeBudget) {
+        setNodeBudget(nodeBudget);
+    }
+
+    @Override
+    public String getName() {
+        return "IDA* (Iterative Deepening)";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(b^d) worst case";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(d) stack + V bits";
+    }
+
+    public int getNodeBudget() {
+        return nodeBudget;
+    }
+
+    /**
+     * Sets the largest number of cells the search may hold on its stack.
+     */
+    public void setNodeBudget(int nodeBudget) {
+        if (nodeBudget < 1) {
+            throw new IllegalArgumentException("Node budget must be positive: " + nodeBudget);
+        }
+        this.nodeBudget = nodeBudget;
+    }
+
+    @Override
+    public String getConfiguration() {
+        return "nodeBudget=" + nodeBudget;
+    }
+
+    @Override
+    public boolean supportsMovementModel(MovementModel movement) {
+        return true;
+    }
+
+    @Override
+    protected List<Cell> findPathImplementation(SearchContext context, Maze maze, Cell start, Cell end) {
+        GridGraph graph = maze.getGraph();
+        MovementModel movement = context.movement;
+        int source = graph.index(start);
+        int target = graph.index(end);
+        int budget = nodeBudget;
+        PathStack stack = context.state(PathStack::new);
+        stack.prepare(graph.size());
+
+        int threshold = estimate(graph, movement, source, target);
+        long expansions = 0;
+        while (true) {
+            int nextThreshold = INFINITE;
+            int depth = 0;
+            stack.push(0, source, 0, graph.neighborMask(source, movement));
+            context.visitedCells++;
+            if (source == target) {
+                return found(context, maze, graph, stack, 0);
+            }
+
+            while (depth >= 0) {
+                int pending = stack.pending[depth] & 0xFF;
+                if (pending == 0) {
+                    stack.leave(stack.cell[depth]);
+                    depth--;
+                    continue;
+                }
+                int direction = Integer.numberOfTrailingZeros(pending);
+                stack.pending[depth] = (byte) (pending & (pending - 1));
+                int current = stack.cell[depth];
+                int neighbor = current + graph.step(direction);
+                if (stack.isOnPath(neighbor)) {
+                    continue;
+                }
+
+                int g = stack.g[depth] + graph.cost(neighbor) * movement.stepLength(direction);
+                int f = g + estimate(graph, movement, neighbor, target);
+                if (f > threshold) {
+                    nextThreshold = Math.min(nextThreshold, f);
+                    continue;
+                }
+                if (depth + 1 >= budget) {
+                    context.budgetExhausted = true;
+                    continue; // the path to this neighbor does not fit in the budget
+                }
+
+                // The previous cell is on the path anyway, so leave its direction out up front
+                int mask = graph.neighborMask(neighbor, movement) & ~(1 << GridGraph.opposite(direction));
+                stack.push(++depth, neighbor, g, mask);
+                context.visitedCells++;
+                context.generatedNodes += Integer.bitCount(mask);
+                context.frontier(depth + 1);
+                if (neighbor == target) {
+                    return found(context, maze, graph, stack, depth);
+                }
+                if (context.shouldStop(++expansions)) {
+                    return abandon(context, stack, depth);
+                }
+            }
+
+            if (nextThreshold == INFINITE) {
+                context.memory(stack.footprintBytes());
+                return List.of();
+            }
+            threshold = nextThreshold;
+        }
+    }
+
+    private List<Cell> found(SearchContext context, Maze maze, GridGraph graph, PathStack stack, int depth) {
+        context.memory(stack.footprintBytes());
+        List<Cell> path = toCells(maze, graph, Arrays.copyOf(stack.cell, depth + 1));
+        stack.clearPath(depth);
+        return path;
+    }
+
+    private List<Cell> abandon(SearchContext context, PathStack stack, int depth) {
+        context.memory(stack.footprintBytes());
+        stack.clearPath(depth);
+        return List.of();
+    }
+
+    private static int estimate(GridGraph graph, MovementModel movement, int cell, int target) {
+        return movement.distance(graph, cell, target) * graph.minCost();
+    }
+
+    /**
+     * The current path as parallel arrays indexed by depth, grown by doubling, and a bitset
+     * of the cells on it. Kept in the search context and reused by later searches.
+     */
+    private static final class PathStack {
+
+        int[] cell = new int[64];
+        int[] g = new int[64];
+        byte[] pending = new byte[64];
+        private long[] onPath = new long[0];
+
+        void prepare(int size) {
+            int words = (size + 63) >>> 6;
+            if (onPath.length < words) {
+                onPath = new long[words];
+            }
+        }
+
+        void push(int depth, int index, int gScore, int mask) {
+            if (depth == cell.length) {
+                cell = Arrays.copyOf(cell, depth * 2);
+                g = Arrays.copyOf(g, depth * 2);
+                pending = Arrays.copyOf(pending, depth * 2);
+            }
+            cell[depth] = index;
+            g[depth] = gScore;
+            pending[depth] = (byte) mask;
+            onPath[index >>> 6] |= 1L << index;
+        }
+
+        boolean isOnPath(int index) {
+            return (onPath[index >>> 6] & (1L << index)) != 0;
+        }
+
+        void leave(int index) {
+            onPath[index >>> 6] &= ~(1L << index);
+        }
+
+        /**
+         * Clears the on-path bits of an abandoned stack so the bitset is empty for the next search.
+         */
+        void clearPath(int depth) {
+            for (int i = 0; i <= depth; i++) {
+                leave(cell[i]);
+            }
+        }
+
+        long footprintBytes() {
+            return 9L * cell.length + 8L * onPath.length;
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.mazesolver.algorithm;
+
+import com.mazesolver.model.Cell;
+import com.mazesolver.model.GridGraph;
+import com.mazesolver.model.Maze;
+import java.util.*;
+
+/**
+ * Jump Point Search for 4-connected grids.
+ * A* over "jump points" only: straight runs are skipped with 64-cell row scans until a
+ * forced neighbor, the goal, or (for vertical runs) a horizontal branch appears, which
+ * prunes symmetric paths through open areas while keeping the result optimal.
+ */
+public class JumpPointSearchAlgorithm extends AbstractPathfindingAlgorithm {
+
+    @Override
+    public String getName() {
+        return "Jump Point Search";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O((V + E) log V)";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(V)";
+    }
+
+    @Override
+    protected List<Cell> findPathImplementation(SearchContext context, Maze maze, Cell start, Cell end) {
+        GridGraph graph = maze.getGraph();
+        int source = graph.index(start);
+        int target = graph.index(end);
+        Jumper jumper = context.state(Jumper::new);
+        jumper.prepare(graph, target);
+        SearchBuffers buffers = context.buffers;
+        IndexedMinHeap openSet = context.openSet;
+        buffers.prepare(graph.size());
+        openSet.reset(graph.size());
+
+        buffers.reach(source, -1, 0);
+        openSet.offer(source, priority(graph.manhattan(source, target), 0));
+
+        while (!openSet.isEmpty()) {
+            int current = openSet.poll();
+
+            if (current == target) {
+                break;
+            }
+
+            buffers.close(current);
+            context.visitedCells++;
+            if (context.shouldStop(context.visitedCells)) {
+                return List.of();
+            }
+
+            int row = graph.rowOf(current);
+            int col = graph.colOf(current);
+            int directions = successorDirections(graph, buffers, current, row, col);
+            while (directions != 0) {
+                int direction = Integer.numberOfTrailingZeros(directions);
+                directions &= directions - 1;
+
+                int jumpPoint = jumper.jump(row, col, direction);
+                if (jumpPoint < 0) {
+                    continue;
+                }
+                context.generatedNodes++; // successors are jump points, not adjacent cells
+                if (buffers.isClosed(jumpPoint)) {
+                    continue;
+                }
+
+                int tentativeGScore = buffers.distance[current] + graph.manhattan(current, jumpPoint);
+                if (!buffers.isReached(jumpPoint) || tentativeGScore < buffers.distance[jumpPoint]) {
+                    buffers.reach(jumpPoint, current, tentativeGScore);
+                    openSet.offer(jumpPoint, priority(tentativeGScore + graph.manhattan(jumpPoint, target), tentativeGScore));
+                }
+            }
+        }
+
+        return buffers.isReached(target) ? expandJumpPoints(maze, graph, buffers, target) : List.of();
+    }
+
+    /**
+     * Pruned successor directions: everything from the start, otherwise straight ahead
+     * plus the two perpendicular directions.
+     */
+    private static int successorDirections(GridGraph graph, SearchBuffers buffers, int current, int row, int col) {
+        int parent = buffers.parent[current];
+        int mask = graph.neighborMask(current);
+        if (parent < 0) {
+            return mask;
+        }
+        int parentRow = graph.rowOf(parent);
+        int parentCol = graph.colOf(parent);
+        if (parentRow == row) {
+            int ahead = col > parentCol ? GridGraph.RIGHT : GridGraph.LEFT;
+            return mask & ((1 << GridGraph.UP) | (1 << GridGraph.DOWN) | (1 << ahead));
+        }
+        int ahead = row > parentRow ? GridGraph.DOWN : GridGraph.UP;
+        return mask & ((1 << GridGraph.LEFT) | (1 << GridGraph.RIGHT) | (1 << ahead));
+    }
+
+    /**
+     * Expands the chain of jump points into the full cell-by-cell path.
+     */
+    private static List<Cell> expandJumpPoints(Maze maze, GridGraph graph, SearchBuffers buffers, int target) {
+        List<Cell> path = new ArrayList<>(buffers.distance[target] + 1);
+        int jumpPoints = 0;
+        for (int index = target; index != -1; index = buffers.parent[index]) {
+            jumpPoints++;
+        }
+        int[] chain = new int[jumpPoints];
+        int position = jumpPoints;
+        for (int index = target; index != -1; index = buffers.parent[index]) {
+            chain[--position] = index;
+        }
+
+        int row = graph.rowOf(chain[0]);
+        int col = graph.colOf(chain[0]);
+        path.add(maze.getCell(row, col));
+        for (int i = 1; i < chain.length; i++) {
+            int nextRow = graph.rowOf(chain[i]);
+            int nextCol = graph.colOf(chain[i]);
+            int dr = Integer.signum(nextRow - row);
+            int dc = Integer.signum(nextCol - col);
+            while (row != nextRow || col != nextCol) {
+                row += dr;
+                col += dc;
+                path.add(maze.getCell(row, col));
+            }
+        }
+        return path;
+    }
+
+    private static long priority(int fScore, int gScore) {
+        return ((long) fScore << 32) - gScore;
+    }
+
+    /**
+     * Jump scans for one search; kept in the search context and re-targeted per search.
+     */
+    private static final class Jumper {
+        private GridGraph graph;
+        private int target;
+        private int targetRow;
+        private int targetCol;
+
+        void prepare(GridGraph graph, int target) {
+            this.graph = graph;
+            this.target = target;
+            this.targetRow = graph.rowOf(target);
+            this.targetCol = graph.colOf(target);
+        }
+
+        int jump(int row, int col, int direction) {
+            if (direction == GridGraph.LEFT || direction == GridGraph.RIGHT) {
+                int dx = GridGraph.colDelta(direction);
+                return jumpHorizontal(row, col + dx, dx);
+            }
+            int dy = GridGraph.rowDelta(direction);
+            return jumpVertical(row + dy, col, dy);
+        }
+
+        /**
+         * Scans a row from column {@code x} in direction {@code dx}, 64 cells per step.
+         * Stops at the goal or at a cell whose upper or lower neighbor opens up where the
+         * previous cell's did not (a forced neighbor). Returns -1 if a wall comes first.
+         */
+        private int jumpHorizontal(int row, int x, int dx) {
+            int cols = graph.getCols();
+            if (x < 0 || x >= cols) {
+                return -1;
+            }
+            int targetWord = targetRow == row ? targetCol >>> 6 : -1;
+
+            if (dx > 0) {
+                long mask = -1L << (x & 63);
+                for (int w = x >>> 6; w < graph.wordsPerRow(); w++) {
+                    long here = graph.rowWord(row, w);
+                    long up = graph.rowWord(row - 1, w);
+                    long down = graph.rowWord(row + 1, w);
+                    long upBehind = (up << 1) | (graph.rowWord(row - 1, w - 1) >>> 63);
+                    long downBehind = (down << 1) | (graph.rowWord(row + 1, w - 1) >>> 63);
+                    long events = ~here | (up & ~upBehind) | (down & ~downBehind);
+                    if (w == targetWord) {
+                        events |= 1L << targetCol;
+                    }
+                    events &= mask;
+                    if (events != 0) {
+                        int c = (w << 6) + Long.numberOfTrailingZeros(events);
+                        return c < cols && (here & (1L << c)) != 0 ? graph.index(row, c) : -1;
+                    }
+                    mask = -1L;
+                }
+            } else {
+                long mask = -1L >>> (63 - (x & 63));
+                for (int w = x >>> 6; w >= 0; w--) {
+                    long here = graph.rowWord(row, w);
+                    long up = graph.rowWord(row - 1, w);
+                    long down = graph.rowWord(row + 1, w);
+                    long upBehind = (up >>> 1) | (graph.rowWord(row - 1, w + 1) << 63);
+                    long downBehind = (down >>> 1) | (graph.rowWord(row + 1, w + 1) << 63);
+                    long events = ~here | (up & ~upBehind) | (down & ~downBehind);
+                    if (w == targetWord) {
+                        events |= 1L << targetCol;
+                    }
+                    events &= mask;
+                    if (events != 0) {
+                        int c = (w << 6) + 63 - Long.numberOfLeadingZeros(events);
+                        return (here & (1L << c)) != 0 ? graph.index(row, c) : -1;
+                    }
+                    mask = -1L;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Walks a column from {@code row} in direction {@code dy}. A cell is a jump point if it is
+         * the goal, has a forced side neighbor, or a horizontal jump from it finds a jump point.
+         */
+        private int jumpVertical(int row, int col, int dy) {
+            while (row >= 0 && row < graph.getRows()) {
+                int index = graph.index(row, col);
+                if (!graph.isWalkable(index)) {
+                    return -1;
+                }
+                if (index == target) {
+                    return index;
+                }
+                if ((isOpen(row, col - 1) && !isOpen(row - dy, col - 1))
+                        || (isOpen(row, col + 1) && !isOpen(row - dy, col + 1))) {
+                    return index;
+                }
+                if (jumpHorizontal(row, col + 1, 1) >= 0 || jumpHorizontal(row, col - 1, -1) >= 0) {
+                    return index;
+                }
+                row += dy;
+            }
+            return -1;
+        }
+
+        private boolean isOpen(int row, int col) {
+            return col >= 0 && ((graph.rowWord(row, col >>> 6) >>> col) & 1L) != 0;
+        }
+    }
+}
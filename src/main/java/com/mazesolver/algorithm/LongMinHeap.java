@@ -0,0 +1,100 @@
+package com.mazesolver.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap of primitive longs.
+ * Searches pack a priority into the high 32 bits and a cell index into the low 32 bits,
+ * which avoids boxing and comparator callbacks.
+ */
+final class LongMinHeap {
+
+    private long[] heap = new long[64];
+    private int size;
+
+    // Operation counters for search metrics; cleared by resetCounters()
+    long pushCount;
+    long popCount;
+    int peakSize;
+
+    static long pack(int priority, int index) {
+        return ((long) priority << 32) | (index & 0xFFFFFFFFL);
+    }
+
+    static int priorityOf(long entry) {
+        return (int) (entry >> 32);
+    }
+
+    static int indexOf(long entry) {
+        return (int) entry;
+    }
+
+    void resetCounters() {
+        pushCount = 0;
+        popCount = 0;
+        peakSize = 0;
+    }
+
+    long footprintBytes() {
+        return 8L * heap.length;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long peek() {
+        return heap[0];
+    }
+
+    void push(long value) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+        int i = size++;
+        pushCount++;
+        if (size > peakSize) {
+            peakSize = size;
+        }
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heap[parent] <= value) {
+                break;
+            }
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = value;
+    }
+
+    long pop() {
+        popCount++;
+        long top = heap[0];
+        long last = heap[--size];
+        int i = 0;
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (last <= heap[child]) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        if (size > 0) {
+            heap[i] = last;
+        }
+        return top;
+    }
+}
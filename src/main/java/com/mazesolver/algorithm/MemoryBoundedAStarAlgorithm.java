@@ -0,0 +1,492 @@
+package com.mazesolver.algorithm;
+
+import com.mazesolver.model.Cell;
+import com.mazesolver.model.GridGraph;
+import com.mazesolver.model.Maze;
+import com.mazesolver.model.MovementModel;
+import java.util.*;
+
+/**
+ * Simplified memory-bounded A* (SMA*): best-first search over a tree of search nodes that never
+ * holds more nodes than its budget. The best node generates one successor at a time; when the
+ * budget is full, the shallowest leaf with the highest f-score is forgotten and its f-score is
+ * remembered by its parent, which regenerates that branch only once nothing cheaper is left.
+ * f-scores never decrease along a branch (pathmax), and a node whose successors have all been
+ * generated takes the smallest f-score among them, so the path is optimal whenever the optimal
+ * path fits in the budget. The price is CPU spent regenerating forgotten branches.
+ * <p>
+ * A successor is skipped when a node for the same cell is already held at no higher cost,
+ * and replaces a held leaf for that cell at a higher cost, which keeps duplicate routes from
+ * filling the budget. Because forgotten duplicates can no longer be told apart, a budget much
+ * smaller than the search can make branches of one f-score evict each other indefinitely; the
+ * search then gives up and reports no path. Node arrays grow by doubling up to the budget, so
+ * small searches stay small.
+ */
+public class MemoryBoundedAStarAlgorithm extends AbstractPathfindingAlgorithm {
+
+    public static final int DEFAULT_NODE_BUDGET = 1 << 18;
+
+    private static final int INFINITE = Integer.MAX_VALUE;
+
+    // Expansions per budget node allowed without the lowest f-score rising
+    private static final int STALL_FACTOR = 64;
+
+    private volatile int nodeBudget;
+
+    public MemoryBoundedAStarAlgorithm() {
+        this(DEFAULT_NODE_BUDGET);
+    }
+
+    public MemoryBoundedAStarAlgorithm(int nodeBudget) {
+        setNodeBudget(nodeBudget);
+    }
+
+    @Override
+    public String getName() {
+        return "SMA* (Memory-Bounded)";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(b^d) worst case";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(node budget)";
+    }
+
+    public int getNodeBudget() {
+        return nodeBudget;
+    }
+
+    /**
+     * Sets the largest number of search nodes held at once; a path needs one node per cell.
+     */
+    public void setNodeBudget(int nodeBudget) {
+        if (nodeBudget < 2) {
+            throw new IllegalArgumentException("Node budget must be at least 2: " + nodeBudget);
+        }
+        this.nodeBudget = nodeBudget;
+    }
+
+    @Override
+    public String getConfiguration() {
+        return "nodeBudget=" + nodeBudget;
+    }
+
+    @Override
+    public boolean supportsMovementModel(MovementModel movement) {
+        return true;
+    }
+
+    @Override
+    protected List<Cell> findPathImplementation(SearchContext context, Maze maze, Cell start, Cell end) {
+        GridGraph graph = maze.getGraph();
+        MovementModel movement = context.movement;
+        int source = graph.index(start);
+        int target = graph.index(end);
+        IndexedMinHeap open = context.openSet;
+        Nodes nodes = context.state(Nodes::new);
+        nodes.reset(nodeBudget, open);
+
+        int root = nodes.add(source, -1, 0, 0, estimate(graph, movement, source, target), 0,
+                graph.neighborMask(source, movement));
+        if (nodes.pending[root] != 0 || source == target) {
+            open.offer(root, openPriority(nodes, root)); // a boxed-in start cell has nothing to expand
+        }
+
+        long expansions = 0;
+        long stallLimit = (long) STALL_FACTOR * nodes.limit;
+        int level = -1;
+        long levelExpansions = 0;
+        while (!open.isEmpty()) {
+            int best = open.peek();
+            int score = openScore(nodes, best);
+            if (score == INFINITE) {
+                context.budgetExhausted = true;
+                break; // every remaining branch needs more nodes than the budget
+            }
+            if (score > level) {
+                level = score;
+                levelExpansions = 0;
+            } else if (++levelExpansions > stallLimit) {
+                context.budgetExhausted = true;
+                break; // the budget cannot hold this f-score's branches, so they keep evicting each other
+            }
+            if (nodes.cell[best] == target) {
+                context.memory(nodes.footprintBytes());
+                return path(maze, graph, nodes, best);
+            }
+            if (context.shouldStop(++expansions)) {
+                break;
+            }
+            context.visitedCells++;
+
+            // Generate the best node's cheapest pending successor. Its pending bit stays set until
+            // the child is attached: that pins the node and its ancestors, since making room
+            // below only frees nodes with neither children nor pending successors.
+            int direction = cheapestPending(nodes, best);
+            int neighbor = nodes.cell[best] + graph.step(direction);
+            int g = nodes.g[best] + graph.cost(neighbor) * movement.stepLength(direction);
+            int depth = nodes.depth[best] + 1;
+            int mask = graph.neighborMask(neighbor, movement) & ~(1 << GridGraph.opposite(direction));
+            context.generatedNodes++;
+
+            // Dead ends and nodes too deep to have a child within the budget can never lead to the end cell
+            boolean useful = depth < nodes.limit && (neighbor == target || (mask != 0 && depth + 2 <= nodes.limit));
+            if (!useful && (neighbor == target || mask != 0)) {
+                context.budgetExhausted = true; // pruned for depth, not as a dead end
+            }
+            int held = nodes.find(neighbor);
+            if (useful && (held < 0 || g < nodes.g[held])) {
+                // A regenerated successor starts from the f-score it had when it was forgotten
+                int bound = pendingBound(nodes, best, direction);
+                if (held >= 0 && nodes.childMask[held] == 0) {
+                    discard(nodes, open, held); // the new node dominates it
+                }
+                // Discarding may have emptied the best node's subtree and queued it as a leaf
+                nodes.leaves.remove(best);
+                if (nodes.size == nodes.limit) {
+                    forget(nodes, open, best);
+                }
+                int child = nodes.add(neighbor, best, direction, g,
+                        Math.max(bound, g + estimate(graph, movement, neighbor, target)), depth, mask);
+                nodes.leaves.offer(child, leafPriority(nodes, child));
+                open.offer(child, openPriority(nodes, child));
+            }
+            nodes.pending[best] &= (byte) ~(1 << direction);
+
+            if (nodes.pending[best] == 0) {
+                // All successors are held or pruned, so the node now only matters through them
+                open.remove(best);
+                backUp(nodes, best);
+            } else {
+                open.update(best, openPriority(nodes, best));
+            }
+        }
+
+        context.memory(nodes.footprintBytes());
+        return List.of();
+    }
+
+    /**
+     * Drops the shallowest leaf with the highest f-score, never {@code protect}, and records its
+     * f-score in its parent so the branch can be regenerated.
+     */
+    private static void forget(Nodes nodes, IndexedMinHeap open, int protect) {
+        int leaf = nodes.leaves.poll();
+        int parent = nodes.parent[leaf];
+        int direction = nodes.direction[leaf];
+        int score = nodes.f[leaf];
+        nodes.remove(leaf);
+        if (score != INFINITE) {
+            // The parent's child slot for this direction holds the forgotten f-score until regeneration
+            nodes.children[parent * GridGraph.ALL_DIRECTIONS + direction] = score;
+            nodes.pending[parent] |= (byte) (1 << direction);
+            open.update(parent, openPriority(nodes, parent));
+        }
+        if (nodes.childMask[parent] == 0 && parent != protect && nodes.parent[parent] >= 0) {
+            nodes.leaves.offer(parent, leafPriority(nodes, parent));
+        }
+    }
+
+    /**
+     * Removes a leaf that a cheaper node for the same cell has replaced. Its branch is not
+     * remembered, since every path through it is at least as long through the cheaper node.
+     */
+    private static void discard(Nodes nodes, IndexedMinHeap open, int leaf) {
+        int parent = nodes.parent[leaf];
+        nodes.remove(leaf);
+        if (nodes.pending[parent] == 0) {
+            open.remove(parent);
+            backUp(nodes, parent);
+        } else if (nodes.childMask[parent] == 0 && nodes.parent[parent] >= 0) {
+            nodes.leaves.offer(parent, leafPriority(nodes, parent));
+        }
+    }
+
+    /**
+     * Raises the f-scores of nodes without pending successors to the smallest f-score of
+     * their children, walking up while values change. Nodes left without any
+     * successor are dead ends within the budget and are dropped.
+     */
+    private static void backUp(Nodes nodes, int node) {
+        while (node >= 0 && nodes.pending[node] == 0) {
+            int value = INFINITE;
+            int children = nodes.childMask[node] & 0xFF;
+            while (children != 0) {
+                int direction = Integer.numberOfTrailingZeros(children);
+                children &= children - 1;
+                value = Math.min(value, nodes.f[nodes.children[node * GridGraph.ALL_DIRECTIONS + direction]]);
+            }
+
+            int parent = nodes.parent[node];
+            if (value == INFINITE && nodes.childMask[node] == 0 && parent >= 0) {
+                nodes.remove(node);
+                if (nodes.childMask[parent] == 0 && nodes.parent[parent] >= 0) {
+                    nodes.leaves.offer(parent, leafPriority(nodes, parent));
+                }
+                node = parent;
+                continue;
+            }
+            if (value == nodes.f[node]) {
+                break;
+            }
+            nodes.f[node] = value;
+            node = parent;
+        }
+    }
+
+    private List<Cell> path(Maze maze, GridGraph graph, Nodes nodes, int node) {
+        // Walk exactly depth + 1 slots, so a corrupted parent chain fails fast instead of looping
+        int[] indices = new int[nodes.depth[node] + 1];
+        int slot = node;
+        for (int i = indices.length - 1; i >= 0; i--) {
+            if (slot < 0 || nodes.depth[slot] != i) {
+                throw new IllegalStateException("Broken parent chain at depth " + i);
+            }
+            indices[i] = nodes.cell[slot];
+            slot = nodes.parent[slot];
+        }
+        if (slot >= 0) {
+            throw new IllegalStateException("Parent chain longer than the node's depth");
+        }
+        return toCells(maze, graph, indices);
+    }
+
+    private static int estimate(GridGraph graph, MovementModel movement, int cell, int target) {
+        return movement.distance(graph, cell, target) * graph.minCost();
+    }
+
+    /**
+     * Gets the lower bound on the f-score of a pending successor: the node's own f-score for
+     * a successor never generated, the remembered f-score for a forgotten one.
+     */
+    private static int pendingBound(Nodes nodes, int node, int direction) {
+        return Math.max(nodes.f[node], nodes.children[node * GridGraph.ALL_DIRECTIONS + direction]);
+    }
+
+    /**
+     * Gets the direction of the pending successor with the lowest bound. Generating the cheapest
+     * one first keeps two forgotten siblings of equal f-score from evicting each other forever.
+     */
+    private static int cheapestPending(Nodes nodes, int node) {
+        int pending = nodes.pending[node] & 0xFF;
+        int best = Integer.numberOfTrailingZeros(pending);
+        int bestBound = pendingBound(nodes, node, best);
+        for (pending &= pending - 1; pending != 0; pending &= pending - 1) {
+            int direction = Integer.numberOfTrailingZeros(pending);
+            int bound = pendingBound(nodes, node, direction);
+            if (bound < bestBound) {
+                best = direction;
+                bestBound = bound;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Gets the f-score a queued node is selected by: the lowest bound among its pending successors.
+     */
+    private static int openScore(Nodes nodes, int node) {
+        if (nodes.pending[node] == 0) {
+            return nodes.f[node]; // the end cell, queued for its goal test
+        }
+        return pendingBound(nodes, node, cheapestPending(nodes, node));
+    }
+
+    /**
+     * Lower f-score first, and among equal f-scores the deeper node first.
+     */
+    private static long openPriority(Nodes nodes, int node) {
+        return ((long) openScore(nodes, node) << 32) | (Integer.MAX_VALUE - nodes.depth[node]);
+    }
+
+    /**
+     * Higher f-score first, and among equal f-scores the shallower node first.
+     */
+    private static long leafPriority(Nodes nodes, int node) {
+        return ((long) (INFINITE - nodes.f[node]) << 32) | nodes.depth[node];
+    }
+
+    /**
+     * Node slots as parallel arrays, a cell-to-slot table for duplicate checks and the heap of
+     * leaves to forget. Kept in the search context and reused by later searches.
+     */
+    private static final class Nodes {
+
+        private static final int INITIAL_CAPACITY = 1024;
+        private static final int EMPTY = -1;
+
+        int[] cell = new int[0];
+        int[] parent = new int[0];
+        int[] g = new int[0];
+        int[] f = new int[0];
+        int[] depth = new int[0];
+        // Per direction: the child's slot where childMask has the direction's bit, otherwise the
+        // f-score of a forgotten successor, or 0 for one never generated
+        int[] children = new int[0];
+        byte[] direction = new byte[0];
+        byte[] pending = new byte[0];
+        byte[] childMask = new byte[0];
+        private int[] free = new int[0];
+        private int[] tableKeys = new int[0];
+        private int[] tableSlots = new int[0];
+        private int tableMask;
+
+        final IndexedMinHeap leaves = new IndexedMinHeap();
+        private IndexedMinHeap open;
+
+        int limit;
+        int size;
+        private int next;
+        private int freeCount;
+
+        void reset(int budget, IndexedMinHeap openSet) {
+            limit = budget;
+            size = 0;
+            next = 0;
+            freeCount = 0;
+            open = openSet;
+            if (cell.length == 0) {
+                resize(Math.min(budget, INITIAL_CAPACITY));
+            }
+            Arrays.fill(tableKeys, EMPTY);
+            leaves.reset(cell.length);
+            open.reset(cell.length);
+        }
+
+        int add(int index, int parentSlot, int dir, int gScore, int fScore, int nodeDepth, int mask) {
+            int slot;
+            if (freeCount > 0) {
+                slot = free[--freeCount];
+            } else {
+                if (next == cell.length) {
+                    resize(Math.min(limit, cell.length * 2));
+                }
+                slot = next++;
+            }
+            cell[slot] = index;
+            parent[slot] = parentSlot;
+            direction[slot] = (byte) dir;
+            g[slot] = gScore;
+            f[slot] = fScore;
+            depth[slot] = nodeDepth;
+            pending[slot] = (byte) mask;
+            childMask[slot] = 0;
+            Arrays.fill(children, slot * GridGraph.ALL_DIRECTIONS, (slot + 1) * GridGraph.ALL_DIRECTIONS, 0);
+            if (parentSlot >= 0) {
+                children[parentSlot * GridGraph.ALL_DIRECTIONS + dir] = slot;
+                childMask[parentSlot] |= (byte) (1 << dir);
+            }
+            put(index, slot);
+            size++;
+            return slot;
+        }
+
+        /**
+         * Removes a node without children.
+         */
+        void remove(int slot) {
+            int parentSlot = parent[slot];
+            if (parentSlot >= 0) {
+                childMask[parentSlot] &= (byte) ~(1 << direction[slot]);
+            }
+            removeFromTable(cell[slot], slot);
+            leaves.remove(slot);
+            open.remove(slot);
+            free[freeCount++] = slot;
+            size--;
+        }
+
+        /**
+         * Gets the slot of the cheapest node held for a cell, or -1 if there is none.
+         */
+        int find(int index) {
+            for (int i = home(index); tableKeys[i] != EMPTY; i = (i + 1) & tableMask) {
+                if (tableKeys[i] == index) {
+                    return tableSlots[i];
+                }
+            }
+            return -1;
+        }
+
+        long footprintBytes() {
+            int capacity = cell.length;
+            return 27L * capacity + 4L * children.length + 8L * tableKeys.length + leaves.footprintBytes();
+        }
+
+        private void put(int index, int slot) {
+            int i = home(index);
+            while (tableKeys[i] != EMPTY && tableKeys[i] != index) {
+                i = (i + 1) & tableMask;
+            }
+            tableKeys[i] = index;
+            tableSlots[i] = slot;
+        }
+
+        private void removeFromTable(int index, int slot) {
+            int i = home(index);
+            while (tableKeys[i] != index) {
+                if (tableKeys[i] == EMPTY) {
+                    return;
+                }
+                i = (i + 1) & tableMask;
+            }
+            if (tableSlots[i] != slot) {
+                return; // the table points at a cheaper duplicate
+            }
+            // Backward-shift deletion keeps every probe sequence unbroken without tombstones
+            int j = i;
+            while (true) {
+                j = (j + 1) & tableMask;
+                if (tableKeys[j] == EMPTY) {
+                    break;
+                }
+                int k = home(tableKeys[j]);
+                if (((j - k) & tableMask) >= ((j - i) & tableMask)) {
+                    tableKeys[i] = tableKeys[j];
+                    tableSlots[i] = tableSlots[j];
+                    i = j;
+                }
+            }
+            tableKeys[i] = EMPTY;
+        }
+
+        private int home(int index) {
+            int hash = index * 0x9E3779B9;
+            return (hash ^ (hash >>> 16)) & tableMask;
+        }
+
+        private void resize(int capacity) {
+            cell = Arrays.copyOf(cell, capacity);
+            parent = Arrays.copyOf(parent, capacity);
+            g = Arrays.copyOf(g, capacity);
+            f = Arrays.copyOf(f, capacity);
+            depth = Arrays.copyOf(depth, capacity);
+            children = Arrays.copyOf(children, capacity * GridGraph.ALL_DIRECTIONS);
+            direction = Arrays.copyOf(direction, capacity);
+            pending = Arrays.copyOf(pending, capacity);
+            childMask = Arrays.copyOf(childMask, capacity);
+            free = Arrays.copyOf(free, capacity);
+            leaves.grow(capacity);
+            if (open != null) {
+                open.grow(capacity);
+            }
+
+            // Keep the table at most half full
+            int[] oldKeys = tableKeys;
+            int[] oldSlots = tableSlots;
+            tableKeys = new int[Integer.highestOneBit(capacity) * 4];
+            tableSlots = new int[tableKeys.length];
+            tableMask = tableKeys.length - 1;
+            Arrays.fill(tableKeys, EMPTY);
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY) {
+                    put(oldKeys[i], oldSlots[i]);
+                }
+            }
+        }
+    }
+}
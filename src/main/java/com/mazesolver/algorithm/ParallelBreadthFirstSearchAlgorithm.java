@@ -0,0 +1,224 @@
+package com.mazesolver.algorithm;
+
+import com.mazesolver.model.Cell;
+import com.mazesolver.model.GridGraph;
+import com.mazesolver.model.Maze;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Level-synchronous breadth-first search for very large grids.
+ * Each frontier level is split across a {@link ForkJoinPool}; workers claim cells with a
+ * compare-and-set on a shared stamp array and record parents in a primitive array, so the
+ * first claim fixes each cell's BFS distance and the result is still a shortest path.
+ * Levels smaller than the parallel threshold are expanded on the calling thread.
+ */
+public class ParallelBreadthFirstSearchAlgorithm extends AbstractPathfindingAlgorithm {
+
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 4096;
+
+    // Frontier cells per leaf task, and next-frontier slots reserved per claim batch
+    private static final int LEAF_SIZE = 1024;
+    private static final int BLOCK_SIZE = 64;
+    private static final VarHandle INTS = MethodHandles.arrayElementVarHandle(int[].class);
+
+    private final ForkJoinPool pool;
+    private final int parallelThreshold;
+
+    public ParallelBreadthFirstSearchAlgorithm() {
+        this(ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * @param pool Pool used to expand large levels
+     * @param parallelThreshold Minimum frontier size at which a level is expanded in parallel
+     */
+    public ParallelBreadthFirstSearchAlgorithm(ForkJoinPool pool, int parallelThreshold) {
+        this.pool = pool;
+        this.parallelThreshold = Math.max(1, parallelThreshold);
+    }
+
+    @Override
+    public String getName() {
+        return "Parallel BFS";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O((V + E) / P + D)";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(V)";
+    }
+
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    @Override
+    protected List<Cell> findPathImplementation(SearchContext context, Maze maze, Cell start, Cell end) {
+        GridGraph graph = maze.getGraph();
+        int source = graph.index(start);
+        int target = graph.index(end);
+        Levels levels = context.state(Levels::new);
+        levels.prepare(graph);
+
+        levels.claimed[source] = levels.epoch;
+        levels.parent[source] = -1;
+        levels.frontier[0] = source;
+        int frontierSize = 1;
+        context.frontier(1);
+
+        boolean cancelled = false;
+        while (frontierSize > 0 && levels.claimed[target] != levels.epoch) {
+            // Levels are coarse, so check for cancellation before each one rather than per cell
+            if (context.isCancelled()) {
+                cancelled = true;
+                break;
+            }
+            levels.nextSize.set(0);
+            int claimedBefore = levels.claims.get();
+            if (frontierSize >= parallelThreshold) {
+                pool.invoke(new ExpandTask(levels, 0, frontierSize));
+            } else {
+                levels.expand(0, frontierSize);
+            }
+            frontierSize = levels.nextSize.get();
+            // The reserved size includes unused block slots; the claim count is the real level size
+            context.frontier(levels.claims.get() - claimedBefore);
+
+            int[] swap = levels.frontier;
+            levels.frontier = levels.next;
+            levels.next = swap;
+        }
+        context.visitedCells = levels.expanded.get();
+        context.generatedNodes += levels.generated.get();
+        context.queuePushes += 1 + levels.claims.get();
+        context.queuePops += levels.expanded.get();
+
+        if (cancelled || levels.claimed[target] != levels.epoch) {
+            return List.of();
+        }
+        return buildPath(maze, graph, levels.parent, target);
+    }
+
+    /**
+     * Per-search state shared with the worker tasks; kept in the search context.
+     */
+    private static final class Levels {
+        private GridGraph graph;
+        private int[] claimed = new int[0];
+        private int[] parent = new int[0];
+        private int[] frontier = new int[0];
+        private int[] next = new int[0];
+        private int epoch;
+        private final AtomicInteger nextSize = new AtomicInteger();
+        private final AtomicInteger expanded = new AtomicInteger();
+        private final AtomicInteger claims = new AtomicInteger();
+        private final AtomicLong generated = new AtomicLong();
+
+        void prepare(GridGraph graph) {
+            this.graph = graph;
+            int size = graph.size();
+            if (claimed.length < size) {
+                claimed = new int[size];
+                parent = new int[size];
+                epoch = 0;
+            }
+            // Each leaf (at least LEAF_SIZE / 2 entries) may leave up to BLOCK_SIZE unused slots
+            int capacity = size + size / 4 + 2 * BLOCK_SIZE;
+            if (frontier.length < capacity) {
+                frontier = new int[capacity];
+                next = new int[capacity];
+            }
+            if (++epoch == Integer.MAX_VALUE) {
+                Arrays.fill(claimed, 0);
+                epoch = 1;
+            }
+            expanded.set(0);
+            claims.set(0);
+            generated.set(0);
+        }
+
+        /**
+         * Expands frontier entries {@code [from, to)}, claiming unvisited neighbors for the next level.
+         */
+        void expand(int from, int to) {
+            int blockPosition = 0;
+            int blockEnd = 0;
+            int count = 0;
+            int claimedCount = 0;
+            long generatedCount = 0;
+
+            for (int i = from; i < to; i++) {
+                int current = frontier[i];
+                if (current < 0) {
+                    continue; // unused slot of a reserved block
+                }
+                count++;
+
+                int mask = graph.neighborMask(current);
+                generatedCount += Integer.bitCount(mask);
+                while (mask != 0) {
+                    int direction = Integer.numberOfTrailingZeros(mask);
+                    mask &= mask - 1;
+                    int neighbor = current + graph.step(direction);
+                    int stamp = (int) INTS.getVolatile(claimed, neighbor);
+                    if (stamp == epoch || !INTS.compareAndSet(claimed, neighbor, stamp, epoch)) {
+                        continue;
+                    }
+                    parent[neighbor] = current;
+                    claimedCount++;
+                    if (blockPosition == blockEnd) {
+                        blockPosition = nextSize.getAndAdd(BLOCK_SIZE);
+                        blockEnd = blockPosition + BLOCK_SIZE;
+                    }
+                    next[blockPosition++] = neighbor;
+                }
+            }
+
+            // Mark the unused tail of the last reserved block
+            while (blockPosition < blockEnd) {
+                next[blockPosition++] = -1;
+            }
+            expanded.addAndGet(count);
+            claims.addAndGet(claimedCount);
+            generated.addAndGet(generatedCount);
+        }
+    }
+
+    /**
+     * Expands a slice of the current frontier into the next one.
+     */
+    private static final class ExpandTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Levels levels;
+        private final int from;
+        private final int to;
+
+        ExpandTask(Levels levels, int from, int to) {
+            this.levels = levels;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > LEAF_SIZE) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ExpandTask(levels, from, middle), new ExpandTask(levels, middle, to));
+                return;
+            }
+
+            levels.expand(from, to);
+        }
+    }
+}
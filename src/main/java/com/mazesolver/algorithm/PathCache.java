@@ -0,0 +1,224 @@
+package com.mazesolver.algorithm;
+
+import com.mazesolver.model.Cell;
+import com.mazesolver.model.Maze;
+import com.mazesolver.model.MovementModel;
+import com.mazesolver.model.Path;
+import java.util.*;
+
+/**
+ * Bounded LRU cache of search results, keyed by the maze's fingerprint, the start and end
+ * cells, the algorithm instance with its {@linkplain PathfindingAlgorithm#getConfiguration settings}
+ * and the movement model. Any edit that can change a path changes
+ * the fingerprint, so stale entries are never returned; they simply age out.
+ * <p>
+ * Paths are stored as the results' compact {@link Path}s rather than cells, so an entry pins no
+ * maze, takes a few bits per step, and a hit on an identical maze returns that maze's own cells. Entries are evicted least recently used first
+ * once their estimated size exceeds the memory cap. All methods are thread-safe.
+ */
+public class PathCache {
+
+    public static final long DEFAULT_MAX_BYTES = 16L * 1024 * 1024;
+
+    // Estimated bytes per entry besides the path: map node, key and value
+    private static final int ENTRY_OVERHEAD_BYTES = 112;
+
+    private final long maxBytes;
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public PathCache() {
+        this(DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * @param maxBytes Largest estimated size of all entries together
+     */
+    public PathCache(long maxBytes) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("Memory cap must be positive: " + maxBytes);
+        }
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Captures the key of a query against the maze and algorithm settings as they are now. Take
+     * the key before starting a search, so edits made while it runs cannot file its result under
+     * the wrong layout or settings.
+     */
+    public Key key(Maze maze, Cell start, Cell end, PathfindingAlgorithm algorithm, MovementModel movement) {
+        return new Key(maze.getFingerprint(), maze.getCols(), start.getRow() * maze.getCols() + start.getCol(),
+                end.getRow() * maze.getCols() + end.getCol(), algorithm, algorithm.getConfiguration(), movement);
+    }
+
+    /**
+     * Looks up a result, counting a hit or a miss.
+     * @return Cached result with the given maze's cells and the metrics of the original search,
+     *         or null on a miss
+     */
+    public SearchResult get(Key key, Maze maze) {
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+            if (entry == null) {
+                misses++;
+                return null;
+            }
+            hits++;
+        }
+        return new SearchResult(entry.path, maze, entry.metrics, entry.suboptimalityBound);
+    }
+
+    /**
+     * Stores a result unless it is only a best effort: a cancelled search, a search that ran out
+     * of its node or time budget, or an anytime search stopped before proving its path optimal
+     * may do better next time.
+     */
+    public void put(Key key, SearchResult result, CancellationToken cancellation) {
+        if ((cancellation != null && cancellation.isCancelled()) || result.isBudgetExhausted()
+                || result.getSuboptimalityBound() > 1) {
+            return;
+        }
+        Entry entry = new Entry(result.getCompactPath(), result.getMetrics(), result.getSuboptimalityBound());
+        if (entry.bytes() > maxBytes) {
+            return;
+        }
+        synchronized (this) {
+            Entry previous = entries.put(key, entry);
+            if (previous != null) {
+                bytes -= previous.bytes();
+            }
+            bytes += entry.bytes();
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (bytes > maxBytes) {
+                bytes -= eldest.next().bytes();
+                eldest.remove();
+                evictions++;
+            }
+        }
+    }
+
+    /**
+     * Returns the cached result of a 4-connected query, or runs the search and caches its result.
+     */
+    public SearchResult search(Maze maze, Cell start, Cell end, PathfindingAlgorithm algorithm) {
+        return search(maze, start, end, algorithm, MovementModel.FOUR_CONNECTED);
+    }
+
+    /**
+     * Returns the cached result of a query, or runs the search and caches its result.
+     */
+    public SearchResult search(Maze maze, Cell start, Cell end, PathfindingAlgorithm algorithm,
+                               MovementModel movement) {
+        Key key = key(maze, start, end, algorithm, movement);
+        SearchResult result = get(key, maze);
+        if (result == null) {
+            result = algorithm.search(maze, start, end, movement);
+            put(key, result, null);
+        }
+        return result;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        bytes = 0;
+    }
+
+    public synchronized int size() { return entries.size(); }
+
+    /**
+     * Gets the estimated size of all entries in bytes.
+     */
+    public synchronized long getMemoryBytes() { return bytes; }
+
+    public long getMaxBytes() { return maxBytes; }
+
+    public synchronized long getHitCount() { return hits; }
+
+    public synchronized long getMissCount() { return misses; }
+
+    public synchronized long getEvictionCount() { return evictions; }
+
+    /**
+     * Gets the fraction of lookups answered from the cache, or 0 before the first lookup.
+     */
+    public synchronized double getHitRatio() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("%d entries, %d B, %d hits, %d misses (%.1f%% hit ratio), %d evictions",
+                entries.size(), bytes, hits, misses, getHitRatio() * 100, evictions);
+    }
+
+    /**
+     * Identifies one query against one maze layout.
+     */
+    public static final class Key {
+
+        private final long fingerprint;
+        private final int cols;
+        private final int start;
+        private final int end;
+        private final PathfindingAlgorithm algorithm;
+        private final String configuration;
+        private final MovementModel movement;
+
+        private Key(long fingerprint, int cols, int start, int end, PathfindingAlgorithm algorithm,
+                    String configuration, MovementModel movement) {
+            this.fingerprint = fingerprint;
+            this.cols = cols;
+            this.start = start;
+            this.end = end;
+            this.algorithm = algorithm;
+            this.configuration = configuration;
+            this.movement = movement;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return fingerprint == other.fingerprint && cols == other.cols && start == other.start
+                    && end == other.end && algorithm == other.algorithm && configuration.equals(other.configuration)
+                    && movement == other.movement;
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = Long.hashCode(fingerprint);
+            hash = 31 * hash + start;
+            hash = 31 * hash + end;
+            hash = 31 * hash + System.identityHashCode(algorithm);
+            hash = 31 * hash + configuration.hashCode();
+            return 31 * hash + movement.ordinal();
+        }
+    }
+
+    private static final class Entry {
+
+        final Path path;
+        final SearchMetrics metrics;
+        final double suboptimalityBound;
+
+        Entry(Path path, SearchMetrics metrics, double suboptimalityBound) {
+            this.path = path;
+            this.metrics = metrics;
+            this.suboptimalityBound = suboptimalityBound;
+        }
+
+        long bytes() {
+            return ENTRY_OVERHEAD_BYTES + path.footprintBytes();
+        }
+    }
+}
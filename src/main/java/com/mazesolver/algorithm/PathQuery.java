@@ -0,0 +1,41 @@
+package com.mazesolver.algorithm;
+
+import com.mazesolver.model.MovementModel;
+
+/**
+ * A start/end coordinate pair for {@link BatchSolver}, with the movement model to search it with.
+ */
+public final class PathQuery {
+
+    private final int startRow;
+    private final int startCol;
+    private final int endRow;
+    private final int endCol;
+    private final MovementModel movement;
+
+    /**
+     * Creates a 4-connected query.
+     */
+    public PathQuery(int startRow, int startCol, int endRow, int endCol) {
+        this(startRow, startCol, endRow, endCol, MovementModel.FOUR_CONNECTED);
+    }
+
+    public PathQuery(int startRow, int startCol, int endRow, int endCol, MovementModel movement) {
+        this.startRow = startRow;
+        this.startCol = startCol;
+        this.endRow = endRow;
+        this.endCol = endCol;
+        this.movement = movement;
+    }
+
+    public int getStartRow() { return startRow; }
+    public int getStartCol() { return startCol; }
+    public int getEndRow() { return endRow; }
+    public int getEndCol() { return endCol; }
+    public MovementModel getMovement() { return movement; }
+
+    @Override
+    public String toString() {
+        return "(" + startRow + ", " + startCol + ") -> (" + endRow + ", " + endCol + ")";
+    }
+}
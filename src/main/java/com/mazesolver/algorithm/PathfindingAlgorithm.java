@@ -2,6 +2,8 @@ package com.mazesolver.algorithm;
 
 import com.mazesolver.model.Cell;
 import com.mazesolver.model.Maze;
+import com.mazesolver.model.MovementModel;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -11,14 +13,91 @@ import java.util.List;
 public interface PathfindingAlgorithm {
     
     /**
-     * Finds the shortest path from start to end in the given maze.
+     * Finds the shortest path from start to end in the given maze, moving 4-connected.
      * @param maze The maze to search in
      * @param start The starting cell
      * @param end The destination cell
-     * @return List of cells representing the path, or empty list if no path found
+     * @return Unmodifiable list of cells representing the path, or empty list if no path found
      */
     List<Cell> findPath(Maze maze, Cell start, Cell end);
     
+    /**
+     * Same as {@link #findPath(Maze, Cell, Cell)} with the given movement model.
+     * @throws IllegalArgumentException if this algorithm does not support the movement model
+     */
+    List<Cell> findPath(Maze maze, Cell start, Cell end, MovementModel movement);
+    
+    /**
+     * Finds the shortest path without touching the maze's cells and returns it together with
+     * the metrics of this call. Safe to call from several threads at once on the same instance
+     * and maze, as long as the maze is not being edited meanwhile. Moves 4-connected.
+     * @param maze The maze to search in
+     * @param start The starting cell
+     * @param end The destination cell
+     * @return Path (empty if none) and metrics of this search
+     */
+    SearchResult search(Maze maze, Cell start, Cell end);
+    
+    /**
+     * Same as {@link #search(Maze, Cell, Cell)} with the given movement model.
+     * The model belongs to this call only, so concurrent searches on one instance may use different ones.
+     * @param movement Movement model of this search
+     * @throws IllegalArgumentException if this algorithm does not support the movement model
+     */
+    SearchResult search(Maze maze, Cell start, Cell end, MovementModel movement);
+    
+    /**
+     * Same as {@link #search(Maze, Cell, Cell)}, stopping early once the token is cancelled.
+     * @param cancellation Token polled during the search
+     * @return Best path found before the search finished or stopped (empty if none) and metrics
+     */
+    SearchResult search(Maze maze, Cell start, Cell end, CancellationToken cancellation);
+    
+    /**
+     * Same as {@link #search(Maze, Cell, Cell, CancellationToken)} with the given movement model.
+     * @param movement Movement model of this search
+     * @param cancellation Token polled during the search, or null
+     * @throws IllegalArgumentException if this algorithm does not support the movement model
+     */
+    SearchResult search(Maze maze, Cell start, Cell end, MovementModel movement, CancellationToken cancellation);
+    
+    /**
+     * Finds a shortest path from any of the sources to the nearest of the targets in one search:
+     * every source is queued at distance 0 and the search stops at the first target it settles.
+     * Thread-safe like {@link #search(Maze, Cell, Cell)}. Blocked cells among the sources or
+     * targets are ignored, and a cell given twice counts once.
+     * @param sources Cells the path may start from, e.g. the positions of several agents
+     * @param targets Cells the path may end at, e.g. several exits
+     * @return Path from one source to its nearest target (empty if none) and metrics of this search
+     * @throws UnsupportedOperationException if {@link #supportsMultipleEndpoints()} is false
+     */
+    SearchResult search(Maze maze, Collection<Cell> sources, Collection<Cell> targets);
+    
+    /**
+     * Same as {@link #search(Maze, Collection, Collection)}, stopping early once the token is cancelled.
+     */
+    SearchResult search(Maze maze, Collection<Cell> sources, Collection<Cell> targets,
+                        CancellationToken cancellation);
+    
+    /**
+     * Same as {@link #search(Maze, Collection, Collection)} with the given movement model.
+     * @throws IllegalArgumentException if this algorithm does not support the movement model
+     */
+    SearchResult search(Maze maze, Collection<Cell> sources, Collection<Cell> targets, MovementModel movement);
+    
+    /**
+     * Same as {@link #search(Maze, Collection, Collection, CancellationToken)} with the given movement model.
+     * @throws IllegalArgumentException if this algorithm does not support the movement model
+     */
+    SearchResult search(Maze maze, Collection<Cell> sources, Collection<Cell> targets, MovementModel movement,
+                        CancellationToken cancellation);
+    
+    /**
+     * Checks whether this algorithm can search from several sources to several targets at once.
+     * @return true if {@link #search(Maze, Collection, Collection)} is supported
+     */
+    boolean supportsMultipleEndpoints();
+    
     // Animation callback interface
     interface AnimationCallback {
         void onCellVisited(Cell cell);
@@ -27,9 +106,41 @@ public interface PathfindingAlgorithm {
         long onStepDelay(long milliseconds);
     }
     
-    // Method to find path with animation
+    // Method to find path with animation; returns an unmodifiable list, like findPath
     List<Cell> findPathWithAnimation(Maze maze, Cell start, Cell end, AnimationCallback callback);
     
+    /**
+     * Same as {@link #findPathWithAnimation(Maze, Cell, Cell, AnimationCallback)} with the given movement model.
+     * @throws IllegalArgumentException if this algorithm does not support the movement model
+     */
+    List<Cell> findPathWithAnimation(Maze maze, Cell start, Cell end, MovementModel movement,
+                                     AnimationCallback callback);
+    
+    /**
+     * Same as {@link #findPathWithAnimation(Maze, Cell, Cell, AnimationCallback)}, stopping early
+     * once the token is cancelled. Step delays end as soon as the token is cancelled.
+     */
+    List<Cell> findPathWithAnimation(Maze maze, Cell start, Cell end, AnimationCallback callback,
+                                     CancellationToken cancellation);
+    
+    /**
+     * Same as {@link #findPathWithAnimation(Maze, Cell, Cell, AnimationCallback, CancellationToken)}
+     * with the given movement model.
+     * @throws IllegalArgumentException if this algorithm does not support the movement model
+     */
+    List<Cell> findPathWithAnimation(Maze maze, Cell start, Cell end, MovementModel movement,
+                                     AnimationCallback callback, CancellationToken cancellation);
+    
+    /**
+     * Same as {@link #findPathWithAnimation(Maze, Cell, Cell, MovementModel, AnimationCallback, CancellationToken)},
+     * returning the path together with the metrics of this call, so callers need not read
+     * {@link #getLastResult()}, which another call may have replaced meanwhile.
+     * @return Path (empty if none) and metrics of this search
+     * @throws IllegalArgumentException if this algorithm does not support the movement model
+     */
+    SearchResult searchWithAnimation(Maze maze, Cell start, Cell end, MovementModel movement,
+                                     AnimationCallback callback, CancellationToken cancellation);
+    
     /**
      * Gets the name of the algorithm.
      * @return Algorithm name
@@ -49,17 +160,43 @@ public interface PathfindingAlgorithm {
     String getSpaceComplexity();
     
     /**
-     * Gets the number of cells visited during the last pathfinding operation.
+     * Gets the number of cells visited during the last findPath/findPathWithAnimation call.
      * @return Number of visited cells
      */
     int getVisitedCellsCount();
     
     /**
-     * Gets the execution time of the last pathfinding operation in milliseconds.
+     * Gets the execution time of the last findPath/findPathWithAnimation call in milliseconds.
      * @return Execution time in milliseconds
      */
     long getExecutionTime();
     
+    /**
+     * Gets the full instrumentation of the last findPath/findPathWithAnimation call.
+     * @return Metrics of the last call, or {@link SearchMetrics#EMPTY} before the first one
+     */
+    SearchMetrics getMetrics();
+    
+    /**
+     * Gets the result of the last findPath/findPathWithAnimation call.
+     * @return Path, metrics and suboptimality bound of the last call
+     */
+    SearchResult getLastResult();
+    
+    /**
+     * Gets the settings that can change this algorithm's results, such as a node budget or a
+     * queue strategy. Results of one instance are only interchangeable under equal settings.
+     * @return Settings compared with equals, or an empty string if the algorithm has none
+     */
+    String getConfiguration();
+    
+    /**
+     * Checks whether this algorithm can search with the given movement model.
+     * @param movement The movement model
+     * @return true if the searches that take a movement model accept it
+     */
+    boolean supportsMovementModel(MovementModel movement);
+    
     /**
      * Resets the algorithm's internal state and metrics.
      */
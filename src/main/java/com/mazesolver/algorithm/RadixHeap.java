@@ -0,0 +1,112 @@
+package com.mazesolver.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * Monotone radix heap of cell indices with non-negative int keys.
+ * Bucket 0 holds entries whose key equals the last extracted key; bucket {@code b > 0} holds
+ * keys whose highest bit differing from it is bit {@code b - 1}. Popping from an empty bucket 0
+ * redistributes the lowest non-empty bucket around its minimum, and every entry only ever moves
+ * to lower buckets, so push is O(1) and pop is O(log C) amortized for key spread C.
+ * Keys must never be smaller than the last extracted key, which holds for Dijkstra with
+ * non-negative step costs.
+ */
+final class RadixHeap {
+
+    private static final int BUCKETS = 33;
+
+    // Entries are packed as (key << 32) | index
+    private final long[][] buckets = new long[BUCKETS][];
+    private final int[] sizes = new int[BUCKETS];
+    private int lastKey;
+    private int count;
+
+    // Operation counters for search metrics; cleared by resetCounters()
+    long pushCount;
+    long popCount;
+    int peakSize;
+
+    RadixHeap() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new long[16];
+        }
+    }
+
+    void clear() {
+        Arrays.fill(sizes, 0);
+        lastKey = 0;
+        count = 0;
+    }
+
+    void resetCounters() {
+        pushCount = 0;
+        popCount = 0;
+        peakSize = 0;
+    }
+
+    long footprintBytes() {
+        long bytes = 4L * sizes.length;
+        for (long[] bucket : buckets) {
+            bytes += 8L * bucket.length;
+        }
+        return bytes;
+    }
+
+    boolean isEmpty() {
+        return count == 0;
+    }
+
+    void push(int key, int index) {
+        append(bucketOf(key), ((long) key << 32) | (index & 0xFFFFFFFFL));
+        count++;
+        pushCount++;
+        if (count > peakSize) {
+            peakSize = count;
+        }
+    }
+
+    /**
+     * Removes an index with the smallest key; {@link #currentKey()} then returns that key.
+     */
+    int poll() {
+        if (sizes[0] == 0) {
+            int bucket = 1;
+            while (sizes[bucket] == 0) {
+                bucket++;
+            }
+            long[] entries = buckets[bucket];
+            int size = sizes[bucket];
+            long min = entries[0];
+            for (int i = 1; i < size; i++) {
+                if (entries[i] < min) {
+                    min = entries[i];
+                }
+            }
+            lastKey = (int) (min >>> 32);
+            sizes[bucket] = 0;
+            for (int i = 0; i < size; i++) {
+                append(bucketOf((int) (entries[i] >>> 32)), entries[i]);
+            }
+        }
+        count--;
+        popCount++;
+        return (int) buckets[0][--sizes[0]];
+    }
+
+    int currentKey() {
+        return lastKey;
+    }
+
+    private int bucketOf(int key) {
+        return key == lastKey ? 0 : 32 - Integer.numberOfLeadingZeros(key ^ lastKey);
+    }
+
+    private void append(int bucket, long entry) {
+        long[] entries = buckets[bucket];
+        if (sizes[bucket] == entries.length) {
+            entries = Arrays.copyOf(entries, entries.length * 2);
+            buckets[bucket] = entries;
+        }
+        entries[sizes[bucket]++] = entry;
+    }
+}
@@ -0,0 +1,84 @@
+package com.mazesolver.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * Reusable primitive scratch arrays for index-based searches.
+ * Arrays are grown on demand and "cleared" in O(1) by bumping an epoch counter,
+ * so repeated searches over the same maze allocate nothing.
+ */
+final class SearchBuffers {
+
+    int[] parent = new int[0];
+    int[] distance = new int[0];
+    int[] queue = new int[0];
+    private int[] reached = new int[0];
+    private int[] closed = new int[0];
+    // Target marks of multi-target searches, allocated on first use
+    private int[] target = new int[0];
+    private int epoch;
+
+    /**
+     * Prepares the buffers for a search over {@code size} cells.
+     */
+    void prepare(int size) {
+        if (reached.length < size) {
+            parent = new int[size];
+            distance = new int[size];
+            queue = new int[size];
+            reached = new int[size];
+            closed = new int[size];
+            epoch = 0;
+        }
+        if (++epoch == Integer.MAX_VALUE) {
+            Arrays.fill(reached, 0);
+            Arrays.fill(closed, 0);
+            Arrays.fill(target, 0);
+            epoch = 1;
+        }
+    }
+
+    /**
+     * Gets the bytes held by the buffers' arrays.
+     */
+    long footprintBytes() {
+        return 4L * (parent.length + distance.length + queue.length + reached.length + closed.length + target.length);
+    }
+
+    boolean isReached(int index) {
+        return reached[index] == epoch;
+    }
+
+    /**
+     * Records a (possibly improved) tentative distance and parent for a cell.
+     */
+    void reach(int index, int parentIndex, int dist) {
+        reached[index] = epoch;
+        parent[index] = parentIndex;
+        distance[index] = dist;
+    }
+
+    boolean isClosed(int index) {
+        return closed[index] == epoch;
+    }
+
+    void close(int index) {
+        closed[index] = epoch;
+    }
+
+    /**
+     * Marks the cells a multi-target search may stop at, for this search only.
+     */
+    void markTargets(int[] indices) {
+        if (target.length < reached.length) {
+            target = new int[reached.length];
+        }
+        for (int index : indices) {
+            target[index] = epoch;
+        }
+    }
+
+    boolean isTarget(int index) {
+        return target[index] == epoch;
+    }
+}
@@ -0,0 +1,129 @@
+package com.mazesolver.algorithm;
+
+import com.mazesolver.model.MovementModel;
+import java.util.function.Supplier;
+
+/**
+ * Per-call state of a search: scratch buffers, queues and counters.
+ * A context is used by one search at a time, so a single algorithm instance can serve
+ * concurrent searches as long as each one runs with its own context.
+ * {@link AbstractPathfindingAlgorithm} keeps one context per thread and reuses it, so
+ * repeated searches on the same thread still allocate nothing.
+ */
+public final class SearchContext {
+
+    final SearchBuffers buffers = new SearchBuffers();
+    final IndexedMinHeap openSet = new IndexedMinHeap();
+    final LongMinHeap heap = new LongMinHeap();
+    final BucketQueue buckets = new BucketQueue();
+    final RadixHeap radix = new RadixHeap();
+
+    // Expansions between checks for cancellation
+    static final int CANCEL_CHECK_MASK = 0xFFF;
+
+    // Movement model of the current search, fixed when the context is acquired
+    MovementModel movement = MovementModel.FOUR_CONNECTED;
+
+    // Token of the current search, or null if it cannot be cancelled
+    CancellationToken cancellation;
+
+    // Counters of the current search; queues in this context count their own operations
+    int visitedCells;
+    long generatedNodes;
+    long queuePushes;
+    long queuePops;
+    int peakFrontier;
+    long pausedNanos;
+    long stateBytes;
+    double suboptimalityBound;
+    // Set by searches that cut branches or stopped for lack of nodes or time, not for lack of a path
+    boolean budgetExhausted;
+
+    // Algorithm-specific scratch, created on first use
+    private Object state;
+    private boolean inUse;
+
+    SearchContext() {
+    }
+
+    /**
+     * Gets the algorithm-specific scratch object of this context, creating it on first use.
+     */
+    @SuppressWarnings("unchecked")
+    <T> T state(Supplier<T> factory) {
+        if (state == null) {
+            state = factory.get();
+        }
+        return (T) state;
+    }
+
+    boolean isInUse() {
+        return inUse;
+    }
+
+    void begin() {
+        inUse = true;
+        visitedCells = 0;
+        generatedNodes = 0;
+        queuePushes = 0;
+        queuePops = 0;
+        peakFrontier = 0;
+        pausedNanos = 0;
+        stateBytes = 0;
+        suboptimalityBound = Double.NaN;
+        budgetExhausted = false;
+        openSet.resetCounters();
+        heap.resetCounters();
+        buckets.resetCounters();
+        radix.resetCounters();
+    }
+
+    /**
+     * Checks whether the search was cancelled or its thread interrupted.
+     */
+    boolean isCancelled() {
+        return (cancellation != null && cancellation.isCancelled()) || Thread.currentThread().isInterrupted();
+    }
+
+    /**
+     * Checks for cancellation once every few thousand values of a running counter, so hot loops
+     * can call it on every expansion.
+     */
+    boolean shouldStop(long counter) {
+        return (counter & CANCEL_CHECK_MASK) == 0 && isCancelled();
+    }
+
+    /**
+     * Records the current size of a frontier that is not one of this context's queues.
+     */
+    void frontier(int size) {
+        if (size > peakFrontier) {
+            peakFrontier = size;
+        }
+    }
+
+    /**
+     * Records the bytes currently held by algorithm-specific state, keeping the high-water mark.
+     */
+    void memory(long bytes) {
+        if (bytes > stateBytes) {
+            stateBytes = bytes;
+        }
+    }
+
+    SearchMetrics toMetrics(long elapsedNanos, long allocatedBytes) {
+        long pushes = queuePushes + openSet.pushCount + heap.pushCount + buckets.pushCount + radix.pushCount;
+        long pops = queuePops + openSet.popCount + heap.popCount + buckets.popCount + radix.popCount;
+        int peak = Math.max(Math.max(peakFrontier, openSet.peakSize),
+                Math.max(Math.max(heap.peakSize, buckets.peakSize), radix.peakSize));
+        long memory = stateBytes + buffers.footprintBytes() + openSet.footprintBytes() + heap.footprintBytes()
+                + buckets.footprintBytes() + radix.footprintBytes();
+        return new SearchMetrics(elapsedNanos - pausedNanos, visitedCells, generatedNodes, pushes, pops, peak,
+                allocatedBytes, memory);
+    }
+
+    void end() {
+        inUse = false;
+        cancellation = null;
+    }
+}
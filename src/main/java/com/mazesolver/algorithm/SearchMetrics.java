@@ -0,0 +1,71 @@
+package com.mazesolver.algorithm;
+
+/**
+ * Instrumentation of one search.
+ * <ul>
+ *   <li>Elapsed time is measured with {@link System#nanoTime()} and excludes time spent in
+ *       animation callbacks and step delays.</li>
+ *   <li>Expanded nodes are cells taken off the frontier and processed; generated nodes are the
+ *       successor cells those expansions produced, before duplicate checks.</li>
+ *   <li>Queue pushes include decrease-key updates; the peak frontier is the largest open set
+ *       (or BFS level) seen.</li>
+ *   <li>Allocated bytes come from the JVM's per-thread allocation counter for the calling
+ *       thread, or are -1 where the JVM does not support it. Work handed to helper threads
+ *       (parallel and two-thread modes) is not included.</li>
+ *   <li>Peak memory estimates the bytes held by the search's own data structures at their
+ *       high-water mark: the scratch arrays and queues of its context plus any state the
+ *       algorithm reports itself. Cells, the maze and its graph are not counted.</li>
+ * </ul>
+ */
+public final class SearchMetrics {
+
+    public static final SearchMetrics EMPTY = new SearchMetrics(0, 0, 0, 0, 0, 0, -1, 0);
+
+    private final long elapsedNanos;
+    private final long expandedNodes;
+    private final long generatedNodes;
+    private final long queuePushes;
+    private final long queuePops;
+    private final int peakFrontier;
+    private final long allocatedBytes;
+    private final long peakMemoryBytes;
+
+    public SearchMetrics(long elapsedNanos, long expandedNodes, long generatedNodes,
+                         long queuePushes, long queuePops, int peakFrontier, long allocatedBytes,
+                         long peakMemoryBytes) {
+        this.elapsedNanos = elapsedNanos;
+        this.expandedNodes = expandedNodes;
+        this.generatedNodes = generatedNodes;
+        this.queuePushes = queuePushes;
+        this.queuePops = queuePops;
+        this.peakFrontier = peakFrontier;
+        this.allocatedBytes = allocatedBytes;
+        this.peakMemoryBytes = peakMemoryBytes;
+    }
+
+    public long getElapsedNanos() { return elapsedNanos; }
+    public long getExpandedNodes() { return expandedNodes; }
+    public long getGeneratedNodes() { return generatedNodes; }
+    public long getQueuePushes() { return queuePushes; }
+    public long getQueuePops() { return queuePops; }
+    public int getPeakFrontier() { return peakFrontier; }
+
+    /**
+     * Gets the bytes allocated by the searching thread, or -1 if unavailable.
+     */
+    public long getAllocatedBytes() { return allocatedBytes; }
+
+    public long getPeakMemoryBytes() { return peakMemoryBytes; }
+
+    /**
+     * Gets the elapsed time in milliseconds with microsecond precision.
+     */
+    public double getElapsedMillis() { return elapsedNanos / 1e6; }
+
+    @Override
+    public String toString() {
+        return String.format("%.3f ms, %d expanded, %d generated, %d pushes, %d pops, peak frontier %d, %s allocated, %d B peak memory",
+                getElapsedMillis(), expandedNodes, generatedNodes, queuePushes, queuePops, peakFrontier,
+                allocatedBytes < 0 ? "n/a" : allocatedBytes + " B", peakMemoryBytes);
+    }
+}
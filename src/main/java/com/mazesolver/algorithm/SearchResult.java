@@ -0,0 +1,80 @@
+package com.mazesolver.algorithm;
+
+import com.mazesolver.model.Cell;
+import com.mazesolver.model.Maze;
+import com.mazesolver.model.Path;
+import java.util.List;
+
+/**
+ * Immutable outcome of one search: the path and the metrics of that call. The path is held as a
+ * compact {@link Path} and becomes the maze's cells only when {@link #getPath()} is first read.
+ */
+public final class SearchResult {
+
+    private final Path path;
+    private final List<Cell> cells;
+    private final SearchMetrics metrics;
+    private final double suboptimalityBound;
+    private final boolean budgetExhausted;
+
+    /**
+     * @param path Path found, or {@link Path#EMPTY}
+     * @param maze Maze whose cells the path is decoded into; may be null for an empty path
+     */
+    public SearchResult(Path path, Maze maze, SearchMetrics metrics) {
+        this(path, maze, metrics, Double.NaN);
+    }
+
+    public SearchResult(Path path, Maze maze, SearchMetrics metrics, double suboptimalityBound) {
+        this(path, maze, metrics, suboptimalityBound, false);
+    }
+
+    public SearchResult(Path path, Maze maze, SearchMetrics metrics, double suboptimalityBound,
+                        boolean budgetExhausted) {
+        this.path = path;
+        this.cells = path.asList(maze);
+        this.metrics = metrics;
+        this.suboptimalityBound = suboptimalityBound;
+        this.budgetExhausted = budgetExhausted;
+    }
+
+    /**
+     * Gets the path from start to end as an unmodifiable list of cells, or an empty list if no
+     * path exists. The cells are decoded on first access.
+     */
+    public List<Cell> getPath() { return cells; }
+
+    /**
+     * Gets the path in its compact form, without decoding any cells.
+     */
+    public Path getCompactPath() { return path; }
+
+    public boolean isFound() { return !path.isEmpty(); }
+
+    public SearchMetrics getMetrics() { return metrics; }
+
+    /**
+     * Gets the proven factor by which the path's cost may exceed the optimum: 1 for a path
+     * proven optimal, more for an anytime search stopped early (infinite if it had no path yet),
+     * or NaN if the algorithm reports no bound.
+     */
+    public double getSuboptimalityBound() { return suboptimalityBound; }
+
+    /**
+     * Whether the search ran out of its node or time budget: with a larger budget the same
+     * query may find a path where this one found none, or a shorter one.
+     */
+    public boolean isBudgetExhausted() { return budgetExhausted; }
+
+    /**
+     * Gets the number of cells expanded by the search.
+     */
+    public int getVisitedCells() { return (int) metrics.getExpandedNodes(); }
+
+    public long getExecutionTimeNanos() { return metrics.getElapsedNanos(); }
+
+    /**
+     * Gets the execution time in whole milliseconds.
+     */
+    public long getExecutionTime() { return metrics.getElapsedNanos() / 1_000_000; }
+}
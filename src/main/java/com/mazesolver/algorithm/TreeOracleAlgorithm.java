@@ -0,0 +1,55 @@
+package com.mazesolver.algorithm;
+
+import com.mazesolver.model.Cell;
+import com.mazesolver.model.GridGraph;
+import com.mazesolver.model.Maze;
+import com.mazesolver.model.MovementModel;
+import com.mazesolver.model.TreeOracle;
+import java.util.*;
+
+/**
+ * Answers queries on perfect mazes without searching: the path between two cells of a tree is
+ * unique, so the maze's {@link TreeOracle} finds their lowest common ancestor in O(1) and walks
+ * both cells up to it. Mazes that are no longer trees, and diagonal movement, fall back to A*.
+ */
+public class TreeOracleAlgorithm extends AbstractPathfindingAlgorithm {
+
+    private final AStarAlgorithm fallback = new AStarAlgorithm();
+
+    @Override
+    public String getName() {
+        return "Tree Oracle (Perfect Mazes)";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(V) once per maze, O(L) per query";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(V)";
+    }
+
+    @Override
+    public boolean supportsMovementModel(MovementModel movement) {
+        return true;
+    }
+
+    @Override
+    protected List<Cell> findPathImplementation(SearchContext context, Maze maze, Cell start, Cell end) {
+        TreeOracle oracle = context.movement == MovementModel.FOUR_CONNECTED ? maze.getTreeOracle() : null;
+        GridGraph graph = maze.getGraph();
+        if (oracle == null || oracle.getVersion() != graph.getVersion()) {
+            return fallback.findPathImplementation(context, maze, start, end);
+        }
+        // A query only walks the path itself, so one check before it is enough
+        if (context.isCancelled()) {
+            return List.of();
+        }
+        int[] path = oracle.path(graph.index(start), graph.index(end));
+        context.visitedCells += path.length;
+        context.memory(oracle.footprintBytes());
+        return toCells(maze, graph, path);
+    }
+}
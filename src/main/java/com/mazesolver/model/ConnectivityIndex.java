@@ -0,0 +1,222 @@
+package com.mazesolver.model;
+
+import java.util.Arrays;
+
+/**
+ * Connected components of the walkable cells, kept in a {@link UnionFind}.
+ * Every walkable cell maps to a set element; two cells are connected exactly when their
+ * elements share a root. Opening a cell adds an element and unions it with its neighbors.
+ * Blocking a cell may split its component: floods from its walkable neighbors run in
+ * lockstep, floods that touch are merged, and every piece that runs dry while another flood
+ * is still growing is moved to a fresh element, so the work is bounded by the smaller pieces.
+ * <p>
+ * Instances are owned and updated by {@link Maze}.
+ */
+final class ConnectivityIndex {
+
+    private GridGraph graph;
+    private final int rows;
+    private final int cols;
+    private final int[] element;
+    private UnionFind sets;
+    private int componentCount;
+
+    // Split search scratch: per-cell epoch stamp and flood owner, one queue per flood
+    private final int[] stamp;
+    private final byte[] owner;
+    private int epoch;
+    private final int[][] queues = new int[GridGraph.DIRECTIONS][16];
+
+    ConnectivityIndex(GridGraph graph) {
+        this.graph = graph;
+        this.rows = graph.getRows();
+        this.cols = graph.getCols();
+        this.element = new int[graph.size()];
+        this.stamp = new int[graph.size()];
+        this.owner = new byte[graph.size()];
+        build();
+    }
+
+    private void build() {
+        sets = new UnionFind(graph.size());
+        componentCount = 0;
+        for (int cell = 0; cell < graph.size(); cell++) {
+            if (!graph.isWalkable(cell)) {
+                element[cell] = -1;
+                continue;
+            }
+            element[cell] = cell;
+            componentCount++;
+            // Union with the up and left neighbors, which were visited before this cell
+            int mask = graph.neighborMask(cell) & ((1 << GridGraph.UP) | (1 << GridGraph.LEFT));
+            while (mask != 0) {
+                int d = Integer.numberOfTrailingZeros(mask);
+                mask &= mask - 1;
+                if (sets.union(cell, cell + graph.step(d))) {
+                    componentCount--;
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies the edited cells one at a time, bringing each to its state in {@code newGraph}.
+     */
+    void update(GridGraph newGraph, int[] editedCells) {
+        graph = newGraph;
+        for (int cell : editedCells) {
+            boolean walkable = newGraph.isWalkable(cell);
+            if (walkable && element[cell] < 0) {
+                open(cell);
+            } else if (!walkable && element[cell] >= 0) {
+                block(cell);
+            }
+        }
+        // Fresh elements accumulate with every edit; start over once they dominate
+        if (sets.size() > 4 * graph.size()) {
+            build();
+        }
+    }
+
+    int getVersion() { return graph.getVersion(); }
+
+    int getComponentCount() { return componentCount; }
+
+    boolean isConnected(int a, int b) {
+        int ea = element[a];
+        int eb = element[b];
+        return ea >= 0 && eb >= 0 && sets.find(ea) == sets.find(eb);
+    }
+
+    /**
+     * Gets the set root of every cell, or -1 for blocked cells, in a new array.
+     */
+    int[] componentLabels() {
+        int[] labels = new int[element.length];
+        for (int cell = 0; cell < labels.length; cell++) {
+            labels[cell] = element[cell] < 0 ? -1 : sets.find(element[cell]);
+        }
+        return labels;
+    }
+
+    private void open(int cell) {
+        element[cell] = sets.add();
+        componentCount++;
+        int row = cell / cols;
+        int col = cell % cols;
+        for (int d = 0; d < GridGraph.DIRECTIONS; d++) {
+            int neighbor = neighbor(row, col, d);
+            if (neighbor >= 0 && sets.union(element[cell], element[neighbor])) {
+                componentCount--;
+            }
+        }
+    }
+
+    private void block(int cell) {
+        element[cell] = -1;
+        int row = cell / cols;
+        int col = cell % cols;
+
+        if (++epoch == Integer.MAX_VALUE) {
+            Arrays.fill(stamp, 0);
+            epoch = 1;
+        }
+        int[] head = new int[GridGraph.DIRECTIONS];
+        int[] tail = new int[GridGraph.DIRECTIONS];
+        int[] group = new int[GridGraph.DIRECTIONS];
+        int floods = 0;
+        for (int d = 0; d < GridGraph.DIRECTIONS; d++) {
+            int start = neighbor(row, col, d);
+            if (start >= 0) {
+                stamp[start] = epoch;
+                owner[start] = (byte) floods;
+                queues[floods][0] = start;
+                tail[floods] = 1;
+                group[floods] = floods;
+                floods++;
+            }
+        }
+        if (floods == 0) {
+            componentCount--;
+            return;
+        }
+
+        int active = floods;
+        while (active > 1) {
+            for (int f = 0; f < floods && active > 1; f++) {
+                if (head[f] == tail[f]) {
+                    continue;
+                }
+                int current = queues[f][head[f]++];
+                int currentRow = current / cols;
+                int currentCol = current % cols;
+                for (int d = 0; d < GridGraph.DIRECTIONS; d++) {
+                    int next = neighbor(currentRow, currentCol, d);
+                    if (next < 0) {
+                        continue;
+                    }
+                    if (stamp[next] != epoch) {
+                        stamp[next] = epoch;
+                        owner[next] = (byte) f;
+                        if (tail[f] == queues[f].length) {
+                            queues[f] = Arrays.copyOf(queues[f], tail[f] * 2);
+                        }
+                        queues[f][tail[f]++] = next;
+                    } else {
+                        int other = groupOf(group, owner[next]);
+                        int mine = groupOf(group, f);
+                        if (other != mine) {
+                            group[other] = mine;
+                            active--;
+                        }
+                    }
+                }
+                if (head[f] == tail[f] && isGroupDry(group, head, tail, floods, f)) {
+                    // A separate piece: move all its cells to a fresh element
+                    int root = groupOf(group, f);
+                    int fresh = sets.add();
+                    for (int g = 0; g < floods; g++) {
+                        if (groupOf(group, g) == root) {
+                            for (int i = 0; i < tail[g]; i++) {
+                                element[queues[g][i]] = fresh;
+                            }
+                            head[g] = tail[g] = 0;
+                        }
+                    }
+                    componentCount++;
+                    active--;
+                }
+            }
+        }
+    }
+
+    private static int groupOf(int[] group, int flood) {
+        while (group[flood] != flood) {
+            flood = group[flood];
+        }
+        return flood;
+    }
+
+    private static boolean isGroupDry(int[] group, int[] head, int[] tail, int floods, int flood) {
+        int root = groupOf(group, flood);
+        for (int g = 0; g < floods; g++) {
+            if (groupOf(group, g) == root && head[g] < tail[g]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the walkable in-bounds neighbor of a cell in the given direction, or -1.
+     */
+    private int neighbor(int row, int col, int direction) {
+        int newRow = row + GridGraph.rowDelta(direction);
+        int newCol = col + GridGraph.colDelta(direction);
+        if (newRow < 0 || newRow >= rows || newCol < 0 || newCol >= cols) {
+            return -1;
+        }
+        int cell = newRow * cols + newCol;
+        return element[cell] >= 0 ? cell : -1;
+    }
+}
@@ -0,0 +1,254 @@
+package com.mazesolver.model;
+
+import java.util.Arrays;
+
+/**
+ * Corridor-contracted view of a maze.
+ * Every walkable cell with other than exactly two walkable neighbors (junctions, dead ends,
+ * open areas) becomes a node; each run of two-neighbor corridor cells between nodes becomes a
+ * single edge weighted by its length. A node has at most one edge per direction, stored in
+ * fixed slots {@code node * 4 + direction}, so corridors can be re-walked and patched locally
+ * after an obstacle edit without rebuilding the whole graph.
+ * <p>
+ * Instances are owned and updated by {@link Maze#getCorridorGraph()}.
+ */
+public final class CorridorGraph {
+
+    private GridGraph graph;
+    private final int[] nodeOf;
+    private int[] nodeCell = new int[64];
+    private int[] edgeTarget = new int[64 * GridGraph.DIRECTIONS];
+    private int[] edgeWeight = new int[64 * GridGraph.DIRECTIONS];
+    private int nodeCapacity;
+    private int nodeCount;
+    private int[] freeNodes = new int[16];
+    private int freeCount;
+
+    CorridorGraph(GridGraph graph) {
+        this.graph = graph;
+        this.nodeOf = new int[graph.size()];
+        Arrays.fill(nodeOf, -1);
+
+        for (int cell = 0; cell < graph.size(); cell++) {
+            if (isKeyCell(cell)) {
+                allocateNode(cell);
+            }
+        }
+        for (int node = 0; node < nodeCapacity; node++) {
+            connect(node);
+        }
+    }
+
+    /**
+     * Re-walks only the corridors touching the edited cells and their neighbors.
+     */
+    void update(GridGraph newGraph, int[] editedCells) {
+        // Collect the region whose degree may have changed
+        int[] region = new int[editedCells.length * 5];
+        int regionSize = 0;
+        for (int cell : editedCells) {
+            region[regionSize++] = cell;
+            int row = newGraph.rowOf(cell);
+            int col = newGraph.colOf(cell);
+            for (int d = 0; d < GridGraph.DIRECTIONS; d++) {
+                int newRow = row + GridGraph.rowDelta(d);
+                int newCol = col + GridGraph.colDelta(d);
+                if (newRow >= 0 && newRow < newGraph.getRows() && newCol >= 0 && newCol < newGraph.getCols()) {
+                    region[regionSize++] = newGraph.index(newRow, newCol);
+                }
+            }
+        }
+
+        // Nodes whose edges run through the region, found by walking the old corridors
+        IntList dirty = new IntList();
+        for (int i = 0; i < regionSize; i++) {
+            int cell = region[i];
+            if (!graph.isWalkable(cell)) {
+                continue;
+            }
+            int node = nodeOf[cell];
+            if (node >= 0) {
+                dirty.add(node);
+                for (int d = 0; d < GridGraph.DIRECTIONS; d++) {
+                    if (edgeTarget[node * GridGraph.DIRECTIONS + d] >= 0) {
+                        dirty.add(edgeTarget[node * GridGraph.DIRECTIONS + d]);
+                    }
+                }
+            } else {
+                int mask = graph.neighborMask(cell);
+                while (mask != 0) {
+                    int d = Integer.numberOfTrailingZeros(mask);
+                    mask &= mask - 1;
+                    int end = walkToNode(cell, d, null);
+                    if (end >= 0) {
+                        dirty.add(nodeOf[end]);
+                    }
+                }
+            }
+        }
+
+        // Switch to the new maze and fix up node membership in the region
+        graph = newGraph;
+        for (int i = 0; i < regionSize; i++) {
+            int cell = region[i];
+            boolean key = isKeyCell(cell);
+            if (nodeOf[cell] >= 0 && !key) {
+                releaseNode(nodeOf[cell]);
+            } else if (nodeOf[cell] < 0 && key) {
+                dirty.add(allocateNode(cell));
+            } else if (key) {
+                dirty.add(nodeOf[cell]);
+            }
+        }
+
+        for (int i = 0; i < dirty.size; i++) {
+            int node = dirty.values[i];
+            if (nodeCell[node] >= 0) {
+                connect(node);
+            }
+        }
+    }
+
+    public int getVersion() { return graph.getVersion(); }
+    public GridGraph getGridGraph() { return graph; }
+
+    /**
+     * Gets the number of live nodes.
+     */
+    public int getNodeCount() { return nodeCount; }
+
+    /**
+     * Gets the exclusive upper bound of node ids (ids of removed nodes may be reused).
+     */
+    public int getNodeCapacity() { return nodeCapacity; }
+
+    /**
+     * Gets the node id of a cell, or -1 if the cell is a corridor cell or not walkable.
+     */
+    public int nodeOf(int cell) { return nodeOf[cell]; }
+
+    /**
+     * Gets the cell of a node, or -1 if the id is currently unused.
+     */
+    public int cellOf(int node) { return nodeCell[node]; }
+
+    /**
+     * Gets the node reached by leaving {@code node} in the given direction, or -1 if there is no edge.
+     */
+    public int edgeTarget(int node, int direction) { return edgeTarget[node * GridGraph.DIRECTIONS + direction]; }
+
+    /**
+     * Gets the number of steps of the edge leaving {@code node} in the given direction.
+     */
+    public int edgeWeight(int node, int direction) { return edgeWeight[node * GridGraph.DIRECTIONS + direction]; }
+
+    /**
+     * Walks from {@code cell} one step in {@code direction} and then along the corridor until a
+     * node cell is reached. Visited cells (excluding {@code cell}) are appended to {@code out} if it
+     * is not null. Returns the node cell, or -1 if the walk ran around a closed loop of corridor cells.
+     */
+    public int walkToNode(int cell, int direction, IntList out) {
+        return (int) (walk(cell, direction, out) >> 32);
+    }
+
+    /**
+     * Counts the steps of {@link #walkToNode(int, int, IntList)} without recording cells.
+     */
+    public int walkLength(int cell, int direction) {
+        return (int) walk(cell, direction, null);
+    }
+
+    // Returns the end cell in the high 32 bits and the number of steps in the low 32 bits
+    private long walk(int cell, int direction, IntList out) {
+        int current = cell + graph.step(direction);
+        int heading = direction;
+        int length = 1;
+        while (true) {
+            if (out != null) {
+                out.add(current);
+            }
+            if (nodeOf[current] >= 0) {
+                return ((long) current << 32) | length;
+            }
+            if (current == cell) {
+                return (-1L << 32) | length;
+            }
+            int mask = graph.neighborMask(current) & ~(1 << GridGraph.opposite(heading));
+            heading = Integer.numberOfTrailingZeros(mask);
+            current += graph.step(heading);
+            length++;
+        }
+    }
+
+    private boolean isKeyCell(int cell) {
+        return graph.isWalkable(cell) && Integer.bitCount(graph.neighborMask(cell)) != 2;
+    }
+
+    private void connect(int node) {
+        int cell = nodeCell[node];
+        int base = node * GridGraph.DIRECTIONS;
+        for (int d = 0; d < GridGraph.DIRECTIONS; d++) {
+            edgeTarget[base + d] = -1;
+            edgeWeight[base + d] = 0;
+        }
+        if (cell < 0) {
+            return;
+        }
+        int mask = graph.neighborMask(cell);
+        while (mask != 0) {
+            int d = Integer.numberOfTrailingZeros(mask);
+            mask &= mask - 1;
+            long walk = walk(cell, d, null);
+            edgeTarget[base + d] = nodeOf[(int) (walk >> 32)];
+            edgeWeight[base + d] = (int) walk;
+        }
+    }
+
+    private int allocateNode(int cell) {
+        int node;
+        if (freeCount > 0) {
+            node = freeNodes[--freeCount];
+        } else {
+            if (nodeCapacity == nodeCell.length) {
+                nodeCell = Arrays.copyOf(nodeCell, nodeCapacity * 2);
+                edgeTarget = Arrays.copyOf(edgeTarget, nodeCapacity * 2 * GridGraph.DIRECTIONS);
+                edgeWeight = Arrays.copyOf(edgeWeight, nodeCapacity * 2 * GridGraph.DIRECTIONS);
+            }
+            node = nodeCapacity++;
+        }
+        nodeCell[node] = cell;
+        nodeOf[cell] = node;
+        nodeCount++;
+        return node;
+    }
+
+    private void releaseNode(int node) {
+        nodeOf[nodeCell[node]] = -1;
+        nodeCell[node] = -1;
+        Arrays.fill(edgeTarget, node * GridGraph.DIRECTIONS, (node + 1) * GridGraph.DIRECTIONS, -1);
+        if (freeCount == freeNodes.length) {
+            freeNodes = Arrays.copyOf(freeNodes, freeCount * 2);
+        }
+        freeNodes[freeCount++] = node;
+        nodeCount--;
+    }
+
+    /**
+     * Minimal growable int list used for walks and dirty sets.
+     */
+    public static final class IntList {
+        int[] values = new int[16];
+        int size;
+
+        public void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        public int get(int i) { return values[i]; }
+        public int size() { return size; }
+        public void clear() { size = 0; }
+    }
+}
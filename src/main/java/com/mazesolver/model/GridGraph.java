@@ -0,0 +1,263 @@
+package com.mazesolver.model;
+
+/**
+ * Immutable, index-based snapshot of a maze's walkable cells.
+ * Cells are addressed as {@code row * cols + col}; each cell stores a 4-bit mask of
+ * the directions that lead to an in-bounds walkable neighbor, so searches can step
+ * through the grid without bounds checks or per-expansion allocation. A second byte per
+ * cell holds the open diagonals for the 8-connected {@link MovementModel}s.
+ * <p>
+ * Moving into a cell costs that cell's terrain cost (1 to {@link Maze#MAX_TERRAIN_COST});
+ * mazes without terrain store no cost array and every step costs 1.
+ */
+public final class GridGraph {
+
+    /** Direction order used by every neighbor mask: up, right, down, left. */
+    public static final int UP = 0;
+    public static final int RIGHT = 1;
+    public static final int DOWN = 2;
+    public static final int LEFT = 3;
+    public static final int DIRECTIONS = 4;
+
+    /** Diagonal directions, used only by 8-connected movement; {@link #opposite(int)} works for them too. */
+    public static final int UP_RIGHT = 4;
+    public static final int DOWN_RIGHT = 5;
+    public static final int DOWN_LEFT = 6;
+    public static final int UP_LEFT = 7;
+    public static final int ALL_DIRECTIONS = 8;
+
+    private static final int[] ROW_DELTA = {-1, 0, 1, 0, -1, 1, 1, -1};
+    private static final int[] COL_DELTA = {0, 1, 0, -1, 1, 1, -1, -1};
+
+    private final int rows;
+    private final int cols;
+    private final int version;
+    private final boolean[] walkable;
+    private final byte[] neighborMask;
+    // Low nibble: diagonals onto walkable cells; high nibble: those whose two side cells are walkable too
+    private final byte[] diagonalMask;
+    private final int[] step;
+    private final int wordsPerRow;
+    private final long[] rowBits;
+    private final byte[] cost;
+    private final int minCost;
+    private final int maxCost;
+
+    GridGraph(Cell[][] grid, byte[] costs, int rows, int cols, int version) {
+        this.rows = rows;
+        this.cols = cols;
+        this.version = version;
+        this.walkable = new boolean[rows * cols];
+        this.neighborMask = new byte[rows * cols];
+        this.diagonalMask = new byte[rows * cols];
+        this.step = new int[]{-cols, 1, cols, -1, 1 - cols, cols + 1, cols - 1, -cols - 1};
+        this.wordsPerRow = (cols + 63) >>> 6;
+        this.rowBits = new long[rows * wordsPerRow];
+
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                if (grid[row][col].isWalkable()) {
+                    walkable[row * cols + col] = true;
+                    rowBits[row * wordsPerRow + (col >>> 6)] |= 1L << col;
+                }
+            }
+        }
+
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                updateMask(row, col);
+            }
+        }
+
+        this.cost = costs == null ? null : costs.clone();
+        this.minCost = costBound(false);
+        this.maxCost = costBound(true);
+    }
+
+    /**
+     * Copies {@code previous} and re-reads only the edited cells, so a snapshot after a few
+     * obstacle edits costs an array copy instead of a full scan of the grid.
+     */
+    GridGraph(GridGraph previous, Cell[][] grid, byte[] costs, int[] editedCells, int version) {
+        this.rows = previous.rows;
+        this.cols = previous.cols;
+        this.version = version;
+        this.walkable = previous.walkable.clone();
+        this.neighborMask = previous.neighborMask.clone();
+        this.diagonalMask = previous.diagonalMask.clone();
+        this.step = previous.step;
+        this.wordsPerRow = previous.wordsPerRow;
+        this.rowBits = previous.rowBits.clone();
+
+        for (int index : editedCells) {
+            int row = index / cols;
+            int col = index % cols;
+            long bit = 1L << col;
+            walkable[index] = grid[row][col].isWalkable();
+            if (walkable[index]) {
+                rowBits[row * wordsPerRow + (col >>> 6)] |= bit;
+            } else {
+                rowBits[row * wordsPerRow + (col >>> 6)] &= ~bit;
+            }
+        }
+        for (int index : editedCells) {
+            int row = index / cols;
+            int col = index % cols;
+            updateMask(row, col);
+            // Diagonal masks depend on the whole 3x3 neighborhood
+            for (int d = 0; d < ALL_DIRECTIONS; d++) {
+                int newRow = row + ROW_DELTA[d];
+                int newCol = col + COL_DELTA[d];
+                if (newRow >= 0 && newRow < rows && newCol >= 0 && newCol < cols) {
+                    updateMask(newRow, newCol);
+                }
+            }
+        }
+
+        this.cost = costs == null ? null : costs.clone();
+        this.minCost = costBound(false);
+        this.maxCost = costBound(true);
+    }
+
+    /**
+     * Gets the smallest or largest step cost into any walkable cell (1 for an empty grid).
+     */
+    private int costBound(boolean largest) {
+        if (cost == null) {
+            return 1;
+        }
+        int bound = largest ? 0 : Integer.MAX_VALUE;
+        for (int index = 0; index < walkable.length; index++) {
+            if (walkable[index]) {
+                int c = cost[index] & 0xFF;
+                bound = largest ? Math.max(bound, c) : Math.min(bound, c);
+            }
+        }
+        return bound == 0 || bound == Integer.MAX_VALUE ? 1 : bound;
+    }
+
+    private void updateMask(int row, int col) {
+        int index = row * cols + col;
+        int mask = 0;
+        int diagonals = 0;
+        if (walkable[index]) {
+            for (int d = 0; d < DIRECTIONS; d++) {
+                if (isOpen(row + ROW_DELTA[d], col + COL_DELTA[d])) {
+                    mask |= 1 << d;
+                }
+            }
+            for (int d = DIRECTIONS; d < ALL_DIRECTIONS; d++) {
+                int newRow = row + ROW_DELTA[d];
+                int newCol = col + COL_DELTA[d];
+                if (isOpen(newRow, newCol)) {
+                    diagonals |= 1 << (d - DIRECTIONS);
+                    // The two cells beside the move share its row step and its column step
+                    if (isOpen(newRow, col) && isOpen(row, newCol)) {
+                        diagonals |= 1 << d;
+                    }
+                }
+            }
+        }
+        neighborMask[index] = (byte) mask;
+        diagonalMask[index] = (byte) diagonals;
+    }
+
+    private boolean isOpen(int row, int col) {
+        return row >= 0 && row < rows && col >= 0 && col < cols && walkable[row * cols + col];
+    }
+
+    public int getRows() { return rows; }
+    public int getCols() { return cols; }
+    public int size() { return rows * cols; }
+
+    /**
+     * Gets the maze modification count this snapshot was built from.
+     */
+    public int getVersion() { return version; }
+
+    public int index(int row, int col) { return row * cols + col; }
+    public int index(Cell cell) { return cell.getRow() * cols + cell.getCol(); }
+    public int rowOf(int index) { return index / cols; }
+    public int colOf(int index) { return index % cols; }
+
+    public boolean isWalkable(int index) { return walkable[index]; }
+
+    /**
+     * Gets the bitmask of walkable neighbor directions for a cell (bit {@code d} = direction {@code d}).
+     */
+    public int neighborMask(int index) { return neighborMask[index]; }
+
+    /**
+     * Gets the bitmask of directions (0-7) a search may move in from a cell under the given movement model.
+     */
+    public int neighborMask(int index, MovementModel movement) {
+        switch (movement) {
+            case EIGHT_CONNECTED:
+                return neighborMask[index] | (diagonalMask[index] & 0x0F) << DIRECTIONS;
+            case EIGHT_CONNECTED_NO_CORNER_CUTTING:
+                return neighborMask[index] | (diagonalMask[index] & 0xF0);
+            default:
+                return neighborMask[index];
+        }
+    }
+
+    /**
+     * Gets the index offset for moving one step in the given direction (0-7).
+     */
+    public int step(int direction) { return step[direction]; }
+
+    /**
+     * Gets the number of 64-bit words used per row by {@link #rowWord(int, int)}.
+     */
+    public int wordsPerRow() { return wordsPerRow; }
+
+    /**
+     * Gets 64 walkability bits of a row (bit {@code c & 63} of word {@code c >>> 6} is column {@code c}).
+     * Rows and words outside the grid read as all-blocked, so scans can run off the edges safely.
+     */
+    public long rowWord(int row, int word) {
+        if (row < 0 || row >= rows || word < 0 || word >= wordsPerRow) {
+            return 0L;
+        }
+        return rowBits[row * wordsPerRow + word];
+    }
+
+    /**
+     * Gets walkability word {@code row * wordsPerRow() + word} directly (no bounds handling).
+     */
+    public long walkableWord(int wordIndex) {
+        return rowBits[wordIndex];
+    }
+
+    public static int rowDelta(int direction) { return ROW_DELTA[direction]; }
+    public static int colDelta(int direction) { return COL_DELTA[direction]; }
+    public static int opposite(int direction) { return direction ^ 2; }
+
+    /**
+     * Gets the cost of stepping into a cell.
+     */
+    public int cost(int index) { return cost == null ? 1 : cost[index] & 0xFF; }
+
+    /**
+     * Gets the cheapest step cost in the graph; scaling a distance in steps by it gives an
+     * admissible estimate of the cost.
+     */
+    public int minCost() { return minCost; }
+
+    /**
+     * Gets the most expensive step cost in the graph.
+     */
+    public int maxCost() { return maxCost; }
+
+    /**
+     * Whether every step between walkable cells has the same cost, so the fewest steps is also the cheapest path.
+     */
+    public boolean hasUniformCosts() { return minCost == maxCost; }
+
+    /**
+     * Manhattan distance between two cell indices.
+     */
+    public int manhattan(int a, int b) {
+        return Math.abs(a / cols - b / cols) + Math.abs(a % cols - b % cols);
+    }
+}
@@ -0,0 +1,210 @@
+package com.mazesolver.model;
+
+import java.util.Arrays;
+
+/**
+ * Exact BFS distance tables from a few landmark cells, for ALT (A*, Landmarks, Triangle
+ * inequality) heuristics. Landmarks are picked by farthest-point selection, so they sit on the
+ * periphery of the maze where the bound {@code |d(L, t) - d(L, v)|} is tightest.
+ * <p>
+ * Distances are stored cell-major ({@code cell * count + landmark}) as 16-bit chars, falling
+ * back to ints only if some distance does not fit. Unreachable cells hold {@link #UNREACHABLE}.
+ */
+public final class LandmarkTable {
+
+    public static final int DEFAULT_LANDMARKS = 8;
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private static final char CHAR_UNREACHABLE = Character.MAX_VALUE;
+
+    private final int version;
+    private final int count;
+    private final int[] landmarks;
+    private char[] compact;
+    private int[] wide;
+
+    LandmarkTable(GridGraph graph, int seed, int requested) {
+        this.version = graph.getVersion();
+        int size = graph.size();
+        int stride = Math.max(0, requested);
+        int[] queue = new int[size];
+        // Distances of the latest BFS, stored into the table before the next BFS reuses the array
+        int[] distance = new int[size];
+        int[] nearest = new int[size];
+        Arrays.fill(nearest, UNREACHABLE);
+        compact = new char[size * stride];
+
+        // First landmark: the cell farthest from the seed (BFS dequeues in distance order)
+        int candidate = graph.isWalkable(seed) ? bfs(graph, seed, distance, queue) : -1;
+        int[] chosen = new int[stride];
+        int chosenCount = 0;
+        while (candidate >= 0 && chosenCount < stride) {
+            int landmark = chosenCount++;
+            chosen[landmark] = candidate;
+            bfs(graph, candidate, distance, queue);
+            for (int cell = 0; cell < size; cell++) {
+                int d = distance[cell];
+                if (d < nearest[cell]) {
+                    nearest[cell] = d;
+                }
+                store(cell * stride + landmark, d);
+            }
+            candidate = farthestFromLandmarks(nearest);
+        }
+
+        this.count = chosenCount;
+        this.landmarks = Arrays.copyOf(chosen, chosenCount);
+        if (chosenCount < stride) {
+            trim(size, stride);
+        }
+    }
+
+    private void store(int position, int d) {
+        if (compact != null) {
+            if (d == UNREACHABLE || d < CHAR_UNREACHABLE) {
+                compact[position] = d == UNREACHABLE ? CHAR_UNREACHABLE : (char) d;
+                return;
+            }
+            widen();
+        }
+        wide[position] = d;
+    }
+
+    /**
+     * Switches to int storage once a distance does not fit in a char, keeping the distances
+     * stored so far.
+     */
+    private void widen() {
+        wide = new int[compact.length];
+        for (int i = 0; i < compact.length; i++) {
+            wide[i] = compact[i] == CHAR_UNREACHABLE ? UNREACHABLE : compact[i];
+        }
+        compact = null;
+    }
+
+    /**
+     * Drops the unused slots when fewer landmarks were found than requested, so every cell's
+     * distances are {@code count} entries apart.
+     */
+    private void trim(int size, int stride) {
+        if (compact != null) {
+            char[] trimmed = new char[size * count];
+            for (int cell = 0; cell < size; cell++) {
+                System.arraycopy(compact, cell * stride, trimmed, cell * count, count);
+            }
+            compact = trimmed;
+        } else {
+            int[] trimmed = new int[size * count];
+            for (int cell = 0; cell < size; cell++) {
+                System.arraycopy(wide, cell * stride, trimmed, cell * count, count);
+            }
+            wide = trimmed;
+        }
+    }
+
+    /**
+     * Gets the maze modification count this table was built from.
+     */
+    public int getVersion() { return version; }
+
+    /**
+     * Gets the number of landmarks (may be fewer than requested for tiny mazes).
+     */
+    public int getLandmarkCount() { return count; }
+
+    /**
+     * Gets the cell index of a landmark.
+     */
+    public int getLandmarkCell(int landmark) { return landmarks[landmark]; }
+
+    /**
+     * Gets the distance from a landmark to a cell, or {@link #UNREACHABLE}.
+     */
+    public int distance(int landmark, int cell) {
+        if (compact != null) {
+            char d = compact[cell * count + landmark];
+            return d == CHAR_UNREACHABLE ? UNREACHABLE : d;
+        }
+        return wide[cell * count + landmark];
+    }
+
+    /**
+     * Copies the landmark distances of {@code cell} into {@code out} (length at least the landmark count).
+     */
+    public void distances(int cell, int[] out) {
+        for (int k = 0; k < count; k++) {
+            out[k] = distance(k, cell);
+        }
+    }
+
+    /**
+     * Lower bound on the distance between {@code cell} and a target whose landmark distances are
+     * {@code targetDistances}. Returns {@link #UNREACHABLE} if a landmark proves the two cells lie in
+     * different components.
+     */
+    public int lowerBound(int cell, int[] targetDistances) {
+        int best = 0;
+        int base = cell * count;
+        for (int k = 0; k < count; k++) {
+            int d = compact != null
+                    ? (compact[base + k] == CHAR_UNREACHABLE ? UNREACHABLE : compact[base + k])
+                    : wide[base + k];
+            int t = targetDistances[k];
+            if (d == UNREACHABLE || t == UNREACHABLE) {
+                if (d != t) {
+                    return UNREACHABLE;
+                }
+                continue;
+            }
+            int bound = d > t ? d - t : t - d;
+            if (bound > best) {
+                best = bound;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Gets the approximate heap footprint of the distance tables in bytes.
+     */
+    public long getMemoryBytes() {
+        return compact != null ? 2L * compact.length : 4L * wide.length;
+    }
+
+    private static int bfs(GridGraph graph, int source, int[] distance, int[] queue) {
+        Arrays.fill(distance, UNREACHABLE);
+        int head = 0;
+        int tail = 0;
+        distance[source] = 0;
+        queue[tail++] = source;
+        int last = source;
+        while (head < tail) {
+            int current = queue[head++];
+            last = current;
+            int mask = graph.neighborMask(current);
+            while (mask != 0) {
+                int direction = Integer.numberOfTrailingZeros(mask);
+                mask &= mask - 1;
+                int neighbor = current + graph.step(direction);
+                if (distance[neighbor] == UNREACHABLE) {
+                    distance[neighbor] = distance[current] + 1;
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+        return last;
+    }
+
+    private static int farthestFromLandmarks(int[] nearest) {
+        int best = -1;
+        int bestDistance = 0;
+        for (int cell = 0; cell < nearest.length; cell++) {
+            int d = nearest[cell];
+            if (d != UNREACHABLE && d > bestDistance) {
+                best = cell;
+                bestDistance = d;
+            }
+        }
+        return best;
+    }
+}
@@ -1,6 +1,9 @@
 package com.mazesolver.model;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
 import java.util.List;
 import java.util.Random;
 import java.util.HashMap;
@@ -11,19 +14,59 @@ import java.util.Map;
  * Provides methods for maze generation, pathfinding, and cell manipulation.
  */
 public class Maze {
+    // Number of recent single-cell edits remembered for incremental updates of derived data
+    private static final int EDIT_JOURNAL_SIZE = 256;
+    
+    /** Terrain costs range from 1 (plain path, the default) to this value. */
+    public static final int MAX_TERRAIN_COST = 255;
+    
+    // Kinds of Zobrist keys that make up the fingerprint
+    private static final int SIZE_KEY = 0;
+    private static final int BLOCKED_KEY = 1;
+    private static final int START_KEY = 2;
+    private static final int END_KEY = 3;
+    private static final int COST_KEY = 4;
+    
     private Cell[][] grid;
     private int rows;
     private int cols;
     private Cell startCell;
     private Cell endCell;
     private Random random;
+    // Terrain cost of entering each cell (row * cols + col), stored unsigned; null while every cost is 1
+    private byte[] costs;
+    // Volatile so the derived-data getters can hand out a current snapshot without locking
+    private volatile int modificationCount;
+    private volatile GridGraph graph;
+    private CorridorGraph corridorGraph;
+    private volatile LandmarkTable landmarks;
+    private ConnectivityIndex connectivity;
+    private volatile ComponentLabels components;
+    private TreeOracle treeOracle;
+    private int treeOracleVersion = -1;
+    private final int[] editJournal = new int[EDIT_JOURNAL_SIZE];
+    private int journalStart;
+    private long fingerprint;
     
     public Maze(int rows, int cols) {
+        this(rows, cols, new Random());
+    }
+    
+    /**
+     * Creates a maze whose generators draw from a seeded random source, so the same seed,
+     * size and generation algorithm always produce the same layout.
+     */
+    public Maze(int rows, int cols, long seed) {
+        this(rows, cols, new Random(seed));
+    }
+    
+    private Maze(int rows, int cols, Random random) {
         this.rows = rows;
         this.cols = cols;
         this.grid = new Cell[rows][cols];
-        this.random = new Random();
+        this.random = random;
         initializeGrid();
+        recomputeFingerprint();
     }
     
     private void initializeGrid() {
@@ -58,6 +101,13 @@ public class Maze {
         
         // Ensure start and end are accessible
         ensureStartEndAccessible();
+        modificationCount++;
+        journalStart = modificationCount;
+        recomputeFingerprint();
+        
+        // Landmark tables and the tree oracle are only valid for this layout, so build them now while nothing is being solved
+        getLandmarks();
+        getTreeOracle();
     }
     
     private void generateRecursiveBacktracking() {
@@ -68,24 +118,37 @@ public class Maze {
     }
     
     private void recursiveBacktrack(int row, int col) {
+        // Explicit stack instead of recursion, so large mazes cannot overflow the thread stack
+        Deque<BacktrackFrame> stack = new ArrayDeque<>();
         grid[row][col].setType(Cell.CellType.PATH);
+        stack.push(new BacktrackFrame(row, col, shuffledDirections()));
         
-        // Define directions: up, right, down, left
-        int[][] directions = {{-2, 0}, {0, 2}, {2, 0}, {0, -2}};
-        shuffleArray(directions);
-        
-        for (int[] dir : directions) {
-            int newRow = row + dir[0];
-            int newCol = col + dir[1];
+        while (!stack.isEmpty()) {
+            BacktrackFrame frame = stack.peek();
+            if (frame.next == frame.directions.length) {
+                stack.pop();
+                continue;
+            }
+            int[] dir = frame.directions[frame.next++];
+            int newRow = frame.row + dir[0];
+            int newCol = frame.col + dir[1];
             
             if (isValid(newRow, newCol) && grid[newRow][newCol].getType() == Cell.CellType.WALL) {
                 // Carve path
-                grid[row + dir[0]/2][col + dir[1]/2].setType(Cell.CellType.PATH);
-                recursiveBacktrack(newRow, newCol);
+                grid[frame.row + dir[0]/2][frame.col + dir[1]/2].setType(Cell.CellType.PATH);
+                grid[newRow][newCol].setType(Cell.CellType.PATH);
+                stack.push(new BacktrackFrame(newRow, newCol, shuffledDirections()));
             }
         }
     }
     
+    private int[][] shuffledDirections() {
+        // Define directions: up, right, down, left
+        int[][] directions = {{-2, 0}, {0, 2}, {2, 0}, {0, -2}};
+        shuffleArray(directions);
+        return directions;
+    }
+    
     private void generatePrimsAlgorithm() {
         // Initialize all cells as walls
         for (int row = 0; row < rows; row++) {
@@ -102,8 +165,11 @@ public class Maze {
         addWalls(startRow, startCol, walls);
         
         while (!walls.isEmpty()) {
+            // Swap the picked wall with the last one so removal is O(1)
             int wallIndex = random.nextInt(walls.size());
-            int[] wall = walls.remove(wallIndex);
+            int[] wall = walls.get(wallIndex);
+            walls.set(wallIndex, walls.get(walls.size() - 1));
+            walls.remove(walls.size() - 1);
             int wallRow = wall[0];
             int wallCol = wall[1];
             
@@ -225,18 +291,108 @@ public class Maze {
         endCell = grid[rows - 1][cols - 1];
         startCell.setType(Cell.CellType.START);
         endCell.setType(Cell.CellType.END);
+        costs = null;
+        modificationCount++;
+        journalStart = modificationCount;
+        recomputeFingerprint();
     }
     
     public void addObstacle(int row, int col) {
-        if (isValid(row, col) && !grid[row][col].isSource() && !grid[row][col].isDestination()) {
+        if (isValid(row, col) && !grid[row][col].isSource() && !grid[row][col].isDestination()
+                && grid[row][col].getType() != Cell.CellType.OBSTACLE) {
+            // A wall is blocked already; its key must stay out, or removing the obstacle later
+            // would open the cell without changing the fingerprint
+            if (grid[row][col].isWalkable()) {
+                fingerprint ^= zobristKey(BLOCKED_KEY, row * cols + col, 0);
+            }
             grid[row][col].setType(Cell.CellType.OBSTACLE);
+            recordEdit(row, col);
+            invalidateLandmarks();
         }
     }
     
     public void removeObstacle(int row, int col) {
         if (isValid(row, col) && grid[row][col].getType() == Cell.CellType.OBSTACLE) {
+            fingerprint ^= zobristKey(BLOCKED_KEY, row * cols + col, 0);
             grid[row][col].setType(Cell.CellType.PATH);
+            recordEdit(row, col);
+            invalidateLandmarks();
+        }
+    }
+    
+    /**
+     * Gets the terrain cost of moving into a cell (1 unless set otherwise).
+     */
+    public int getCost(int row, int col) {
+        if (!isValid(row, col)) {
+            throw new IndexOutOfBoundsException("Cell (" + row + ", " + col + ") is outside the maze");
+        }
+        return costs == null ? 1 : costs[row * cols + col] & 0xFF;
+    }
+    
+    /**
+     * Sets the terrain cost of moving into a cell. Cost-aware algorithms (Dijkstra, A*) minimise
+     * the total cost; the others still minimise the number of steps.
+     * @throws IllegalArgumentException if the cost is outside 1..{@link #MAX_TERRAIN_COST}
+     */
+    public void setCost(int row, int col, int cost) {
+        if (cost < 1 || cost > MAX_TERRAIN_COST) {
+            throw new IllegalArgumentException("Terrain cost must be between 1 and " + MAX_TERRAIN_COST + ": " + cost);
+        }
+        int previous = getCost(row, col);
+        if (previous == cost) {
+            return;
+        }
+        fingerprint ^= costKey(row * cols + col, previous) ^ costKey(row * cols + col, cost);
+        if (costs == null) {
+            costs = new byte[rows * cols];
+            Arrays.fill(costs, (byte) 1);
+        }
+        costs[row * cols + col] = (byte) cost;
+        recordEdit(row, col);
+    }
+    
+    /**
+     * Gives every cell a random terrain cost in 1..maxCost, or clears the terrain if maxCost is 1.
+     */
+    public void randomizeCosts(int maxCost) {
+        if (maxCost < 1 || maxCost > MAX_TERRAIN_COST) {
+            throw new IllegalArgumentException("Terrain cost must be between 1 and " + MAX_TERRAIN_COST + ": " + maxCost);
+        }
+        if (maxCost == 1) {
+            costs = null;
+        } else {
+            costs = new byte[rows * cols];
+            for (int i = 0; i < costs.length; i++) {
+                costs[i] = (byte) (1 + random.nextInt(maxCost));
+            }
         }
+        // Too many edits for the journal: derived data is rebuilt rather than patched
+        modificationCount++;
+        journalStart = modificationCount;
+        recomputeFingerprint();
+    }
+    
+    private void recordEdit(int row, int col) {
+        modificationCount++;
+        editJournal[modificationCount % EDIT_JOURNAL_SIZE] = row * cols + col;
+    }
+    
+    /**
+     * Gets the cells (as {@code row * cols + col} indices) edited after the given modification count,
+     * in edit order. Returns null if the maze was regenerated or reset since then, or if too many
+     * edits happened to be remembered; callers must then rebuild from scratch.
+     */
+    public synchronized int[] getEditsSince(int version) {
+        if (version < journalStart || version > modificationCount
+                || modificationCount - version > EDIT_JOURNAL_SIZE) {
+            return null;
+        }
+        int[] edits = new int[modificationCount - version];
+        for (int i = 0; i < edits.length; i++) {
+            edits[i] = editJournal[(version + 1 + i) % EDIT_JOURNAL_SIZE];
+        }
+        return edits;
     }
     
     /**
@@ -250,11 +406,13 @@ public class Maze {
         // Clear previous start cell
         if (startCell != null) {
             startCell.setType(Cell.CellType.PATH);
+            fingerprint ^= zobristKey(START_KEY, startCell.getRow() * cols + startCell.getCol(), 0);
         }
         
         // Set new start cell
         startCell = grid[row][col];
         startCell.setType(Cell.CellType.START);
+        fingerprint ^= zobristKey(START_KEY, row * cols + col, 0);
         return true;
     }
     
@@ -269,11 +427,13 @@ public class Maze {
         // Clear previous end cell
         if (endCell != null) {
             endCell.setType(Cell.CellType.PATH);
+            fingerprint ^= zobristKey(END_KEY, endCell.getRow() * cols + endCell.getCol(), 0);
         }
         
         // Set new end cell
         endCell = grid[row][col];
         endCell.setType(Cell.CellType.END);
+        fingerprint ^= zobristKey(END_KEY, row * cols + col, 0);
         return true;
     }
     
@@ -296,6 +456,204 @@ public class Maze {
     public Cell getEndCell() { return endCell; }
     public Cell getCell(int row, int col) { return isValid(row, col) ? grid[row][col] : null; }
     
+    /**
+     * Gets the number of structural edits (generation, reset, obstacle changes) made so far.
+     * Derived data such as {@link GridGraph} is keyed by this value.
+     */
+    public int getModificationCount() { return modificationCount; }
+    
+    /**
+     * Gets a 64-bit Zobrist hash of everything a search depends on: the size, which cells are
+     * walkable, the start and end cells and the terrain costs. Single-cell edits update it in
+     * O(1) by XOR-ing one key per changed fact; generation, reset and randomized terrain
+     * recompute it. Equal mazes always have equal fingerprints, and different ones collide
+     * with probability about 2^-64.
+     */
+    public long getFingerprint() { return fingerprint; }
+    
+    /**
+     * Gets the fingerprint without the start and end cells, hashing only the size, the walkable
+     * cells and the terrain costs. Data that does not depend on the endpoints, such as a
+     * contraction hierarchy, stays valid while this value does.
+     */
+    public long getLayoutFingerprint() {
+        return fingerprint ^ zobristKey(START_KEY, startCell.getRow() * cols + startCell.getCol(), 0)
+                ^ zobristKey(END_KEY, endCell.getRow() * cols + endCell.getCol(), 0);
+    }
+    
+    private void recomputeFingerprint() {
+        fingerprint = computeFingerprint();
+    }
+    
+    /**
+     * Hashes the whole maze from scratch; the incrementally updated fingerprint must always equal this.
+     */
+    long computeFingerprint() {
+        long hash = zobristKey(SIZE_KEY, rows, 0) ^ zobristKey(SIZE_KEY, cols, 1);
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                int index = row * cols + col;
+                if (!grid[row][col].isWalkable()) {
+                    hash ^= zobristKey(BLOCKED_KEY, index, 0);
+                }
+                if (costs != null) {
+                    hash ^= costKey(index, costs[index] & 0xFF);
+                }
+            }
+        }
+        hash ^= zobristKey(START_KEY, startCell.getRow() * cols + startCell.getCol(), 0);
+        hash ^= zobristKey(END_KEY, endCell.getRow() * cols + endCell.getCol(), 0);
+        return hash;
+    }
+    
+    /**
+     * Gets the key of a cell's terrain cost; the default cost contributes nothing, so a maze
+     * without terrain and one with every cost set to 1 hash alike.
+     */
+    private static long costKey(int index, int cost) {
+        return cost == 1 ? 0 : zobristKey(COST_KEY, index, cost);
+    }
+    
+    /**
+     * Derives the random key of one fact from its kind, cell index and value with the SplitMix64
+     * finalizer, instead of storing a table of random numbers per cell.
+     */
+    private static long zobristKey(int kind, int index, int value) {
+        long z = ((long) kind << 40 | (long) value << 32 | (index & 0xFFFFFFFFL)) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+    
+    /**
+     * Gets the index-based graph of the current walkable cells.
+     * The snapshot is cached and rebuilt only after the maze has been modified; after a few
+     * obstacle edits the previous snapshot is copied and patched instead. Snapshots are
+     * immutable, so a current one is returned without taking the maze's lock.
+     */
+    public GridGraph getGraph() {
+        GridGraph current = graph;
+        if (current != null && current.getVersion() == modificationCount) {
+            return current;
+        }
+        return updateGraph();
+    }
+    
+    private synchronized GridGraph updateGraph() {
+        if (graph == null || graph.getVersion() != modificationCount) {
+            int[] edits = graph == null ? null : getEditsSince(graph.getVersion());
+            graph = edits == null
+                    ? new GridGraph(grid, costs, rows, cols, modificationCount)
+                    : new GridGraph(graph, grid, costs, edits, modificationCount);
+        }
+        return graph;
+    }
+    
+    /**
+     * Gets the corridor-contracted graph of the maze (junctions and dead ends joined by weighted edges).
+     * The graph is cached; after single-cell obstacle edits only the corridors around the edited
+     * cells are recomputed, otherwise it is rebuilt.
+     */
+    public synchronized CorridorGraph getCorridorGraph() {
+        GridGraph current = getGraph();
+        if (corridorGraph == null) {
+            corridorGraph = new CorridorGraph(current);
+        } else if (corridorGraph.getVersion() != current.getVersion()) {
+            int[] edits = getEditsSince(corridorGraph.getVersion());
+            if (edits == null) {
+                corridorGraph = new CorridorGraph(current);
+            } else {
+                corridorGraph.update(current, edits);
+            }
+        }
+        return corridorGraph;
+    }
+    
+    /**
+     * Checks whether a walkable path connects two cells, in near-constant time.
+     * Answers come from a connected-components index over the walkable cells that is built once
+     * and then updated incrementally on obstacle edits. Each version's component labels are
+     * flattened into an immutable array, so repeated queries against an unchanged maze are
+     * answered without taking the maze's lock.
+     */
+    public boolean isReachable(Cell from, Cell to) {
+        ComponentLabels current = components;
+        if (current == null || current.version != modificationCount) {
+            current = updateComponents();
+        }
+        int a = current.labels[from.getRow() * cols + from.getCol()];
+        return a >= 0 && a == current.labels[to.getRow() * cols + to.getCol()];
+    }
+    
+    private synchronized ComponentLabels updateComponents() {
+        getConnectivityIndex();
+        return components;
+    }
+    
+    /**
+     * Gets the number of connected regions of walkable cells.
+     */
+    public synchronized int getComponentCount() {
+        return getConnectivityIndex().getComponentCount();
+    }
+    
+    private ConnectivityIndex getConnectivityIndex() {
+        GridGraph current = getGraph();
+        if (connectivity == null) {
+            connectivity = new ConnectivityIndex(current);
+        } else if (connectivity.getVersion() != current.getVersion()) {
+            int[] edits = getEditsSince(connectivity.getVersion());
+            if (edits == null) {
+                connectivity = new ConnectivityIndex(current);
+            } else {
+                connectivity.update(current, edits);
+            }
+        }
+        if (components == null || components.version != current.getVersion()) {
+            components = new ComponentLabels(current.getVersion(), connectivity.componentLabels());
+        }
+        return connectivity;
+    }
+    
+    /**
+     * Gets the ALT landmark distance tables of the maze.
+     * The tables are built when a maze is generated, dropped on any obstacle edit and rebuilt
+     * lazily on the next call. A current table is returned without taking the maze's lock.
+     */
+    public LandmarkTable getLandmarks() {
+        LandmarkTable table = landmarks;
+        if (table != null && table.getVersion() == modificationCount) {
+            return table;
+        }
+        return updateLandmarks();
+    }
+    
+    private synchronized LandmarkTable updateLandmarks() {
+        GridGraph current = getGraph();
+        if (landmarks == null || landmarks.getVersion() != current.getVersion()) {
+            landmarks = new LandmarkTable(current, current.index(startCell), LandmarkTable.DEFAULT_LANDMARKS);
+        }
+        return landmarks;
+    }
+    
+    /**
+     * Gets the exact distance oracle for a maze whose walkable cells form a tree, as generated
+     * mazes do, or null once an edit has opened a cycle. The oracle is built when a maze is
+     * generated and rebuilt lazily after edits; callers fall back to searching when it is null.
+     */
+    public synchronized TreeOracle getTreeOracle() {
+        GridGraph current = getGraph();
+        if (treeOracleVersion != current.getVersion()) {
+            treeOracle = TreeOracle.build(current);
+            treeOracleVersion = current.getVersion();
+        }
+        return treeOracle;
+    }
+    
+    private synchronized void invalidateLandmarks() {
+        landmarks = null;
+    }
+    
     public enum MazeGenerationAlgorithm {
         RECURSIVE_BACKTRACKING,
         PRIMS_ALGORITHM,
@@ -303,6 +661,32 @@ public class Maze {
     }
     
     // Helper classes
+    private static class BacktrackFrame {
+        final int row, col;
+        final int[][] directions;
+        int next;
+        
+        BacktrackFrame(int row, int col, int[][] directions) {
+            this.row = row;
+            this.col = col;
+            this.directions = directions;
+        }
+    }
+    
+    /**
+     * The component of every cell at one maze version, or -1 for blocked cells; never modified
+     * once published.
+     */
+    private static final class ComponentLabels {
+        final int version;
+        final int[] labels;
+        
+        ComponentLabels(int version, int[] labels) {
+            this.version = version;
+            this.labels = labels;
+        }
+    }
+    
     private static class Edge {
         int row1, col1, row2, col2;
         
@@ -313,40 +697,5 @@ public class Maze {
             this.col2 = col2;
         }
     }
-    
-    private static class UnionFind {
-        private int[] parent;
-        private int[] rank;
-        
-        UnionFind(int size) {
-            parent = new int[size];
-            rank = new int[size];
-            for (int i = 0; i < size; i++) {
-                parent[i] = i;
-            }
-        }
-        
-        int find(int x) {
-            if (parent[x] != x) {
-                parent[x] = find(parent[x]);
-            }
-            return parent[x];
-        }
-        
-        void union(int x, int y) {
-            int px = find(x);
-            int py = find(y);
-            if (px == py) return;
-            
-            if (rank[px] < rank[py]) {
-                parent[px] = py;
-            } else if (rank[px] > rank[py]) {
-                parent[py] = px;
-            } else {
-                parent[py] = px;
-                rank[px]++;
-            }
-        }
-    }
 
 }
@@ -0,0 +1,71 @@
+package com.mazesolver.model;
+
+/**
+ * How a search may move between cells.
+ * <ul>
+ *   <li>{@link #FOUR_CONNECTED}: up, right, down and left, each costing one step.</li>
+ *   <li>{@link #EIGHT_CONNECTED}: also diagonally onto any walkable cell, even between two
+ *       blocked cells.</li>
+ *   <li>{@link #EIGHT_CONNECTED_NO_CORNER_CUTTING}: diagonally only when both cells the move
+ *       passes between are walkable as well.</li>
+ * </ul>
+ * In the 8-connected models lengths are fixed point: a straight move has length
+ * {@link #STRAIGHT_LENGTH} and a diagonal one {@link #DIAGONAL_LENGTH} (7/5 is close to the square root of 2).
+ */
+public enum MovementModel {
+    FOUR_CONNECTED("4-Connected", false),
+    EIGHT_CONNECTED("8-Connected", true),
+    EIGHT_CONNECTED_NO_CORNER_CUTTING("8-Connected (No Corner Cutting)", true);
+
+    public static final int STRAIGHT_LENGTH = 5;
+    public static final int DIAGONAL_LENGTH = 7;
+
+    private final String displayName;
+    private final boolean diagonal;
+    private final int[] stepLength;
+
+    MovementModel(String displayName, boolean diagonal) {
+        this.displayName = displayName;
+        this.diagonal = diagonal;
+        this.stepLength = diagonal
+                ? new int[]{STRAIGHT_LENGTH, STRAIGHT_LENGTH, STRAIGHT_LENGTH, STRAIGHT_LENGTH,
+                            DIAGONAL_LENGTH, DIAGONAL_LENGTH, DIAGONAL_LENGTH, DIAGONAL_LENGTH}
+                : new int[]{1, 1, 1, 1};
+    }
+
+    public String getDisplayName() { return displayName; }
+
+    public boolean allowsDiagonals() { return diagonal; }
+
+    /**
+     * Gets the number of directions this model moves in (4 or 8); directions are numbered as in {@link GridGraph}.
+     */
+    public int directions() { return stepLength.length; }
+
+    /**
+     * Gets the length of one move in the given direction.
+     */
+    public int stepLength(int direction) { return stepLength[direction]; }
+
+    /**
+     * Gets the length of the shortest obstacle-free route between two cells: Manhattan distance
+     * for 4-connected movement, octile distance otherwise.
+     */
+    public int distance(GridGraph graph, int a, int b) {
+        if (!diagonal) {
+            return graph.manhattan(a, b);
+        }
+        int dr = Math.abs(graph.rowOf(a) - graph.rowOf(b));
+        int dc = Math.abs(graph.colOf(a) - graph.colOf(b));
+        return STRAIGHT_LENGTH * (dr + dc) + (DIAGONAL_LENGTH - 2 * STRAIGHT_LENGTH) * Math.min(dr, dc);
+    }
+
+    public static MovementModel fromDisplayName(String name) {
+        for (MovementModel model : values()) {
+            if (model.displayName.equals(name)) {
+                return model;
+            }
+        }
+        return FOUR_CONNECTED;
+    }
+}
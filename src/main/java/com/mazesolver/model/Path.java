@@ -0,0 +1,310 @@
+package com.mazesolver.model;
+
+import java.util.*;
+
+/**
+ * Compact, immutable path through a grid: the start cell's index followed by one
+ * {@link GridGraph} direction per step, packed 2 bits per step when the path only moves
+ * straight and 3 bits when it also moves diagonally. A path of n cells takes about n / 4 bytes,
+ * against a reference and a pinned {@link Cell} per cell for a {@code List<Cell>}.
+ * <p>
+ * Cells are produced on demand, either lazily through {@link #indices()}, {@link #cells(Maze)}
+ * and {@link #asList(Maze)} or all at once through {@link #toList(Maze)}.
+ */
+public final class Path {
+
+    public static final Path EMPTY = new Path(0, -1, -1, 0, 2, new long[0]);
+
+    // Direction of a one-cell move, indexed by (rowDelta + 1) * 3 + (colDelta + 1); -1 for none
+    private static final int[] DIRECTION_OF = {
+            GridGraph.UP_LEFT, GridGraph.UP, GridGraph.UP_RIGHT,
+            GridGraph.LEFT, -1, GridGraph.RIGHT,
+            GridGraph.DOWN_LEFT, GridGraph.DOWN, GridGraph.DOWN_RIGHT
+    };
+
+    private final int cols;
+    private final int start;
+    private final int end;
+    private final int length;
+    private final int bitsPerStep;
+    private final long[] steps;
+
+    private Path(int cols, int start, int end, int length, int bitsPerStep, long[] steps) {
+        this.cols = cols;
+        this.start = start;
+        this.end = end;
+        this.length = length;
+        this.bitsPerStep = bitsPerStep;
+        this.steps = steps;
+    }
+
+    /**
+     * Encodes a path given as consecutive cell indices in a grid with the given number of columns.
+     * @throws IllegalArgumentException if two consecutive cells are not neighbors
+     */
+    public static Path of(int cols, int[] indices) {
+        if (indices.length == 0) {
+            return EMPTY;
+        }
+        boolean diagonal = false;
+        for (int i = 1; i < indices.length; i++) {
+            diagonal |= directionOf(cols, indices[i - 1], indices[i]) >= GridGraph.DIRECTIONS;
+        }
+        Writer writer = new Writer(indices.length, diagonal);
+        for (int i = 1; i < indices.length; i++) {
+            writer.set(i - 1, directionOf(cols, indices[i - 1], indices[i]));
+        }
+        return writer.finish(cols, indices[0], indices[indices.length - 1]);
+    }
+
+    /**
+     * Encodes a path given as consecutive cells.
+     * @throws IllegalArgumentException if two consecutive cells are not neighbors
+     */
+    public static Path of(GridGraph graph, List<Cell> cells) {
+        if (cells instanceof CellList && ((CellList) cells).path.cols == graph.getCols()) {
+            return ((CellList) cells).path; // a view of a path is that path already
+        }
+        int[] indices = new int[cells.size()];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = graph.index(cells.get(i));
+        }
+        return of(graph.getCols(), indices);
+    }
+
+    /**
+     * Encodes the path to {@code end} in a search tree of parent indices, where the start's
+     * parent is -1. Runs in time linear in the path's length.
+     */
+    public static Path fromParents(GridGraph graph, int[] parent, int end) {
+        int cols = graph.getCols();
+        int length = 1;
+        boolean diagonal = false;
+        int start = end;
+        for (; parent[start] != -1; start = parent[start]) {
+            diagonal |= directionOf(cols, parent[start], start) >= GridGraph.DIRECTIONS;
+            length++;
+        }
+        // Steps are written from the last to the first, following the parents back
+        Writer writer = new Writer(length, diagonal);
+        int step = length - 1;
+        for (int index = end; parent[index] != -1; index = parent[index]) {
+            writer.set(--step, directionOf(cols, parent[index], index));
+        }
+        return writer.finish(cols, start, end);
+    }
+
+    private static int directionOf(int cols, int from, int to) {
+        int rowDelta = to / cols - from / cols;
+        int colDelta = to % cols - from % cols;
+        int direction = Math.abs(rowDelta) <= 1 && Math.abs(colDelta) <= 1
+                ? DIRECTION_OF[(rowDelta + 1) * 3 + colDelta + 1] : -1;
+        if (direction < 0) {
+            throw new IllegalArgumentException("Cells " + from + " and " + to + " are not neighbors");
+        }
+        return direction;
+    }
+
+    /**
+     * Gets the number of cells on the path, including both ends; 0 for no path.
+     */
+    public int length() { return length; }
+
+    public boolean isEmpty() { return length == 0; }
+
+    /**
+     * Gets the index of the first cell, or -1 for no path.
+     */
+    public int getStart() { return start; }
+
+    /**
+     * Gets the index of the last cell, or -1 for no path.
+     */
+    public int getEnd() { return end; }
+
+    /**
+     * Gets the {@link GridGraph} direction of the given step; step i leads from cell i to cell i + 1.
+     */
+    public int direction(int step) {
+        if (step < 0 || step >= length - 1) {
+            throw new IndexOutOfBoundsException("Step " + step + " of " + Math.max(0, length - 1));
+        }
+        long bit = (long) step * bitsPerStep;
+        int word = (int) (bit >>> 6);
+        int offset = (int) (bit & 63);
+        long value = steps[word] >>> offset;
+        if (offset + bitsPerStep > 64) {
+            value |= steps[word + 1] << (64 - offset);
+        }
+        return (int) value & ((1 << bitsPerStep) - 1);
+    }
+
+    /**
+     * Iterates over the cell indices from start to end, decoding one step at a time.
+     */
+    public PrimitiveIterator.OfInt indices() {
+        return new PrimitiveIterator.OfInt() {
+            private int position;
+            private int current = start;
+
+            @Override
+            public boolean hasNext() {
+                return position < length;
+            }
+
+            @Override
+            public int nextInt() {
+                if (position >= length) {
+                    throw new NoSuchElementException();
+                }
+                int index = current;
+                if (++position < length) {
+                    int direction = direction(position - 1);
+                    current += GridGraph.rowDelta(direction) * cols + GridGraph.colDelta(direction);
+                }
+                return index;
+            }
+        };
+    }
+
+    /**
+     * Gets a view of the path as the given maze's cells, decoded while iterating.
+     */
+    public Iterable<Cell> cells(Maze maze) {
+        return () -> new Iterator<Cell>() {
+            private final PrimitiveIterator.OfInt indices = indices();
+
+            @Override
+            public boolean hasNext() {
+                return indices.hasNext();
+            }
+
+            @Override
+            public Cell next() {
+                int index = indices.nextInt();
+                return maze.getCell(index / cols, index % cols);
+            }
+        };
+    }
+
+    /**
+     * Gets the path as the given maze's cells, for code that needs a list such as the UI.
+     */
+    public List<Cell> toList(Maze maze) {
+        List<Cell> cells = new ArrayList<>(length);
+        for (Cell cell : cells(maze)) {
+            cells.add(cell);
+        }
+        return cells;
+    }
+
+    /**
+     * Gets an unmodifiable list view of the path as the given maze's cells, decoded on first
+     * access to an element; {@link #of(GridGraph, List)} on the view returns this path again.
+     */
+    public List<Cell> asList(Maze maze) {
+        return isEmpty() ? Collections.emptyList() : new CellList(this, maze);
+    }
+
+    public int[] toIndices() {
+        int[] indices = new int[length];
+        PrimitiveIterator.OfInt iterator = indices();
+        for (int i = 0; i < length; i++) {
+            indices[i] = iterator.nextInt();
+        }
+        return indices;
+    }
+
+    /**
+     * Gets the estimated size of the path in bytes, including object headers.
+     */
+    public long footprintBytes() {
+        return 40 + 16 + 8L * steps.length;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Path)) {
+            return false;
+        }
+        Path other = (Path) o;
+        // The width depends only on the steps, so equal paths pack to equal words
+        return length == other.length && start == other.start && cols == other.cols
+                && Arrays.equals(steps, other.steps);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * start + length) + Arrays.hashCode(steps);
+    }
+
+    @Override
+    public String toString() {
+        return "Path[" + length + " cells, " + start + " -> " + end + "]";
+    }
+
+    /**
+     * List view returned by {@link #asList(Maze)}. The size is known without decoding; the cells
+     * are decoded together the first time one is needed.
+     */
+    private static final class CellList extends AbstractList<Cell> implements RandomAccess {
+
+        final Path path;
+        private final Maze maze;
+        // Decoding twice on a race is harmless, so the array is published without locking
+        private volatile Cell[] cells;
+
+        CellList(Path path, Maze maze) {
+            this.path = path;
+            this.maze = maze;
+        }
+
+        @Override
+        public Cell get(int index) {
+            Cell[] decoded = cells;
+            if (decoded == null) {
+                decoded = path.toList(maze).toArray(new Cell[0]);
+                cells = decoded;
+            }
+            return decoded[index];
+        }
+
+        @Override
+        public int size() {
+            return path.length;
+        }
+    }
+
+    /**
+     * Packs directions into words at a fixed width, in any order.
+     */
+    private static final class Writer {
+
+        private final int length;
+        private final int bitsPerStep;
+        private final long[] steps;
+
+        Writer(int length, boolean diagonal) {
+            this.length = length;
+            this.bitsPerStep = diagonal ? 3 : 2;
+            this.steps = new long[(int) (((long) (length - 1) * bitsPerStep + 63) >>> 6)];
+        }
+
+        void set(int step, int direction) {
+            long bit = (long) step * bitsPerStep;
+            int word = (int) (bit >>> 6);
+            int offset = (int) (bit & 63);
+            steps[word] |= (long) direction << offset;
+            if (offset + bitsPerStep > 64) {
+                steps[word + 1] |= (long) direction >>> (64 - offset);
+            }
+        }
+
+        Path finish(int cols, int start, int end) {
+            return new Path(cols, start, end, length, bitsPerStep, steps);
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.mazesolver.model;
+
+import java.util.Arrays;
+
+/**
+ * Exact distances between any two cells of a maze whose walkable cells form a forest, as the
+ * generators carve them: the path between two cells of a tree is unique, so its cost is
+ * {@code P(u) + P(v) - 2 P(lca) + cost(lca) - cost(u)}, where {@code P} sums terrain costs from
+ * the root. Lowest common ancestors are range minimum queries over an Euler tour of the
+ * forest, answered in O(1) by a sparse table over blocks of 64 tour positions plus a
+ * monotone-stack bitmask per position for the parts inside a block.
+ * <p>
+ * Only 4-connected movement keeps a carved maze a tree; diagonal moves close cycles.
+ * {@link #build} returns null for a maze with a cycle, and callers fall back to searching.
+ */
+public final class TreeOracle {
+
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private static final int BLOCK = 64;
+
+    private final int version;
+    private final int[] parent;
+    private final int[] depth;
+    private final int[] prefixCost;
+    private final int[] tree;
+    private final int[] first;
+    private final int[] tour;
+    private final int tourLength;
+    // Bit k of inBlock[i]: tour position i - k is a candidate minimum for ranges in its block ending at i
+    private final long[] inBlock;
+    // sparse[level][b]: position of the shallowest cell in blocks b .. b + 2^level - 1
+    private final int[][] sparse;
+
+    private TreeOracle(GridGraph graph, int[] parent, int[] depth, int[] prefixCost, int[] tree,
+                       int[] first, int[] tour, int tourLength) {
+        this.version = graph.getVersion();
+        this.parent = parent;
+        this.depth = depth;
+        this.prefixCost = prefixCost;
+        this.tree = tree;
+        this.first = first;
+        this.tour = tour;
+        this.tourLength = tourLength;
+        this.inBlock = new long[tourLength];
+        for (int i = 0; i < tourLength; i++) {
+            long mask = i % BLOCK == 0 ? 0 : inBlock[i - 1] << 1;
+            // Candidates no shallower than the new position can never be a minimum again
+            while (mask != 0 && depthAt(i - Long.numberOfTrailingZeros(mask)) >= depthAt(i)) {
+                mask &= mask - 1;
+            }
+            inBlock[i] = mask | 1;
+        }
+        int blocks = (tourLength + BLOCK - 1) / BLOCK;
+        int levels = 32 - Integer.numberOfLeadingZeros(Math.max(1, blocks));
+        this.sparse = new int[levels][];
+        sparse[0] = new int[blocks];
+        for (int b = 0; b < blocks; b++) {
+            sparse[0][b] = inBlockMinimum(b * BLOCK, Math.min(tourLength, (b + 1) * BLOCK) - 1);
+        }
+        for (int level = 1; level < levels; level++) {
+            int half = 1 << (level - 1);
+            sparse[level] = new int[blocks - (1 << level) + 1];
+            for (int b = 0; b < sparse[level].length; b++) {
+                sparse[level][b] = shallower(sparse[level - 1][b], sparse[level - 1][b + half]);
+            }
+        }
+    }
+
+    /**
+     * Builds the oracle for the graph's 4-connected walkable cells.
+     * @return The oracle, or null if the walkable cells contain a cycle
+     */
+    public static TreeOracle build(GridGraph graph) {
+        int size = graph.size();
+        int[] parent = new int[size];
+        int[] depth = new int[size];
+        int[] prefixCost = new int[size];
+        int[] tree = new int[size];
+        int[] first = new int[size];
+        Arrays.fill(tree, -1);
+        Arrays.fill(first, -1);
+        int walkable = 0;
+        for (int cell = 0; cell < size; cell++) {
+            if (graph.isWalkable(cell)) {
+                walkable++;
+            }
+        }
+        int[] tour = new int[Math.max(0, 2 * walkable - 1)];
+        int tourLength = 0;
+        // Explicit DFS stack; next[cell] holds the neighbor directions not yet tried
+        int[] stack = new int[walkable];
+        byte[] next = new byte[size];
+        int trees = 0;
+
+        for (int root = 0; root < size; root++) {
+            if (!graph.isWalkable(root) || tree[root] != -1) {
+                continue;
+            }
+            parent[root] = -1;
+            prefixCost[root] = graph.cost(root);
+            tree[root] = trees;
+            first[root] = tourLength;
+            tour[tourLength++] = root;
+            next[root] = (byte) graph.neighborMask(root);
+            int top = 0;
+            stack[top++] = root;
+            while (top > 0) {
+                int cell = stack[top - 1];
+                int mask = next[cell];
+                if (mask == 0) {
+                    top--;
+                    if (top > 0) {
+                        tour[tourLength++] = stack[top - 1];
+                    }
+                    continue;
+                }
+                int direction = Integer.numberOfTrailingZeros(mask);
+                next[cell] = (byte) (mask & (mask - 1));
+                int neighbor = cell + graph.step(direction);
+                if (neighbor == parent[cell]) {
+                    continue;
+                }
+                if (tree[neighbor] != -1) {
+                    return null; // reached a second way: a cycle
+                }
+                parent[neighbor] = cell;
+                depth[neighbor] = depth[cell] + 1;
+                prefixCost[neighbor] = prefixCost[cell] + graph.cost(neighbor);
+                tree[neighbor] = trees;
+                first[neighbor] = tourLength;
+                tour[tourLength++] = neighbor;
+                next[neighbor] = (byte) graph.neighborMask(neighbor);
+                stack[top++] = neighbor;
+            }
+            // Separate trees are not joined in the tour; queries never span two of them
+            trees++;
+        }
+        // Each tree of n cells adds 2n - 1 positions, so the tour is shorter than allocated by trees - 1
+        return new TreeOracle(graph, parent, depth, prefixCost, tree, first, tour, tourLength);
+    }
+
+    private int depthAt(int position) {
+        return depth[tour[position]];
+    }
+
+    private int shallower(int a, int b) {
+        return depthAt(a) <= depthAt(b) ? a : b;
+    }
+
+    /**
+     * Finds the position of the shallowest cell between two tour positions of one block.
+     */
+    private int inBlockMinimum(int from, int to) {
+        int span = to - from + 1;
+        long mask = span == BLOCK ? inBlock[to] : inBlock[to] & ((1L << span) - 1);
+        return to - (63 - Long.numberOfLeadingZeros(mask));
+    }
+
+    private int minimum(int from, int to) {
+        int fromBlock = from / BLOCK;
+        int toBlock = to / BLOCK;
+        if (fromBlock == toBlock) {
+            return inBlockMinimum(from, to);
+        }
+        int best = shallower(inBlockMinimum(from, fromBlock * BLOCK + BLOCK - 1),
+                inBlockMinimum(toBlock * BLOCK, to));
+        if (toBlock - fromBlock > 1) {
+            int lo = fromBlock + 1;
+            int hi = toBlock - 1;
+            int level = 31 - Integer.numberOfLeadingZeros(hi - lo + 1);
+            best = shallower(best, shallower(sparse[level][lo], sparse[level][hi - (1 << level) + 1]));
+        }
+        return best;
+    }
+
+    public int getVersion() { return version; }
+
+    /**
+     * Gets the lowest common ancestor of two cells in their tree, or -1 if they are in different trees.
+     */
+    public int lowestCommonAncestor(int a, int b) {
+        if (tree[a] == -1 || tree[a] != tree[b]) {
+            return -1;
+        }
+        int from = Math.min(first[a], first[b]);
+        int to = Math.max(first[a], first[b]);
+        return tour[minimum(from, to)];
+    }
+
+    /**
+     * Gets the cost of the path between two cells (the sum of the terrain costs of every cell
+     * entered), in O(1), or {@link #UNREACHABLE}.
+     */
+    public int distance(int from, int to) {
+        int lca = lowestCommonAncestor(from, to);
+        if (lca < 0) {
+            return UNREACHABLE;
+        }
+        return prefixCost[from] + prefixCost[to] - 2 * prefixCost[lca]
+                + (prefixCost[lca] - prefixCostOfParent(lca)) - (prefixCost[from] - prefixCostOfParent(from));
+    }
+
+    private int prefixCostOfParent(int cell) {
+        return parent[cell] == -1 ? 0 : prefixCost[parent[cell]];
+    }
+
+    /**
+     * Gets the number of steps between two cells, in O(1), or {@link #UNREACHABLE}.
+     */
+    public int stepCount(int from, int to) {
+        int lca = lowestCommonAncestor(from, to);
+        return lca < 0 ? UNREACHABLE : depth[from] + depth[to] - 2 * depth[lca];
+    }
+
+    /**
+     * Gets the cells of the path between two cells, in time linear in its length, or an empty
+     * array if they are not connected.
+     */
+    public int[] path(int from, int to) {
+        int lca = lowestCommonAncestor(from, to);
+        if (lca < 0) {
+            return new int[0];
+        }
+        int up = depth[from] - depth[lca];
+        int[] path = new int[up + depth[to] - depth[lca] + 1];
+        int cell = from;
+        for (int i = 0; i <= up; i++) {
+            path[i] = cell;
+            cell = parent[cell];
+        }
+        // Fill the descent from the far end, climbing from the target to just below the ancestor
+        cell = to;
+        for (int i = path.length - 1; i > up; i--) {
+            path[i] = cell;
+            cell = parent[cell];
+        }
+        return path;
+    }
+
+    /**
+     * Gets the estimated size of the oracle in bytes.
+     */
+    public long footprintBytes() {
+        long bytes = 4L * (parent.length + depth.length + prefixCost.length + tree.length + first.length)
+                + 4L * tour.length + 8L * inBlock.length;
+        for (int[] level : sparse) {
+            bytes += 4L * level.length;
+        }
+        return bytes;
+    }
+}
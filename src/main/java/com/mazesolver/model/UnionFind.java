@@ -0,0 +1,68 @@
+package com.mazesolver.model;
+
+import java.util.Arrays;
+
+/**
+ * Disjoint-set forest with union by rank and path halving.
+ * Elements are {@code 0..size()-1}; {@link #add()} appends a new singleton set.
+ */
+final class UnionFind {
+
+    private int[] parent;
+    private int[] rank;
+    private int size;
+
+    UnionFind(int size) {
+        parent = new int[Math.max(size, 16)];
+        rank = new int[parent.length];
+        for (int i = 0; i < size; i++) {
+            parent[i] = i;
+        }
+        this.size = size;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Adds a new singleton set and returns its element.
+     */
+    int add() {
+        if (size == parent.length) {
+            parent = Arrays.copyOf(parent, size * 2);
+            rank = Arrays.copyOf(rank, size * 2);
+        }
+        parent[size] = size;
+        rank[size] = 0;
+        return size++;
+    }
+
+    int find(int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]];
+            x = parent[x];
+        }
+        return x;
+    }
+
+    /**
+     * Merges the sets of {@code x} and {@code y}.
+     * @return true if they were in different sets
+     */
+    boolean union(int x, int y) {
+        int px = find(x);
+        int py = find(y);
+        if (px == py) return false;
+
+        if (rank[px] < rank[py]) {
+            parent[px] = py;
+        } else if (rank[px] > rank[py]) {
+            parent[py] = px;
+        } else {
+            parent[py] = px;
+            rank[px]++;
+        }
+        return true;
+    }
+}
@@ -4,9 +4,14 @@ import javafx.application.Platform;
 import javafx.concurrent.Task;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
+import com.mazesolver.algorithm.CancellationToken;
+import com.mazesolver.algorithm.PathCache;
 import com.mazesolver.algorithm.PathfindingAlgorithm;
+import com.mazesolver.algorithm.SearchMetrics;
+import com.mazesolver.algorithm.SearchResult;
 import com.mazesolver.model.Cell;
 import com.mazesolver.model.Maze;
+import com.mazesolver.model.MovementModel;
 import com.mazesolver.util.AlgorithmManager;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
@@ -19,6 +24,8 @@ public class MainController implements PathfindingAlgorithm.AnimationCallback {
     private PathfindingAlgorithm currentAlgorithm;
     private ExecutorService executor;
     private boolean isPathfinding;
+    private volatile CancellationToken cancellation;
+    private final PathCache pathCache = new PathCache();
     private List<Cell> currentPath;
 
     public MainController(MainView view) {
@@ -69,6 +76,9 @@ public class MainController implements PathfindingAlgorithm.AnimationCallback {
         // Find path button
         view.getFindPathButton().setOnAction(e -> findPath());
         
+        // Cancel search button
+        view.getCancelSearchButton().setOnAction(e -> cancelSearch());
+        
         // Clear path button
         view.getClearPathButton().setOnAction(e -> clearPath());
         
@@ -138,6 +148,21 @@ public class MainController implements PathfindingAlgorithm.AnimationCallback {
             showAlert("Please select a valid algorithm");
             return;
         }
+        
+        MovementModel movement = MovementModel.fromDisplayName(view.getMovementComboBox().getValue());
+        if (!currentAlgorithm.supportsMovementModel(movement)) {
+            showAlert(algorithmName + " does not support " + movement.getDisplayName() + " movement");
+            return;
+        }
+
+        // Unchanged maze, same query: show the stored result instead of searching again
+        PathCache.Key cacheKey = pathCache.key(maze, maze.getStartCell(), maze.getEndCell(), currentAlgorithm,
+                movement);
+        SearchResult cached = pathCache.get(cacheKey, maze);
+        if (cached != null) {
+            showCachedResult(cached);
+            return;
+        }
 
         isPathfinding = true;
         setControlsEnabled(false);
@@ -149,16 +174,20 @@ public class MainController implements PathfindingAlgorithm.AnimationCallback {
         // Clear previous path
         view.getMazeView().clearPath();
         
-        Task<List<Cell>> pathfindingTask = new Task<>() {
+        CancellationToken token = new CancellationToken();
+        cancellation = token;
+        Task<SearchResult> pathfindingTask = new Task<>() {
             @Override
-            protected List<Cell> call() throws Exception {
-                return currentAlgorithm.findPathWithAnimation(maze, maze.getStartCell(), maze.getEndCell(), MainController.this);
+            protected SearchResult call() throws Exception {
+                return currentAlgorithm.searchWithAnimation(maze, maze.getStartCell(), maze.getEndCell(),
+                        movement, MainController.this, token);
             }
         };
 
         pathfindingTask.setOnSucceeded(e -> {
-            List<Cell> path = pathfindingTask.getValue();
-            handlePathfindingResult(path);
+            SearchResult result = pathfindingTask.getValue();
+            pathCache.put(cacheKey, result, token);
+            handlePathfindingResult(result);
             isPathfinding = false;
             setControlsEnabled(true);
             
@@ -168,6 +197,7 @@ public class MainController implements PathfindingAlgorithm.AnimationCallback {
 
         pathfindingTask.setOnFailed(e -> {
             showAlert("Pathfinding failed: " + pathfindingTask.getException().getMessage());
+            cancellation = null;
             isPathfinding = false;
             setControlsEnabled(true);
             
@@ -178,6 +208,27 @@ public class MainController implements PathfindingAlgorithm.AnimationCallback {
         executor.submit(pathfindingTask);
     }
 
+    private void showCachedResult(SearchResult cached) {
+        List<Cell> path = cached.getPath();
+        currentPath = path;
+        view.getMazeView().clearPath();
+        for (Cell pathCell : path) {
+            view.getMazeView().setCellInPath(pathCell.getRow(), pathCell.getCol(), true);
+        }
+        view.getProgressLabel().setText(path.size() < 2
+                ? "No path found! (cached)"
+                : String.format("Path found! (%d cells, cached)", path.size()));
+        view.getPerformanceInfoLabel().setText("Cached result of:\n" + formatMetrics(cached));
+    }
+
+    private void cancelSearch() {
+        CancellationToken token = cancellation;
+        if (token != null) {
+            token.cancel();
+            view.getProgressLabel().setText("Cancelling...");
+        }
+    }
+
     // Animation callback implementations
     @Override
     public void onCellVisited(Cell cell) {
@@ -251,15 +302,6 @@ public class MainController implements PathfindingAlgorithm.AnimationCallback {
                 view.getProgressLabel().setStyle("-fx-text-fill: green; -fx-font-weight: bold;");
                 view.getProgressLabel().getStyleClass().add("progress-label");
                 view.getProgressLabel().getStyleClass().add("success");
-                
-                // Also update the performance info label with path length
-                if (currentAlgorithm != null) {
-                    view.getPerformanceInfoLabel().setText(
-                        "Path Length: " + finalPath.size() + " cells\n" +
-                        "Visited Cells: " + currentAlgorithm.getVisitedCellsCount() + "\n" +
-                        "Execution Time: " + currentAlgorithm.getExecutionTime() + "ms"
-                    );
-                }
             }
         });
     }
@@ -271,11 +313,14 @@ public class MainController implements PathfindingAlgorithm.AnimationCallback {
         return (long) (milliseconds / speedMultiplier);
     }
 
-    private void handlePathfindingResult(List<Cell> path) {
+    private void handlePathfindingResult(SearchResult result) {
+        List<Cell> path = result.getPath();
+        boolean cancelled = cancellation != null && cancellation.isCancelled();
+        cancellation = null;
         if (path.isEmpty() || path.size() < 2) {
-            showAlert("No path found!");
+            showAlert(cancelled ? "Search cancelled." : "No path found!");
         } else {
-            updatePerformanceInfo();
+            updatePerformanceInfo(result);
             showAlert("Path found! Length: " + path.size() + " cells");
         }
     }
@@ -379,24 +424,79 @@ public class MainController implements PathfindingAlgorithm.AnimationCallback {
         switch (algorithmName) {
             case "Dijkstra's Algorithm":
                 return "Finds shortest path using distance-based exploration. Guarantees optimal solution.";
+            case "Dijkstra (Bucket Queue)":
+                return "Dijkstra's algorithm on a monotone bucket queue: constant-time queue operations for small integer step costs.";
+            case "Dijkstra (Radix Heap)":
+                return "Dijkstra's algorithm on a monotone radix heap: fast queue operations for integer terrain costs of any range.";
             case "A* Algorithm":
                 return "Heuristic-based search combining Dijkstra's approach with goal-directed exploration.";
+            case "A* (ALT Landmarks)":
+                return "A* guided by exact distances to a few precomputed landmarks (triangle inequality); far fewer expansions in winding mazes.";
             case "Breadth-First Search":
                 return "Level-by-level exploration ensuring shortest path in unweighted graphs.";
+            case "Parallel BFS":
+                return "Breadth-first search that expands large frontier levels in parallel on a fork/join pool; built for very large grids.";
+            case "Bit-Parallel BFS":
+                return "Breadth-first search on 64-bit row bitboards: each wave expands 64 cells at once with shifts and masks.";
             case "Depth-First Search":
                 return "Deep exploration strategy, may not find shortest path but uses less memory.";
+            case "Bidirectional BFS":
+            case "Bidirectional BFS (2 Threads)":
+                return "Breadth-first search from both ends at once; stops when the two frontiers meet on a shortest path.";
+            case "Bidirectional A*":
+            case "Bidirectional A* (2 Threads)":
+                return "A* from both ends with symmetric heuristics; stops once the meeting point is provably optimal.";
+            case "Jump Point Search":
+                return "A* that jumps along straight runs and expands only branching points; ideal for open, obstacle-painted grids.";
+            case "Corridor-Contracted A*":
+                return "A* over junctions and dead ends only, with each corridor collapsed into one weighted edge; ideal for perfect mazes.";
+            case "ARA* (Anytime)":
+                return "Weighted A* that finds a path fast, then tightens the weight until optimal; returns its best path with a suboptimality bound when its time budget runs out or the search is cancelled.";
+            case "D* Lite (Incremental)":
+                return "Keeps its search tree between runs and repairs only what obstacle edits or a moved start cell affect.";
+            case "Flow Field (Goal-Rooted)":
+                return "One reverse search from the end cell stores every cell's distance and next move; later queries to the same end cell just follow the moves.";
+            case "Tree Oracle (Perfect Mazes)":
+                return "On a maze without loops, finds the unique path through the lowest common ancestor of both cells, with no search at all; falls back to A* once edits open a loop.";
+            case "Contraction Hierarchies":
+                return "Preprocesses the maze into a hierarchy of shortcut edges once; afterwards each query searches upward from both ends and settles only a few hundred cells.";
+            case "IDA* (Iterative Deepening)":
+                return "Depth-first searches under a rising f-score bound; keeps only the current path, re-expanding cells to save memory.";
+            case "SMA* (Memory-Bounded)":
+                return "A* that never holds more nodes than its budget, forgetting its worst leaves and regenerating them when needed.";
             default:
                 return "Pathfinding algorithm for maze navigation.";
         }
     }
 
-    private void updatePerformanceInfo() {
-        if (currentAlgorithm != null) {
-            view.getPerformanceInfoLabel().setText(
-                "Visited Cells: " + currentAlgorithm.getVisitedCellsCount() + "\n" +
-                "Execution Time: " + currentAlgorithm.getExecutionTime() + "ms"
-            );
-        }
+    /**
+     * Shows the path length and metrics of one search, taken from its own result.
+     */
+    private void updatePerformanceInfo(SearchResult result) {
+        view.getPerformanceInfoLabel().setText(
+            "Path Length: " + result.getPath().size() + " cells\n" +
+            formatMetrics(result)
+        );
+    }
+
+    private String formatMetrics(SearchResult result) {
+        SearchMetrics metrics = result.getMetrics();
+        String allocated = metrics.getAllocatedBytes() < 0
+                ? "n/a"
+                : String.format("%.1f KB", metrics.getAllocatedBytes() / 1024.0);
+        return String.format("Execution Time: %.3f ms\n" +
+                        "Expanded / Generated: %d / %d\n" +
+                        "Queue Pushes / Pops: %d / %d\n" +
+                        "Peak Frontier: %d\n" +
+                        "Allocated: %s\n" +
+                        "Peak Memory: %.1f KB",
+                metrics.getElapsedMillis(), metrics.getExpandedNodes(), metrics.getGeneratedNodes(),
+                metrics.getQueuePushes(), metrics.getQueuePops(), metrics.getPeakFrontier(), allocated,
+                metrics.getPeakMemoryBytes() / 1024.0)
+                + (Double.isNaN(result.getSuboptimalityBound()) ? ""
+                        : String.format("\nSuboptimality Bound: %.3f", result.getSuboptimalityBound()))
+                + String.format("\nResult Cache: %.0f%% hits (%d of %d)", pathCache.getHitRatio() * 100,
+                        pathCache.getHitCount(), pathCache.getHitCount() + pathCache.getMissCount());
     }
 
     private void updateMazeInfo() {
@@ -411,12 +511,14 @@ public class MainController implements PathfindingAlgorithm.AnimationCallback {
     private void setControlsEnabled(boolean enabled) {
         view.getGenerateMazeButton().setDisable(!enabled);
         view.getFindPathButton().setDisable(!enabled);
+        view.getCancelSearchButton().setDisable(enabled);
         view.getClearPathButton().setDisable(!enabled);
         view.getResetMazeButton().setDisable(!enabled);
         view.getClearObstaclesButton().setDisable(!enabled);
         view.getMazeSizeComboBox().setDisable(!enabled);
         view.getGenerationAlgorithmComboBox().setDisable(!enabled);
         view.getPathfindingAlgorithmComboBox().setDisable(!enabled);
+        view.getMovementComboBox().setDisable(!enabled);
         view.getAnimationSpeedSlider().setDisable(!enabled);
     }
 
@@ -431,6 +533,7 @@ public class MainController implements PathfindingAlgorithm.AnimationCallback {
     }
 
     public void shutdown() {
+        cancelSearch();
         if (executor != null && !executor.isShutdown()) {
             executor.shutdown();
         }
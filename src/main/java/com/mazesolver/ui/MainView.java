@@ -8,6 +8,7 @@ import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import com.mazesolver.model.Maze;
+import com.mazesolver.model.MovementModel;
 import com.mazesolver.util.AlgorithmManager;
 
 /**
@@ -47,7 +48,9 @@ public class MainView {
     
     // Algorithm elements
     private ComboBox<String> pathfindingAlgorithmComboBox;
+    private ComboBox<String> movementComboBox;
     private Button findPathButton;
+    private Button cancelSearchButton;
     private Button clearObstaclesButton;
     private Slider animationSpeedSlider;
     
@@ -136,13 +139,24 @@ public class MainView {
         
         // Initialize algorithm elements
         pathfindingAlgorithmComboBox = new ComboBox<>();
-        pathfindingAlgorithmComboBox.getItems().addAll("Dijkstra's Algorithm", "A* Algorithm", "Breadth-First Search", "Depth-First Search");
+        pathfindingAlgorithmComboBox.getItems().addAll(AlgorithmManager.getAlgorithmNames());
         pathfindingAlgorithmComboBox.setValue("Dijkstra's Algorithm");
         
+        movementComboBox = new ComboBox<>();
+        for (MovementModel model : MovementModel.values()) {
+            movementComboBox.getItems().add(model.getDisplayName());
+        }
+        movementComboBox.setValue(MovementModel.FOUR_CONNECTED.getDisplayName());
+        
         findPathButton = new Button("Find Path");
         findPathButton.setMaxWidth(Double.MAX_VALUE);
         findPathButton.getStyleClass().add("primary-button");
         
+        cancelSearchButton = new Button("Cancel Search");
+        cancelSearchButton.setMaxWidth(Double.MAX_VALUE);
+        cancelSearchButton.getStyleClass().add("secondary-button");
+        cancelSearchButton.setDisable(true);
+        
         clearObstaclesButton = new Button("Clear Obstacles");
         clearObstaclesButton.setMaxWidth(Double.MAX_VALUE);
         clearObstaclesButton.getStyleClass().add("secondary-button");
@@ -298,6 +312,9 @@ public class MainView {
         Label selectLabel = new Label("Select Algorithm:");
         selectLabel.setFont(Font.font("System", FontWeight.BOLD, 12));
         
+        Label movementLabel = new Label("Movement:");
+        movementLabel.setFont(Font.font("System", FontWeight.BOLD, 12));
+        
         // Instructions
         TextArea instructions = new TextArea(
             "1. Generate a maze\n" +
@@ -338,7 +355,10 @@ public class MainView {
             algorithmLabel,
             selectLabel,
             pathfindingAlgorithmComboBox,
+            movementLabel,
+            movementComboBox,
             findPathButton,
+            cancelSearchButton,
             new Separator(),
             clearObstaclesButton,
             new Separator(),
@@ -462,7 +482,9 @@ public class MainView {
     public Button getClearPathButton() { return clearPathButton; }
     public Button getResetMazeButton() { return resetMazeButton; }
     public ComboBox<String> getPathfindingAlgorithmComboBox() { return pathfindingAlgorithmComboBox; }
+    public ComboBox<String> getMovementComboBox() { return movementComboBox; }
     public Button getFindPathButton() { return findPathButton; }
+    public Button getCancelSearchButton() { return cancelSearchButton; }
     public Button getClearObstaclesButton() { return clearObstaclesButton; }
     public Slider getAnimationSpeedSlider() { return animationSpeedSlider; }
     public TextArea getAlgorithmInfoTextArea() { return algorithmInfoTextArea; }
@@ -14,9 +14,27 @@ public class AlgorithmManager {
     static {
         // Initialize all available algorithms
         algorithms.put("Dijkstra's Algorithm", new DijkstraAlgorithm());
+        algorithms.put("Dijkstra (Bucket Queue)", new DijkstraAlgorithm(DijkstraAlgorithm.QueueStrategy.BUCKET_QUEUE));
+        algorithms.put("Dijkstra (Radix Heap)", new DijkstraAlgorithm(DijkstraAlgorithm.QueueStrategy.RADIX_HEAP));
         algorithms.put("A* Algorithm", new AStarAlgorithm());
+        algorithms.put("A* (ALT Landmarks)", new AStarAlgorithm(AStarAlgorithm.Heuristic.LANDMARKS));
+        algorithms.put("ARA* (Anytime)", new AnytimeAStarAlgorithm());
         algorithms.put("Breadth-First Search", new BreadthFirstSearchAlgorithm());
+        algorithms.put("Parallel BFS", new ParallelBreadthFirstSearchAlgorithm());
+        algorithms.put("Bit-Parallel BFS", new BitParallelBreadthFirstSearchAlgorithm());
         algorithms.put("Depth-First Search", new DepthFirstSearchAlgorithm());
+        algorithms.put("Bidirectional BFS", new BidirectionalBreadthFirstSearchAlgorithm());
+        algorithms.put("Bidirectional BFS (2 Threads)", new BidirectionalBreadthFirstSearchAlgorithm(true));
+        algorithms.put("Bidirectional A*", new BidirectionalAStarAlgorithm());
+        algorithms.put("Bidirectional A* (2 Threads)", new BidirectionalAStarAlgorithm(true));
+        algorithms.put("Jump Point Search", new JumpPointSearchAlgorithm());
+        algorithms.put("Corridor-Contracted A*", new CorridorAStarAlgorithm());
+        algorithms.put("D* Lite (Incremental)", new DStarLiteAlgorithm());
+        algorithms.put("Flow Field (Goal-Rooted)", new FlowFieldAlgorithm());
+        algorithms.put("Tree Oracle (Perfect Mazes)", new TreeOracleAlgorithm());
+        algorithms.put("Contraction Hierarchies", new ContractionHierarchyAlgorithm());
+        algorithms.put("IDA* (Iterative Deepening)", new IterativeDeepeningAStarAlgorithm());
+        algorithms.put("SMA* (Memory-Bounded)", new MemoryBoundedAStarAlgorithm());
     }
     
     /**
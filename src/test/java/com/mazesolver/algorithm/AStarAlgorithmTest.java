@@ -0,0 +1,77 @@
+package com.mazesolver.algorithm;
+
+import static com.mazesolver.algorithm.SearchAssertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.mazesolver.model.Cell;
+import com.mazesolver.model.Maze;
+import com.mazesolver.model.MovementModel;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class AStarAlgorithmTest {
+
+    /**
+     * Opens and blocks cells between queries, so every query runs on landmark tables rebuilt
+     * for the edited maze.
+     */
+    @Test
+    void landmarksStayAdmissibleAcrossEdits() {
+        Random random = new Random(121);
+        AStarAlgorithm alt = new AStarAlgorithm(AStarAlgorithm.Heuristic.LANDMARKS);
+        DijkstraAlgorithm dijkstra = new DijkstraAlgorithm();
+        for (int iteration = 0; iteration < 4; iteration++) {
+            Maze maze = new Maze(31 + 2 * random.nextInt(10), 31 + 2 * random.nextInt(10), random.nextLong());
+            maze.generateMaze(Maze.MazeGenerationAlgorithm.values()[iteration % 3]);
+            if (iteration % 2 == 1) {
+                maze.randomizeCosts(5);
+            }
+            for (int edit = 0; edit < 30; edit++) {
+                Cell cell = maze.getCell(random.nextInt(maze.getRows()), random.nextInt(maze.getCols()));
+                if (cell.isWalkable()) {
+                    maze.addObstacle(cell.getRow(), cell.getCol());
+                } else {
+                    maze.removeObstacle(cell.getRow(), cell.getCol());
+                }
+                Cell start = randomWalkableCell(maze, random);
+                Cell end = randomWalkableCell(maze, random);
+                String context = "maze " + iteration + ", edit " + edit + ", " + start + " -> " + end;
+                List<Cell> expected = dijkstra.search(maze, start, end).getPath();
+                List<Cell> path = alt.search(maze, start, end).getPath();
+                assertEquals(pathCost(maze, expected, MovementModel.FOUR_CONNECTED),
+                        pathCost(maze, path, MovementModel.FOUR_CONNECTED), context);
+                assertEquals(maze.getModificationCount(), maze.getLandmarks().getVersion(), context);
+            }
+        }
+    }
+
+    /**
+     * The connectivity index answers disconnected pairs before any search runs, so the
+     * implementation is called directly: the landmarks prove every neighbor of the start cell
+     * unreachable from the end cell, and nothing past the start cell is expanded.
+     */
+    @Test
+    void landmarksPruneOtherComponents() {
+        Maze maze = randomObstacleGrid(30, 30, 0, new Random(122));
+        for (int row = 0; row < maze.getRows(); row++) {
+            maze.addObstacle(row, 15);
+        }
+        Cell start = maze.getCell(10, 5);
+        Cell end = maze.getEndCell();
+        for (AStarAlgorithm.Heuristic heuristic : AStarAlgorithm.Heuristic.values()) {
+            AStarAlgorithm aStar = new AStarAlgorithm(heuristic);
+            SearchContext context = aStar.acquireContext(MovementModel.FOUR_CONNECTED);
+            try {
+                assertTrue(aStar.findPathImplementation(context, maze, start, end).isEmpty());
+                if (heuristic == AStarAlgorithm.Heuristic.LANDMARKS) {
+                    assertEquals(1, context.visitedCells, "only the start cell is expanded");
+                } else {
+                    assertTrue(context.visitedCells > 100, "Manhattan expands the whole side: " + context.visitedCells);
+                }
+            } finally {
+                context.end();
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.mazesolver.algorithm;
+
+import static com.mazesolver.algorithm.SearchAssertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.mazesolver.model.Cell;
+import com.mazesolver.model.Maze;
+import com.mazesolver.model.MovementModel;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class AnytimeAStarAlgorithmTest {
+
+    /**
+     * The first round is almost greedy and reaches the end cell in fewer expansions than one
+     * deadline poll, so it always completes; proving the path optimal over random terrain takes
+     * far longer than the 1 ms budget. The search must stop on the clock with the first path and
+     * a bound that really covers the gap to the optimum.
+     */
+    @Test
+    void deadlineReturnsBestPathSoFar() {
+        Maze maze = new Maze(400, 400, 61);
+        maze.randomizeCosts(9);
+        Cell start = maze.getStartCell();
+        Cell end = maze.getEndCell();
+        AnytimeAStarAlgorithm algorithm = new AnytimeAStarAlgorithm(1000, 0.5, 1);
+
+        SearchResult result = algorithm.search(maze, start, end);
+        assertValidPath(maze, result.getPath(), start, end, MovementModel.FOUR_CONNECTED, "ARA*");
+        assertTrue(result.isBudgetExhausted(), "stopped by the deadline");
+        double bound = result.getSuboptimalityBound();
+        assertTrue(bound >= 1 && bound < Double.POSITIVE_INFINITY, "bound " + bound);
+        long optimal = pathCost(maze, new DijkstraAlgorithm().search(maze, start, end).getPath(),
+                MovementModel.FOUR_CONNECTED);
+        long cost = pathCost(maze, result.getPath(), MovementModel.FOUR_CONNECTED);
+        assertTrue(cost <= bound * optimal + 1e-9, "cost " + cost + ", optimal " + optimal + ", bound " + bound);
+    }
+
+    @Test
+    void unlimitedBudgetProvesOptimalPath() {
+        Maze maze = randomObstacleGrid(60, 60, 0.25, new Random(62));
+        maze.randomizeCosts(5);
+        Random random = new Random(63);
+        AnytimeAStarAlgorithm algorithm = new AnytimeAStarAlgorithm(3, 0.5, 0);
+        DijkstraAlgorithm dijkstra = new DijkstraAlgorithm();
+        for (int i = 0; i < 20; i++) {
+            Cell start = randomWalkableCell(maze, random);
+            Cell end = randomWalkableCell(maze, random);
+            SearchResult expected = dijkstra.search(maze, start, end);
+            SearchResult result = algorithm.search(maze, start, end);
+            String context = "query " + i + " " + start + " -> " + end;
+            assertEquals(pathCost(maze, expected.getPath(), MovementModel.FOUR_CONNECTED),
+                    pathCost(maze, result.getPath(), MovementModel.FOUR_CONNECTED), context);
+            assertFalse(result.isBudgetExhausted(), context);
+            if (result.isFound()) {
+                assertEquals(1.0, result.getSuboptimalityBound(), context);
+            }
+        }
+    }
+}
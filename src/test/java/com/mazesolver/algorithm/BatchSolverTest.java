@@ -0,0 +1,97 @@
+package com.mazesolver.algorithm;
+
+import static com.mazesolver.algorithm.SearchAssertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.mazesolver.model.Cell;
+import com.mazesolver.model.Maze;
+import com.mazesolver.model.MovementModel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class BatchSolverTest {
+
+    /**
+     * Sends enough queries for every worker to claim several chunks, and checks that entry
+     * {@code i} of the batch answers query {@code i} just as a sequential search does.
+     */
+    @Test
+    void resultsComeBackInQueryOrder() {
+        Random random = new Random(51);
+        Maze maze = randomObstacleGrid(60, 60, 0.25, random);
+        List<PathQuery> queries = randomQueries(maze, 500, random);
+        for (PathfindingAlgorithm algorithm : List.of(new BreadthFirstSearchAlgorithm(), new AStarAlgorithm())) {
+            try (BatchSolver solver = new BatchSolver(algorithm, 4)) {
+                BatchResult batch = solver.solve(maze, queries);
+                assertEquals(queries.size(), batch.getQueryCount());
+                int found = 0;
+                for (int i = 0; i < queries.size(); i++) {
+                    PathQuery query = queries.get(i);
+                    SearchResult expected = algorithm.search(maze,
+                            maze.getCell(query.getStartRow(), query.getStartCol()),
+                            maze.getCell(query.getEndRow(), query.getEndCol()));
+                    assertEquals(expected.getPath(), batch.getResults().get(i).getPath(),
+                            algorithm.getName() + ", query " + i + " " + query);
+                    found += expected.isFound() ? 1 : 0;
+                }
+                assertEquals(found, batch.getFoundCount());
+                assertTrue(batch.getQueriesPerSecond() > 0, "queries per second " + batch.getQueriesPerSecond());
+            }
+        }
+    }
+
+    @Test
+    void queriesMayMixMovementModels() {
+        Random random = new Random(53);
+        Maze maze = randomObstacleGrid(40, 40, 0.3, random);
+        List<PathQuery> queries = new ArrayList<>();
+        for (PathQuery query : randomQueries(maze, 200, random)) {
+            MovementModel movement = MovementModel.values()[queries.size() % MovementModel.values().length];
+            queries.add(new PathQuery(query.getStartRow(), query.getStartCol(), query.getEndRow(), query.getEndCol(),
+                    movement));
+        }
+        AStarAlgorithm aStar = new AStarAlgorithm();
+        try (BatchSolver solver = new BatchSolver(aStar, 4)) {
+            BatchResult batch = solver.solve(maze, queries);
+            for (int i = 0; i < queries.size(); i++) {
+                PathQuery query = queries.get(i);
+                Cell start = maze.getCell(query.getStartRow(), query.getStartCol());
+                Cell end = maze.getCell(query.getEndRow(), query.getEndCol());
+                List<Cell> path = batch.getResults().get(i).getPath();
+                assertEquals(aStar.search(maze, start, end, query.getMovement()).getPath(), path, "query " + i);
+                if (!path.isEmpty()) {
+                    assertValidPath(maze, path, start, end, query.getMovement(), "query " + i);
+                }
+            }
+        }
+    }
+
+    @Test
+    void unsupportedMovementModelIsRejected() {
+        Maze maze = new Maze(10, 10, 54);
+        List<PathQuery> queries = List.of(new PathQuery(0, 0, 9, 9, MovementModel.EIGHT_CONNECTED));
+        try (BatchSolver solver = new BatchSolver(new JumpPointSearchAlgorithm(), 2)) {
+            assertThrows(IllegalArgumentException.class, () -> solver.solve(maze, queries));
+        }
+    }
+
+    @Test
+    void queryOutsideTheMazeIsRejected() {
+        Maze maze = new Maze(10, 10, 52);
+        List<PathQuery> queries = List.of(new PathQuery(0, 0, 9, 9), new PathQuery(0, 0, 10, 3));
+        try (BatchSolver solver = new BatchSolver(new BreadthFirstSearchAlgorithm(), 2)) {
+            assertThrows(IllegalArgumentException.class, () -> solver.solve(maze, queries));
+        }
+    }
+
+    private static List<PathQuery> randomQueries(Maze maze, int count, Random random) {
+        List<PathQuery> queries = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            queries.add(new PathQuery(random.nextInt(maze.getRows()), random.nextInt(maze.getCols()),
+                    random.nextInt(maze.getRows()), random.nextInt(maze.getCols())));
+        }
+        return queries;
+    }
+}
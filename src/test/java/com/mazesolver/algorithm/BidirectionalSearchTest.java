@@ -0,0 +1,69 @@
+package com.mazesolver.algorithm;
+
+import static com.mazesolver.algorithm.SearchAssertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.mazesolver.model.Cell;
+import com.mazesolver.model.Maze;
+import com.mazesolver.model.MovementModel;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class BidirectionalSearchTest {
+
+    // Repeats of each query, so the two-thread mode meets under different interleavings
+    private static final int REPEATS = 4;
+
+    /**
+     * Open grids give wide frontiers that meet along a long front, where the stop rule must
+     * prove that no later meeting is shorter.
+     */
+    @Test
+    void matchesBreadthFirstSearchOnOpenGrids() {
+        Random random = new Random(101);
+        for (int iteration = 0; iteration < 4; iteration++) {
+            Maze maze = randomObstacleGrid(120 + random.nextInt(80), 120 + random.nextInt(80),
+                    0.05 + random.nextDouble() * 0.25, random);
+            checkAllModes(maze, random, "grid " + iteration);
+        }
+    }
+
+    /**
+     * Perfect mazes have one path between any two cells, so the frontiers only meet once the
+     * searches have covered long winding corridors.
+     */
+    @Test
+    void matchesBreadthFirstSearchOnPerfectMazes() {
+        Random random = new Random(102);
+        for (int iteration = 0; iteration < 3; iteration++) {
+            Maze maze = new Maze(101 + 2 * random.nextInt(20), 101 + 2 * random.nextInt(20), random.nextLong());
+            maze.generateMaze(Maze.MazeGenerationAlgorithm.values()[iteration]);
+            checkAllModes(maze, random, "maze " + iteration);
+        }
+    }
+
+    private static void checkAllModes(Maze maze, Random random, String fixture) {
+        BreadthFirstSearchAlgorithm bfs = new BreadthFirstSearchAlgorithm();
+        List<PathfindingAlgorithm> solvers = List.of(
+                new BidirectionalBreadthFirstSearchAlgorithm(false), new BidirectionalBreadthFirstSearchAlgorithm(true),
+                new BidirectionalAStarAlgorithm(false), new BidirectionalAStarAlgorithm(true));
+        for (int query = 0; query < 10; query++) {
+            // Every other query runs corner to corner, the longest searches the maze allows
+            Cell start = query % 2 == 0 ? maze.getStartCell() : randomWalkableCell(maze, random);
+            Cell end = query % 2 == 0 ? maze.getEndCell() : randomWalkableCell(maze, random);
+            int expected = bfs.search(maze, start, end).getPath().size();
+            for (PathfindingAlgorithm solver : solvers) {
+                for (int repeat = 0; repeat < REPEATS; repeat++) {
+                    String context = fixture + ", " + solver.getName() + ", " + start + " -> " + end
+                            + ", repeat " + repeat;
+                    List<Cell> path = solver.search(maze, start, end).getPath();
+                    assertEquals(expected, path.size(), context);
+                    if (expected > 0) {
+                        assertValidPath(maze, path, start, end, MovementModel.FOUR_CONNECTED, context);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.mazesolver.algorithm;
+
+import static com.mazesolver.algorithm.SearchAssertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.mazesolver.model.Cell;
+import com.mazesolver.model.Maze;
+import com.mazesolver.model.MovementModel;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class BitParallelBreadthFirstSearchAlgorithmTest {
+
+    // Last and first columns of adjacent 64-cell row words
+    private static final int[] WORD_BOUNDARIES = {63, 64, 127, 128};
+
+    /**
+     * Rows span two to four words, and walls with a few gaps stand on the columns either side
+     * of each word boundary, so paths must carry frontier bits across words, often only
+     * through one gap.
+     */
+    @Test
+    void matchesBreadthFirstSearchAcrossWordBoundaries() {
+        Random random = new Random(41);
+        BreadthFirstSearchAlgorithm bfs = new BreadthFirstSearchAlgorithm();
+        BitParallelBreadthFirstSearchAlgorithm bitParallel = new BitParallelBreadthFirstSearchAlgorithm();
+        for (int iteration = 0; iteration < 12; iteration++) {
+            Maze maze = randomObstacleGrid(20 + random.nextInt(30), 130 + random.nextInt(130),
+                    random.nextDouble() * 0.3, random);
+            for (int col : WORD_BOUNDARIES) {
+                if (random.nextInt(3) > 0) {
+                    wallWithGaps(maze, col, random.nextInt(3), random);
+                }
+            }
+            for (int query = 0; query < 10; query++) {
+                Cell start = randomWalkableCell(maze, random);
+                Cell end = randomWalkableCell(maze, random);
+                String context = "iteration " + iteration + ", " + maze.getCols() + " columns, " + start + " -> " + end;
+                List<Cell> expected = bfs.findPath(maze, start, end);
+                List<Cell> path = bitParallel.findPath(maze, start, end);
+                assertEquals(expected.size(), path.size(), context);
+                assertEquals(expected.size() - 1, bitParallel.shortestDistance(maze, start, end), context);
+                if (!expected.isEmpty()) {
+                    assertValidPath(maze, path, start, end, MovementModel.FOUR_CONNECTED, context);
+                }
+            }
+        }
+    }
+
+    /**
+     * A serpentine corridor crosses every word boundary on every row, so each level holds a
+     * single bit and the path is recovered through hundreds of layers.
+     */
+    @Test
+    void serpentineCorridorCrossesWordsOnEveryRow() {
+        Maze maze = randomObstacleGrid(21, 150, 0, new Random(42));
+        for (int row = 1; row < maze.getRows(); row += 2) {
+            for (int col = 0; col < maze.getCols(); col++) {
+                maze.addObstacle(row, col);
+            }
+            maze.removeObstacle(row, (row / 2) % 2 == 0 ? maze.getCols() - 1 : 0);
+        }
+        Cell start = maze.getStartCell();
+        Cell end = maze.getEndCell();
+        List<Cell> expected = new BreadthFirstSearchAlgorithm().findPath(maze, start, end);
+        BitParallelBreadthFirstSearchAlgorithm bitParallel = new BitParallelBreadthFirstSearchAlgorithm();
+        List<Cell> path = bitParallel.findPath(maze, start, end);
+        assertEquals(expected.size(), path.size());
+        assertEquals(expected.size() - 1, bitParallel.shortestDistance(maze, start, end));
+        assertValidPath(maze, path, start, end, MovementModel.FOUR_CONNECTED, "serpentine");
+    }
+
+    @Test
+    void shortestDistanceOfUnreachableCellIsNegative() {
+        Maze maze = randomObstacleGrid(10, 140, 0, new Random(43));
+        for (int row = 0; row < maze.getRows(); row++) {
+            maze.addObstacle(row, 64);
+        }
+        BitParallelBreadthFirstSearchAlgorithm bitParallel = new BitParallelBreadthFirstSearchAlgorithm();
+        assertEquals(-1, bitParallel.shortestDistance(maze, maze.getCell(5, 10), maze.getCell(5, 100)));
+        assertEquals(0, bitParallel.shortestDistance(maze, maze.getCell(5, 10), maze.getCell(5, 10)));
+        assertEquals(53, bitParallel.shortestDistance(maze, maze.getCell(5, 10), maze.getCell(5, 63)));
+    }
+
+    private static void wallWithGaps(Maze maze, int col, int gaps, Random random) {
+        for (int row = 0; row < maze.getRows(); row++) {
+            maze.addObstacle(row, col);
+        }
+        for (int gap = 0; gap < gaps; gap++) {
+            maze.removeObstacle(random.nextInt(maze.getRows()), col);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.mazesolver.algorithm;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class BucketQueueTest {
+
+    /**
+     * Pushes keys within the step cost bound of the last popped one, as Dijkstra does, and
+     * checks each pop against the smallest key still queued.
+     */
+    @Test
+    void popsKeysInOrderWithinStepCostBound() {
+        Random random = new Random(14);
+        for (int maxStepCost : new int[]{1, 5, 255}) {
+            BucketQueue queue = new BucketQueue();
+            queue.reset(maxStepCost);
+            List<Integer> keys = new ArrayList<>();
+            int queued = 0;
+            int last = 0;
+            for (int step = 0; step < 20_000; step++) {
+                if (queued == 0 || random.nextInt(3) > 0) {
+                    int key = last + random.nextInt(maxStepCost + 1);
+                    queue.push(key, keys.size());
+                    keys.add(key);
+                    queued++;
+                } else {
+                    int expected = Integer.MAX_VALUE;
+                    for (Integer key : keys) {
+                        if (key != null) {
+                            expected = Math.min(expected, key);
+                        }
+                    }
+                    int index = queue.poll();
+                    String context = "max cost " + maxStepCost + ", step " + step;
+                    assertEquals(expected, (int) keys.get(index), context);
+                    assertEquals(expected, queue.currentKey(), context);
+                    keys.set(index, null);
+                    queued--;
+                    last = expected;
+                }
+                assertEquals(queued == 0, queue.isEmpty());
+            }
+        }
+    }
+
+    @Test
+    void resetEmptiesTheQueue() {
+        BucketQueue queue = new BucketQueue();
+        queue.reset(3);
+        queue.push(2, 7);
+        queue.reset(3);
+        assertTrue(queue.isEmpty());
+        queue.push(1, 4);
+        assertEquals(4, queue.poll());
+        assertEquals(1, queue.currentKey());
+    }
+}
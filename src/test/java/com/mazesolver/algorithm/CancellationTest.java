@@ -0,0 +1,46 @@
+package com.mazesolver.algorithm;
+
+import static com.mazesolver.algorithm.SearchAssertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.mazesolver.model.Cell;
+import com.mazesolver.model.Maze;
+import com.mazesolver.model.MovementModel;
+import com.mazesolver.util.AlgorithmManager;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class CancellationTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    // Searches poll for cancellation once every 4096 expansions, once per side for bidirectional
+    // ones; a full search of the grid below expands tens of thousands of cells
+    private static final long POLL_SLACK = 3 * 4096;
+
+    /**
+     * Runs each solver on a large grid with a token cancelled in advance: it must stop within a
+     * few polls, with no path or the best one it had found by then.
+     */
+    @Test
+    void everySolverStopsOnCancelledToken() {
+        Maze maze = randomObstacleGrid(300, 300, 0.2, new Random(19));
+        Cell start = maze.getStartCell();
+        Cell end = maze.getEndCell();
+        CancellationToken token = new CancellationToken();
+        token.cancel();
+        for (Map.Entry<String, PathfindingAlgorithm> entry : AlgorithmManager.getAllAlgorithms().entrySet()) {
+            PathfindingAlgorithm algorithm = entry.getValue();
+            String context = entry.getKey();
+            SearchResult result = assertTimeoutPreemptively(TIMEOUT,
+                    () -> algorithm.search(maze, start, end, MovementModel.FOUR_CONNECTED, token), context);
+            long expanded = result.getMetrics().getExpandedNodes();
+            assertTrue(expanded < POLL_SLACK, context + " expanded " + expanded);
+            if (!result.getPath().isEmpty()) {
+                assertValidPath(maze, result.getPath(), start, end, MovementModel.FOUR_CONNECTED, context);
+            }
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.mazesolver.algorithm;
+
+import static com.mazesolver.algorithm.SearchAssertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.mazesolver.model.Cell;
+import com.mazesolver.model.Maze;
+import com.mazesolver.model.MovementModel;
+import com.mazesolver.util.AlgorithmManager;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs every solver of {@link AlgorithmManager} from several threads at once on one maze and
+ * compares each answer with the same query searched sequentially. Threads use different
+ * movement models where the solver supports them. D* Lite, which keeps its tree between calls,
+ * serializes its searches on the instance and must still answer each query as if it ran alone.
+ * Solvers that build a shared index on first use are also run on fresh instances, so that the
+ * threads race to build it.
+ */
+class ConcurrentSearchTest {
+
+    private static final int THREADS = 4;
+    private static final int ROUNDS = 20;
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    @Test
+    void registeredSolversServeSeveralThreads() throws Exception {
+        Random random = new Random(41);
+        Maze maze = randomObstacleGrid(10, 10, 0.25, random);
+        List<Cell[]> queries = reachableQueries(maze, random);
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (Map.Entry<String, PathfindingAlgorithm> entry : AlgorithmManager.getAllAlgorithms().entrySet()) {
+                assertTimeoutPreemptively(TIMEOUT, () -> checkConcurrent(entry.getKey(), entry.getValue(),
+                        entry.getValue(), maze, queries, pool), entry.getKey());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Another search on the same instance finishes while the animated one is reporting
+     * completion, replacing the last result; the animated call still returns its own.
+     */
+    @Test
+    void animatedSearchReturnsItsOwnResult() {
+        Random random = new Random(43);
+        Maze maze = randomObstacleGrid(20, 20, 0.2, random);
+        AStarAlgorithm aStar = new AStarAlgorithm();
+        Cell other = randomWalkableCell(maze, random);
+        PathfindingAlgorithm.AnimationCallback callback = new PathfindingAlgorithm.AnimationCallback() {
+            @Override
+            public void onCellVisited(Cell cell) {
+            }
+
+            @Override
+            public void onPathUpdated(List<Cell> currentPath) {
+            }
+
+            @Override
+            public void onAlgorithmComplete(List<Cell> finalPath) {
+                aStar.findPath(maze, maze.getStartCell(), other);
+            }
+
+            @Override
+            public long onStepDelay(long milliseconds) {
+                return 0;
+            }
+        };
+
+        SearchResult result = aStar.searchWithAnimation(maze, maze.getStartCell(), maze.getEndCell(),
+                MovementModel.FOUR_CONNECTED, callback, null);
+        assertEquals(aStar.search(maze, maze.getStartCell(), maze.getEndCell()).getPath(), result.getPath());
+        assertNotSame(result, aStar.getLastResult());
+    }
+
+    /**
+     * Answers the expected results from one instance and runs the threads on another, which
+     * has built nothing yet.
+     */
+    @Test
+    void sharedIndexesBuiltUnderContention() throws Exception {
+        Random random = new Random(42);
+        Maze maze = randomObstacleGrid(30, 30, 0.25, random);
+        List<Cell[]> queries = reachableQueries(maze, random);
+        Map<String, Supplier<PathfindingAlgorithm>> solvers = new LinkedHashMap<>();
+        solvers.put("Flow Field (Goal-Rooted)", FlowFieldAlgorithm::new);
+        solvers.put("Contraction Hierarchies", ContractionHierarchyAlgorithm::new);
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (Map.Entry<String, Supplier<PathfindingAlgorithm>> entry : solvers.entrySet()) {
+                PathfindingAlgorithm reference = entry.getValue().get();
+                PathfindingAlgorithm fresh = entry.getValue().get();
+                assertTimeoutPreemptively(TIMEOUT, () -> checkConcurrent(entry.getKey(), reference, fresh, maze,
+                        queries, pool), entry.getKey());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    // Reachable pairs only, as in RegisteredSolversTest
+    private static List<Cell[]> reachableQueries(Maze maze, Random random) {
+        BreadthFirstSearchAlgorithm bfs = new BreadthFirstSearchAlgorithm();
+        List<Cell[]> queries = new ArrayList<>();
+        while (queries.size() < 8) {
+            Cell start = randomWalkableCell(maze, random);
+            Cell end = randomWalkableCell(maze, random);
+            if (bfs.search(maze, start, end).isFound()) {
+                queries.add(new Cell[]{start, end});
+            }
+        }
+        return queries;
+    }
+
+    private static void checkConcurrent(String name, PathfindingAlgorithm reference, PathfindingAlgorithm algorithm,
+                                        Maze maze, List<Cell[]> queries, ExecutorService pool) throws Exception {
+        MovementModel[] movements = new MovementModel[THREADS];
+        int[][] expected = new int[THREADS][queries.size()];
+        for (int thread = 0; thread < THREADS; thread++) {
+            MovementModel movement = MovementModel.values()[thread % MovementModel.values().length];
+            movements[thread] = algorithm.supportsMovementModel(movement) ? movement : MovementModel.FOUR_CONNECTED;
+            for (int i = 0; i < queries.size(); i++) {
+                expected[thread][i] = reference.search(maze, queries.get(i)[0], queries.get(i)[1], movements[thread])
+                        .getPath().size();
+            }
+        }
+
+        // Each thread walks the queries from its own offset, so different queries overlap
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        List<Future<List<List<Cell>>>> futures = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            int offset = thread;
+            MovementModel movement = movements[thread];
+            futures.add(pool.submit((Callable<List<List<Cell>>>) () -> {
+                List<List<Cell>> paths = new ArrayList<>(ROUNDS * queries.size());
+                ready.countDown();
+                ready.await();
+                for (int n = 0; n < ROUNDS * queries.size(); n++) {
+                    Cell[] query = queries.get((offset + n) % queries.size());
+                    paths.add(algorithm.search(maze, query[0], query[1], movement).getPath());
+                }
+                return paths;
+            }));
+        }
+
+        for (int thread = 0; thread < THREADS; thread++) {
+            List<List<Cell>> paths = futures.get(thread).get();
+            for (int n = 0; n < paths.size(); n++) {
+                int query = (thread + n) % queries.size();
+                Cell start = queries.get(query)[0];
+                Cell end = queries.get(query)[1];
+                String context = name + ", thread " + thread + ", " + movements[thread] + ", search " + n + ", "
+                        + start + " -> " + end;
+                assertValidPath(maze, paths.get(n), start, end, movements[thread], context);
+                assertEquals(expected[thread][query], paths.get(n).size(), context);
+            }
+        }
+    }
+}
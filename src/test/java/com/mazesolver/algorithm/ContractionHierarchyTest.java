@@ -0,0 +1,223 @@
+package com.mazesolver.algorithm;
+
+import static com.mazesolver.algorithm.SearchAssertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.mazesolver.model.Cell;
+import com.mazesolver.model.GridGraph;
+import com.mazesolver.model.Maze;
+import com.mazesolver.model.MovementModel;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class ContractionHierarchyTest {
+
+    private final DijkstraAlgorithm dijkstra = new DijkstraAlgorithm(DijkstraAlgorithm.QueueStrategy.BINARY_HEAP);
+
+    @Test
+    void distancesAndPathsMatchDijkstra() {
+        Random random = new Random(17);
+        for (int iteration = 0; iteration < 12; iteration++) {
+            Maze maze = fixture(iteration, random);
+            ContractionHierarchy hierarchy = ContractionHierarchy.build(maze);
+            checkQueries(maze, hierarchy, random, "maze " + iteration);
+        }
+    }
+
+    @Test
+    void buildIsIndependentOfPoolSize() {
+        Random random = new Random(18);
+        Maze maze = fixture(1, random);
+        ForkJoinPool single = new ForkJoinPool(1);
+        try {
+            ContractionHierarchy sequential = ContractionHierarchy.build(maze, single);
+            ContractionHierarchy parallel = ContractionHierarchy.build(maze, ForkJoinPool.commonPool());
+            assertEquals(1, sequential.getPreprocessingThreads());
+            checkQueries(maze, sequential, random, "one thread");
+            checkQueries(maze, parallel, random, "common pool");
+        } finally {
+            single.shutdown();
+        }
+    }
+
+    @Test
+    void survivesWriteAndRead() throws IOException {
+        Random random = new Random(19);
+        Maze maze = fixture(2, random);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ContractionHierarchy.build(maze).writeTo(bytes);
+        ContractionHierarchy loaded = ContractionHierarchy.readFrom(new ByteArrayInputStream(bytes.toByteArray()));
+        assertTrue(loaded.matches(maze));
+        checkQueries(maze, loaded, random, "loaded");
+
+        Cell cell = randomWalkableCell(maze, random);
+        maze.setCost(cell.getRow(), cell.getCol(), maze.getCost(cell.getRow(), cell.getCol()) % 9 + 1);
+        assertFalse(loaded.matches(maze), "a terrain edit makes the hierarchy stale");
+    }
+
+    @Test
+    void algorithmRebuildsAfterEdits() {
+        Random random = new Random(20);
+        Maze maze = fixture(0, random);
+        ContractionHierarchyAlgorithm algorithm = new ContractionHierarchyAlgorithm();
+        ContractionHierarchy first = algorithm.getHierarchy(maze);
+        assertSame(first, algorithm.getHierarchy(maze), "an unchanged maze keeps its hierarchy");
+        for (int edit = 0; edit < 5; edit++) {
+            Cell cell = randomWalkableCell(maze, random);
+            maze.addObstacle(cell.getRow(), cell.getCol());
+            Cell start = randomWalkableCell(maze, random);
+            Cell end = randomWalkableCell(maze, random);
+            List<Cell> expected = dijkstra.search(maze, start, end).getPath();
+            List<Cell> path = algorithm.search(maze, start, end).getPath();
+            assertEquals(pathCost(maze, expected, MovementModel.FOUR_CONNECTED),
+                    pathCost(maze, path, MovementModel.FOUR_CONNECTED), "edit " + edit);
+        }
+        assertNotSame(first, algorithm.getHierarchy(maze));
+    }
+
+    /**
+     * Blocking a wall and opening it again leaves the cell walkable; the hierarchy of the walled
+     * maze must not be reused for it.
+     */
+    @Test
+    void openedWallRebuilds() {
+        Maze maze = new Maze(31, 31, 1);
+        maze.generateMaze(Maze.MazeGenerationAlgorithm.PRIMS_ALGORITHM);
+        ContractionHierarchyAlgorithm algorithm = new ContractionHierarchyAlgorithm();
+        ContractionHierarchy walled = algorithm.getHierarchy(maze);
+        maze.addObstacle(12, 1);
+        maze.removeObstacle(12, 1);
+        assertNotSame(walled, algorithm.getHierarchy(maze));
+        Cell start = maze.getStartCell();
+        Cell end = maze.getEndCell();
+        assertEquals(new BreadthFirstSearchAlgorithm().search(maze, start, end).getPath().size(),
+                algorithm.search(maze, start, end).getPath().size());
+        checkQueries(maze, algorithm.getHierarchy(maze), new Random(22), "opened wall");
+    }
+
+    @Test
+    void movingTheEndpointsKeepsTheHierarchy() {
+        Random random = new Random(23);
+        Maze maze = fixture(1, random);
+        ContractionHierarchyAlgorithm algorithm = new ContractionHierarchyAlgorithm();
+        ContractionHierarchy hierarchy = algorithm.getHierarchy(maze);
+        for (int move = 0; move < 5; move++) {
+            Cell start = randomWalkableCell(maze, random);
+            Cell end = randomWalkableCell(maze, random);
+            maze.setStartCell(start.getRow(), start.getCol());
+            maze.setEndCell(end.getRow(), end.getCol());
+            assertTrue(hierarchy.matches(maze), "move " + move);
+            assertSame(hierarchy, algorithm.getHierarchy(maze), "move " + move);
+        }
+    }
+
+    @Test
+    void corruptStreamsAreRejected() throws IOException {
+        Random random = new Random(24);
+        Maze maze = fixture(1, random);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ContractionHierarchy hierarchy = ContractionHierarchy.build(maze);
+        hierarchy.writeTo(out);
+        byte[] bytes = out.toByteArray();
+        int size = maze.getRows() * maze.getCols();
+        // Header, costs, ranks, edge count and offsets come before the first edge target
+        int firstTarget = 36 + size + 4 * size + 4 + 4 * (size + 1);
+        int firstRank = 36 + size;
+
+        assertThrows(IOException.class, () -> read(Arrays.copyOf(bytes, bytes.length - 1)), "truncated");
+        assertThrows(IOException.class, () -> read(patch(bytes, 0, 0)), "bad magic");
+        assertThrows(IOException.class, () -> read(patch(bytes, firstTarget, size)), "target out of range");
+        assertThrows(IOException.class, () -> read(patch(bytes, firstRank, -2)), "rank out of range");
+        assertThrows(IOException.class, () -> read(patch(bytes, firstTarget + 8 * hierarchy.getEdgeCount(), size)),
+                "middle cell out of range");
+
+        ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+        try (ObjectOutputStream objects = new ObjectOutputStream(serialized)) {
+            objects.writeObject(new ArrayList<>(List.of("not", "a", "hierarchy")));
+        }
+        assertThrows(IOException.class, () -> read(serialized.toByteArray()), "Java serialization stream");
+    }
+
+    /**
+     * A build stopped by the query's token is dropped, so the next query builds a whole one.
+     */
+    @Test
+    void cancelledBuildIsNotKept() {
+        Random random = new Random(21);
+        Maze maze = fixture(3, random);
+        ContractionHierarchyAlgorithm algorithm = new ContractionHierarchyAlgorithm();
+        CancellationToken token = new CancellationToken();
+        token.cancel();
+        Cell start = randomWalkableCell(maze, random);
+        Cell end = randomWalkableCell(maze, random);
+        assertTrue(algorithm.search(maze, start, end, MovementModel.FOUR_CONNECTED, token).getPath().isEmpty());
+        List<Cell> expected = dijkstra.search(maze, start, end).getPath();
+        assertEquals(pathCost(maze, expected, MovementModel.FOUR_CONNECTED),
+                pathCost(maze, algorithm.search(maze, start, end).getPath(), MovementModel.FOUR_CONNECTED));
+        checkQueries(maze, algorithm.getHierarchy(maze), random, "after a cancelled build");
+    }
+
+    private void checkQueries(Maze maze, ContractionHierarchy hierarchy, Random random, String fixture) {
+        GridGraph graph = maze.getGraph();
+        ContractionHierarchy.Query query = hierarchy.newQuery();
+        for (int i = 0; i < 40; i++) {
+            Cell start = randomWalkableCell(maze, random);
+            Cell end = randomWalkableCell(maze, random);
+            String context = fixture + ", " + start + " -> " + end;
+            List<Cell> expected = dijkstra.search(maze, start, end).getPath();
+            long cost = pathCost(maze, expected, MovementModel.FOUR_CONNECTED);
+            int distance = query.distance(graph.index(start), graph.index(end));
+            assertEquals(cost < 0 ? ContractionHierarchy.UNREACHABLE : cost, distance, context);
+
+            int[] indices = query.path(graph.index(start), graph.index(end));
+            List<Cell> path = new ArrayList<>();
+            for (int index : indices) {
+                path.add(maze.getCell(graph.rowOf(index), graph.colOf(index)));
+            }
+            assertEquals(cost, pathCost(maze, path, MovementModel.FOUR_CONNECTED), context);
+            if (cost >= 0) {
+                assertValidPath(maze, path, start, end, MovementModel.FOUR_CONNECTED, context);
+            }
+        }
+    }
+
+    private static ContractionHierarchy read(byte[] bytes) throws IOException {
+        return ContractionHierarchy.readFrom(new ByteArrayInputStream(bytes));
+    }
+
+    private static byte[] patch(byte[] bytes, int offset, int value) {
+        byte[] copy = bytes.clone();
+        ByteBuffer.wrap(copy).putInt(offset, value);
+        return copy;
+    }
+
+    /**
+     * Alternates perfect mazes and obstacle grids, with terrain on every other one.
+     */
+    private static Maze fixture(int iteration, Random random) {
+        Maze maze;
+        if (iteration % 2 == 0) {
+            maze = new Maze(15 + random.nextInt(30), 15 + random.nextInt(30), random.nextLong());
+            maze.generateMaze(Maze.MazeGenerationAlgorithm.values()[iteration / 2 % 3]);
+        } else {
+            maze = randomObstacleGrid(15 + random.nextInt(30), 15 + random.nextInt(30), 0.25, random);
+        }
+        if (iteration % 4 < 2) {
+            for (int row = 0; row < maze.getRows(); row++) {
+                for (int col = 0; col < maze.getCols(); col++) {
+                    maze.setCost(row, col, 1 + random.nextInt(9));
+                }
+            }
+        }
+        return maze;
+    }
+}
@@ -0,0 +1,87 @@
+package com.mazesolver.algorithm;
+
+import static com.mazesolver.algorithm.SearchAssertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.mazesolver.model.Cell;
+import com.mazesolver.model.Maze;
+import com.mazesolver.model.MovementModel;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class DStarLiteAlgorithmTest {
+
+    private final BreadthFirstSearchAlgorithm bfs = new BreadthFirstSearchAlgorithm();
+
+    /**
+     * Toggles obstacles and moves the start cell between searches, so every search after the
+     * first repairs the kept tree; each must still match a fresh breadth-first search.
+     */
+    @Test
+    void repairedTreeMatchesFreshSearch() {
+        Random random = new Random(24);
+        for (int iteration = 0; iteration < 10; iteration++) {
+            Maze maze = randomObstacleGrid(20 + random.nextInt(30), 20 + random.nextInt(30), 0.25, random);
+            DStarLiteAlgorithm dStar = new DStarLiteAlgorithm();
+            Cell end = maze.getEndCell();
+            for (int replan = 0; replan < 40; replan++) {
+                int edits = 1 + random.nextInt(4);
+                for (int i = 0; i < edits; i++) {
+                    Cell cell = maze.getCell(random.nextInt(maze.getRows()), random.nextInt(maze.getCols()));
+                    if (cell.isWalkable()) {
+                        maze.addObstacle(cell.getRow(), cell.getCol());
+                    } else {
+                        maze.removeObstacle(cell.getRow(), cell.getCol());
+                    }
+                }
+                Cell start = randomWalkableCell(maze, random);
+                String context = "iteration " + iteration + ", replan " + replan + ", " + start + " -> " + end;
+                List<Cell> expected = bfs.findPath(maze, start, end);
+                List<Cell> path = dStar.findPath(maze, start, end);
+                assertEquals(expected.size(), path.size(), context);
+                if (!expected.isEmpty()) {
+                    assertValidPath(maze, path, start, end, MovementModel.FOUR_CONNECTED, context);
+                }
+            }
+        }
+    }
+
+    @Test
+    void smallEditExpandsLessThanFirstSearch() {
+        Maze maze = new Maze(80, 80, 25);
+        DStarLiteAlgorithm dStar = new DStarLiteAlgorithm();
+        long first = dStar.search(maze, maze.getStartCell(), maze.getEndCell()).getMetrics().getExpandedNodes();
+        maze.addObstacle(1, 0);
+        SearchResult replanned = dStar.search(maze, maze.getStartCell(), maze.getEndCell());
+        assertEquals(bfs.findPath(maze, maze.getStartCell(), maze.getEndCell()).size(),
+                replanned.getPath().size());
+        assertTrue(replanned.getMetrics().getExpandedNodes() < first,
+                replanned.getMetrics().getExpandedNodes() + " expansions after one edit, " + first + " at first");
+    }
+
+    /**
+     * More edits than the maze's journal remembers, and a regenerated maze, force a fresh search.
+     */
+    @Test
+    void rebuildsWhenJournalCannotCoverEdits() {
+        Random random = new Random(26);
+        Maze maze = randomObstacleGrid(30, 30, 0.2, random);
+        DStarLiteAlgorithm dStar = new DStarLiteAlgorithm();
+        dStar.findPath(maze, maze.getStartCell(), maze.getEndCell());
+        for (int i = 0; i < 600; i++) {
+            Cell cell = maze.getCell(random.nextInt(30), random.nextInt(30));
+            if (cell.isWalkable()) {
+                maze.addObstacle(cell.getRow(), cell.getCol());
+            } else {
+                maze.removeObstacle(cell.getRow(), cell.getCol());
+            }
+        }
+        assertEquals(bfs.findPath(maze, maze.getStartCell(), maze.getEndCell()).size(),
+                dStar.findPath(maze, maze.getStartCell(), maze.getEndCell()).size());
+
+        maze.generateMaze(Maze.MazeGenerationAlgorithm.PRIMS_ALGORITHM);
+        assertEquals(bfs.findPath(maze, maze.getStartCell(), maze.getEndCell()).size(),
+                dStar.findPath(maze, maze.getStartCell(), maze.getEndCell()).size());
+    }
+}
@@ -0,0 +1,97 @@
+package com.mazesolver.algorithm;
+
+import static com.mazesolver.algorithm.SearchAssertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.mazesolver.model.Cell;
+import com.mazesolver.model.Maze;
+import com.mazesolver.model.MovementModel;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class FlowFieldAlgorithmTest {
+
+    @Test
+    void queriesSharingTheEndCellReuseTheField() {
+        Random random = new Random(131);
+        Maze maze = randomObstacleGrid(60, 60, 0.25, random);
+        maze.randomizeCosts(5);
+        Cell end = maze.getEndCell();
+        FlowFieldAlgorithm flowField = new FlowFieldAlgorithm();
+        DijkstraAlgorithm dijkstra = new DijkstraAlgorithm();
+
+        SearchResult first = flowField.search(maze, randomWalkableCell(maze, random), end);
+        FlowField field = flowField.getFlowField(maze, MovementModel.FOUR_CONNECTED);
+        assertEquals((long) field.getReachableCount(), first.getMetrics().getExpandedNodes(), "the first query builds the field");
+        for (int query = 0; query < 20; query++) {
+            Cell start = randomWalkableCell(maze, random);
+            String context = "query " + query + " from " + start;
+            SearchResult result = flowField.search(maze, start, end);
+            assertTrue(result.getMetrics().getExpandedNodes() <= result.getPath().size(),
+                    context + ": visited " + result.getMetrics().getExpandedNodes());
+            assertEquals(pathCost(maze, dijkstra.search(maze, start, end).getPath(), MovementModel.FOUR_CONNECTED),
+                    pathCost(maze, result.getPath(), MovementModel.FOUR_CONNECTED), context);
+        }
+        assertSame(field, flowField.getFlowField(maze, MovementModel.FOUR_CONNECTED));
+    }
+
+    @Test
+    void editsEndCellsAndMovementModelsRebuildTheField() {
+        Random random = new Random(132);
+        Maze maze = randomObstacleGrid(40, 40, 0.2, random);
+        FlowFieldAlgorithm flowField = new FlowFieldAlgorithm();
+        FlowField field = flowField.getFlowField(maze, MovementModel.FOUR_CONNECTED);
+
+        Cell cell;
+        do {
+            cell = randomWalkableCell(maze, random);
+        } while (cell == maze.getStartCell() || cell == maze.getEndCell());
+        maze.addObstacle(cell.getRow(), cell.getCol());
+        FlowField edited = flowField.getFlowField(maze, MovementModel.FOUR_CONNECTED);
+        assertNotSame(field, edited, "an obstacle edit");
+
+        Cell newEnd = randomWalkableCell(maze, random);
+        maze.setEndCell(newEnd.getRow(), newEnd.getCol());
+        FlowField moved = flowField.getFlowField(maze, MovementModel.FOUR_CONNECTED);
+        assertNotSame(edited, moved, "a new end cell");
+        assertEquals(maze.getGraph().index(newEnd), moved.getTarget());
+
+        FlowField diagonal = flowField.getFlowField(maze, MovementModel.EIGHT_CONNECTED);
+        assertNotSame(moved, diagonal, "a new movement model");
+        assertEquals(MovementModel.EIGHT_CONNECTED, diagonal.getMovementModel());
+        assertSame(diagonal, flowField.getFlowField(maze, MovementModel.EIGHT_CONNECTED));
+
+        Cell start = randomWalkableCell(maze, random);
+        SearchResult result = flowField.search(maze, start, newEnd);
+        assertTrue(result.getMetrics().getExpandedNodes() > result.getPath().size(),
+                "a 4-connected query after the 8-connected field builds again");
+    }
+
+    /**
+     * A query for another end cell whose build is cancelled returns no path and leaves the
+     * field it would have replaced in place. The grid has more reachable cells than the
+     * cancellation poll interval, so the build sees the token before it finishes.
+     */
+    @Test
+    void cancelledBuildKeepsThePreviousField() {
+        Random random = new Random(133);
+        Maze maze = randomObstacleGrid(100, 100, 0.2, random);
+        FlowFieldAlgorithm flowField = new FlowFieldAlgorithm();
+        FlowField field = flowField.getFlowField(maze, MovementModel.FOUR_CONNECTED);
+
+        CancellationToken token = new CancellationToken();
+        token.cancel();
+        Cell start = maze.getStartCell();
+        Cell otherEnd;
+        do {
+            otherEnd = randomWalkableCell(maze, random);
+        } while (otherEnd == maze.getEndCell() || otherEnd == start);
+        List<Cell> path = flowField.search(maze, start, otherEnd, MovementModel.FOUR_CONNECTED, token).getPath();
+        assertTrue(path.isEmpty());
+        assertSame(field, flowField.getFlowField(maze, MovementModel.FOUR_CONNECTED));
+
+        SearchResult kept = flowField.search(maze, start, maze.getEndCell());
+        assertTrue(kept.getMetrics().getExpandedNodes() <= kept.getPath().size(), "the kept field answers at once");
+    }
+}
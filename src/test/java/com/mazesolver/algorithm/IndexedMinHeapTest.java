@@ -0,0 +1,82 @@
+package com.mazesolver.algorithm;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class IndexedMinHeapTest {
+
+    private static final int CAPACITY = 200;
+
+    /**
+     * Runs random offers, updates, removals and polls against a map of the queued priorities.
+     */
+    @Test
+    void matchesReferenceUnderRandomOperations() {
+        Random random = new Random(11);
+        IndexedMinHeap heap = new IndexedMinHeap();
+        heap.reset(CAPACITY);
+        Map<Integer, Long> queued = new HashMap<>();
+        for (int step = 0; step < 20_000; step++) {
+            int index = random.nextInt(CAPACITY);
+            long priority = random.nextInt(1000);
+            switch (random.nextInt(4)) {
+                case 0:
+                    Long old = queued.get(index);
+                    boolean changed = heap.offer(index, priority);
+                    assertEquals(old == null || priority < old, changed, "offer at step " + step);
+                    if (changed) {
+                        queued.put(index, priority);
+                    }
+                    break;
+                case 1:
+                    heap.update(index, priority);
+                    queued.put(index, priority);
+                    break;
+                case 2:
+                    heap.remove(index);
+                    queued.remove(index);
+                    break;
+                default:
+                    if (!queued.isEmpty()) {
+                        long smallest = Collections.min(queued.values());
+                        assertEquals(smallest, heap.priorityOf(heap.peek()), "peek at step " + step);
+                        int polled = heap.poll();
+                        assertEquals(smallest, (long) queued.remove(polled), "poll at step " + step);
+                        assertFalse(heap.contains(polled));
+                    }
+            }
+            assertEquals(queued.size(), heap.size(), "size at step " + step);
+        }
+    }
+
+    @Test
+    void reprioritizeRestoresOrder() {
+        IndexedMinHeap heap = new IndexedMinHeap();
+        heap.reset(10);
+        for (int index = 0; index < 10; index++) {
+            heap.offer(index, index);
+        }
+        heap.reprioritize(index -> 100 - index);
+        for (int expected = 9; expected >= 0; expected--) {
+            assertEquals(expected, heap.poll());
+        }
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    void clearForgetsQueuedIndices() {
+        IndexedMinHeap heap = new IndexedMinHeap();
+        heap.reset(8);
+        heap.offer(3, 5);
+        heap.offer(4, 1);
+        heap.clear();
+        assertTrue(heap.isEmpty());
+        assertFalse(heap.contains(3));
+        assertTrue(heap.offer(3, 7), "a cleared index is inserted again");
+    }
+}
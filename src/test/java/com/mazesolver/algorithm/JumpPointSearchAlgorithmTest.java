@@ -0,0 +1,58 @@
+package com.mazesolver.algorithm;
+
+import static com.mazesolver.algorithm.SearchAssertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.mazesolver.model.Cell;
+import com.mazesolver.model.Maze;
+import com.mazesolver.model.MovementModel;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class JumpPointSearchAlgorithmTest {
+
+    /**
+     * Uses grids wider than one 64-cell row word, so jumps scan across word boundaries.
+     */
+    @Test
+    void matchesBreadthFirstSearchOnWideGrids() {
+        Random random = new Random(15);
+        BreadthFirstSearchAlgorithm bfs = new BreadthFirstSearchAlgorithm();
+        JumpPointSearchAlgorithm jps = new JumpPointSearchAlgorithm();
+        for (int iteration = 0; iteration < 60; iteration++) {
+            Maze maze = randomObstacleGrid(10 + random.nextInt(40), 60 + random.nextInt(140),
+                    random.nextDouble() * 0.4, random);
+            for (int query = 0; query < 5; query++) {
+                Cell start = randomWalkableCell(maze, random);
+                Cell end = randomWalkableCell(maze, random);
+                String context = "iteration " + iteration + ", " + start + " -> " + end;
+                List<Cell> expected = bfs.findPath(maze, start, end);
+                List<Cell> path = jps.findPath(maze, start, end);
+                assertEquals(expected.size(), path.size(), context);
+                if (!expected.isEmpty()) {
+                    assertValidPath(maze, path, start, end, MovementModel.FOUR_CONNECTED, context);
+                }
+            }
+        }
+    }
+
+    @Test
+    void matchesBreadthFirstSearchOnPerfectMazes() {
+        Random random = new Random(16);
+        BreadthFirstSearchAlgorithm bfs = new BreadthFirstSearchAlgorithm();
+        JumpPointSearchAlgorithm jps = new JumpPointSearchAlgorithm();
+        for (int iteration = 0; iteration < 20; iteration++) {
+            Maze maze = new Maze(21 + random.nextInt(40), 41 + random.nextInt(100), random.nextLong());
+            maze.generateMaze(Maze.MazeGenerationAlgorithm.values()[iteration % 3]);
+            Cell start = maze.getStartCell();
+            Cell end = maze.getEndCell();
+            String context = "maze " + iteration;
+            List<Cell> path = jps.findPath(maze, start, end);
+            assertEquals(bfs.findPath(maze, start, end).size(), path.size(), context);
+            if (!path.isEmpty()) {
+                assertValidPath(maze, path, start, end, MovementModel.FOUR_CONNECTED, context);
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.mazesolver.algorithm;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.PriorityQueue;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class LongMinHeapTest {
+
+    @Test
+    void popsInPriorityQueueOrder() {
+        Random random = new Random(12);
+        LongMinHeap heap = new LongMinHeap();
+        PriorityQueue<Long> reference = new PriorityQueue<>();
+        for (int step = 0; step < 20_000; step++) {
+            if (reference.isEmpty() || random.nextInt(3) > 0) {
+                long entry = LongMinHeap.pack(random.nextInt(1 << 20), random.nextInt(1 << 20));
+                heap.push(entry);
+                reference.add(entry);
+            } else {
+                assertEquals((long) reference.peek(), heap.peek(), "peek at step " + step);
+                assertEquals((long) reference.poll(), heap.pop(), "pop at step " + step);
+            }
+            assertEquals(reference.size(), heap.size());
+        }
+    }
+
+    @Test
+    void packedEntriesOrderByPriorityFirst() {
+        long low = LongMinHeap.pack(3, 900);
+        long high = LongMinHeap.pack(4, 1);
+        assertTrue(low < high);
+        assertEquals(3, LongMinHeap.priorityOf(low));
+        assertEquals(900, LongMinHeap.indexOf(low));
+    }
+}
@@ -0,0 +1,102 @@
+package com.mazesolver.algorithm;
+
+import static com.mazesolver.algorithm.SearchAssertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.mazesolver.model.Cell;
+import com.mazesolver.model.Maze;
+import com.mazesolver.model.MovementModel;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class MemoryBoundedAStarAlgorithmTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Test
+    void matchesBreadthFirstSearchOnRandomObstacleGrids() {
+        Random random = new Random(7);
+        BreadthFirstSearchAlgorithm bfs = new BreadthFirstSearchAlgorithm();
+        MemoryBoundedAStarAlgorithm sma = new MemoryBoundedAStarAlgorithm();
+        for (int iteration = 0; iteration < 300; iteration++) {
+            Maze maze = randomObstacleGrid(5 + random.nextInt(26), 5 + random.nextInt(26),
+                    random.nextDouble() * 0.4, random);
+            Cell start = randomWalkableCell(maze, random);
+            Cell end = randomWalkableCell(maze, random);
+            String context = "iteration " + iteration + ", " + start + " -> " + end;
+
+            List<Cell> expected = bfs.search(maze, start, end).getPath();
+            List<Cell> path = assertTimeoutPreemptively(TIMEOUT, () -> sma.search(maze, start, end).getPath(), context);
+            assertEquals(expected.size(), path.size(), context);
+            if (!expected.isEmpty()) {
+                assertValidPath(maze, path, start, end, MovementModel.FOUR_CONNECTED, context);
+            }
+        }
+    }
+
+    @Test
+    void finishesOnOpenGridWithObstacles() {
+        // Dense 20x13 grids from (11, 9) to (6, 1), where making room for a child reaches into the
+        // subtree of the node being expanded
+        BreadthFirstSearchAlgorithm bfs = new BreadthFirstSearchAlgorithm();
+        MemoryBoundedAStarAlgorithm sma = new MemoryBoundedAStarAlgorithm();
+        for (long seed = 0; seed < 50; seed++) {
+            Random random = new Random(seed);
+            Maze maze = randomObstacleGrid(20, 13, 0.3, random);
+            maze.removeObstacle(11, 9);
+            maze.removeObstacle(6, 1);
+            maze.setStartCell(11, 9);
+            maze.setEndCell(6, 1);
+            Cell start = maze.getStartCell();
+            Cell end = maze.getEndCell();
+            String context = "seed " + seed;
+
+            List<Cell> expected = bfs.search(maze, start, end).getPath();
+            List<Cell> path = assertTimeoutPreemptively(TIMEOUT, () -> sma.search(maze, start, end).getPath(), context);
+            assertEquals(expected.size(), path.size(), context);
+            List<Cell> animated = assertTimeoutPreemptively(TIMEOUT,
+                    () -> sma.findPathWithAnimation(maze, start, end, null), context + " (animated)");
+            assertEquals(expected.size(), animated.size(), context + " (animated)");
+        }
+    }
+
+    @Test
+    void smallBudgetsNeverReturnLongerPaths() {
+        Random random = new Random(11);
+        DijkstraAlgorithm dijkstra = new DijkstraAlgorithm();
+        for (int iteration = 0; iteration < 300; iteration++) {
+            Maze maze = randomObstacleGrid(5 + random.nextInt(16), 5 + random.nextInt(16),
+                    random.nextDouble() * 0.4, random);
+            if (iteration % 3 == 0) {
+                maze.randomizeCosts(9);
+            }
+            MovementModel movement = MovementModel.values()[iteration % MovementModel.values().length];
+            Cell start = randomWalkableCell(maze, random);
+            Cell end = randomWalkableCell(maze, random);
+            MemoryBoundedAStarAlgorithm sma = new MemoryBoundedAStarAlgorithm(2 + random.nextInt(maze.getRows() * maze.getCols()));
+            String context = "iteration " + iteration + ", budget " + sma.getNodeBudget() + ", " + movement;
+
+            List<Cell> expected = dijkstra.search(maze, start, end, movement).getPath();
+            List<Cell> path = assertTimeoutPreemptively(TIMEOUT,
+                    () -> sma.search(maze, start, end, movement).getPath(), context);
+            if (!path.isEmpty()) {
+                // A budget too small for the search may give up, but never with a worse path
+                assertValidPath(maze, path, start, end, movement, context);
+                assertEquals(pathCost(maze, expected, movement), pathCost(maze, path, movement), context);
+            }
+        }
+    }
+
+    @Test
+    void boxedInStartHasNoPath() {
+        Maze maze = new Maze(3, 3, 1);
+        maze.addObstacle(0, 1);
+        maze.addObstacle(1, 0);
+        MemoryBoundedAStarAlgorithm sma = new MemoryBoundedAStarAlgorithm();
+        // Without corner cutting the start cell's only diagonal passes between two obstacles
+        assertTrue(sma.search(maze, maze.getStartCell(), maze.getEndCell(),
+                MovementModel.EIGHT_CONNECTED_NO_CORNER_CUTTING).getPath().isEmpty());
+    }
+}
@@ -0,0 +1,137 @@
+package com.mazesolver.algorithm;
+
+import static com.mazesolver.algorithm.SearchAssertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.mazesolver.model.Cell;
+import com.mazesolver.model.Maze;
+import com.mazesolver.model.MovementModel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class MultiEndpointSearchTest {
+
+    /**
+     * Checks every multi-endpoint search against the cheapest of the single-pair searches it
+     * replaces, with endpoint sets that mix in blocked and repeated cells.
+     */
+    @Test
+    void nearestPairMatchesBestSinglePairSearch() {
+        Random random = new Random(81);
+        Maze maze = randomObstacleGrid(40, 40, 0.3, random);
+        maze.randomizeCosts(6);
+        for (PathfindingAlgorithm algorithm : multiEndpointSolvers()) {
+            for (MovementModel movement : MovementModel.values()) {
+                if (!algorithm.supportsMovementModel(movement)) {
+                    continue;
+                }
+                for (int trial = 0; trial < 15; trial++) {
+                    List<Cell> sources = randomEndpoints(maze, 1 + random.nextInt(4), random);
+                    List<Cell> targets = randomEndpoints(maze, 1 + random.nextInt(4), random);
+                    checkAgainstSinglePairs(maze, algorithm, movement, sources, targets,
+                            algorithm.getName() + ", " + movement + ", trial " + trial);
+                }
+            }
+        }
+    }
+
+    @Test
+    void sharedCellIsAZeroLengthPath() {
+        Maze maze = randomObstacleGrid(20, 20, 0.2, new Random(82));
+        Cell shared = randomWalkableCell(maze, new Random(83));
+        for (PathfindingAlgorithm algorithm : multiEndpointSolvers()) {
+            List<Cell> path = algorithm.search(maze, List.of(maze.getStartCell(), shared),
+                    List.of(shared, maze.getEndCell())).getPath();
+            assertEquals(List.of(shared), path, algorithm.getName());
+        }
+    }
+
+    @Test
+    void blockedEndpointsAloneGiveNoPath() {
+        Maze maze = randomObstacleGrid(10, 10, 0, new Random(84));
+        maze.addObstacle(4, 4);
+        maze.addObstacle(5, 5);
+        Cell wall = maze.getCell(4, 4);
+        Cell otherWall = maze.getCell(5, 5);
+        for (PathfindingAlgorithm algorithm : multiEndpointSolvers()) {
+            String name = algorithm.getName();
+            assertTrue(algorithm.search(maze, List.of(wall), List.of(wall)).getPath().isEmpty(), name);
+            assertTrue(algorithm.search(maze, List.of(wall, wall), List.of(maze.getEndCell())).getPath().isEmpty(),
+                    name);
+            assertTrue(algorithm.search(maze, List.of(maze.getStartCell()), List.of(otherWall)).getPath().isEmpty(),
+                    name);
+            assertTrue(algorithm.search(maze, List.of(), List.of(maze.getEndCell())).getPath().isEmpty(), name);
+        }
+    }
+
+    @Test
+    void unsupportedSolverRejectsMultipleEndpoints() {
+        Maze maze = new Maze(10, 10, 85);
+        PathfindingAlgorithm algorithm = new DepthFirstSearchAlgorithm();
+        assertFalse(algorithm.supportsMultipleEndpoints());
+        assertThrows(UnsupportedOperationException.class,
+                () -> algorithm.search(maze, List.of(maze.getStartCell()), List.of(maze.getEndCell())));
+    }
+
+    private static void checkAgainstSinglePairs(Maze maze, PathfindingAlgorithm algorithm, MovementModel movement,
+                                                List<Cell> sources, List<Cell> targets, String context) {
+        // BFS minimises steps, the weighted solvers total cost
+        boolean weighted = !(algorithm instanceof BreadthFirstSearchAlgorithm);
+        long best = -1;
+        for (Cell source : sources) {
+            for (Cell target : targets) {
+                if (!source.isWalkable() || !target.isWalkable()) {
+                    continue;
+                }
+                List<Cell> path = algorithm.search(maze, source, target, movement).getPath();
+                long measure = measure(maze, path, movement, weighted);
+                if (measure >= 0 && (best < 0 || measure < best)) {
+                    best = measure;
+                }
+            }
+        }
+        List<Cell> path = algorithm.search(maze, sources, targets, movement).getPath();
+        context += " " + sources + " -> " + targets;
+        assertEquals(best, measure(maze, path, movement, weighted), context);
+        if (!path.isEmpty()) {
+            Cell first = path.get(0);
+            Cell last = path.get(path.size() - 1);
+            assertTrue(first.isWalkable(), context + ": path begins on a blocked cell");
+            assertTrue(sources.contains(first), context + ": path does not begin at a source");
+            assertTrue(targets.contains(last), context + ": path does not finish at a target");
+            assertValidPath(maze, path, first, last, movement, context);
+        }
+    }
+
+    private static long measure(Maze maze, List<Cell> path, MovementModel movement, boolean weighted) {
+        return weighted ? pathCost(maze, path, movement) : path.size() - 1;
+    }
+
+    /**
+     * Picks walkable cells and adds one repeat of an earlier cell and one blocked cell half the
+     * time each.
+     */
+    private static List<Cell> randomEndpoints(Maze maze, int count, Random random) {
+        List<Cell> cells = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            cells.add(randomWalkableCell(maze, random));
+        }
+        if (random.nextBoolean()) {
+            cells.add(cells.get(random.nextInt(cells.size())));
+        }
+        if (random.nextBoolean()) {
+            Cell cell;
+            do {
+                cell = maze.getCell(random.nextInt(maze.getRows()), random.nextInt(maze.getCols()));
+            } while (cell.isWalkable());
+            cells.add(random.nextInt(cells.size() + 1), cell);
+        }
+        return cells;
+    }
+
+    private static List<PathfindingAlgorithm> multiEndpointSolvers() {
+        return List.of(new BreadthFirstSearchAlgorithm(), new DijkstraAlgorithm(), new AStarAlgorithm());
+    }
+}
@@ -0,0 +1,85 @@
+package com.mazesolver.algorithm;
+
+import static com.mazesolver.algorithm.SearchAssertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.mazesolver.model.Cell;
+import com.mazesolver.model.Maze;
+import com.mazesolver.model.MovementModel;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class ParallelBreadthFirstSearchAlgorithmTest {
+
+    /**
+     * Searches from the middle of a wide open grid, so levels grow past one leaf task and every
+     * level is expanded on the pool.
+     */
+    @Test
+    void pooledLevelsMatchBreadthFirstSearch() {
+        Random random = new Random(31);
+        Maze maze = randomObstacleGrid(500, 500, 0.15, random);
+        BreadthFirstSearchAlgorithm bfs = new BreadthFirstSearchAlgorithm();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int threshold : new int[]{1, 64}) {
+                ParallelBreadthFirstSearchAlgorithm parallel = new ParallelBreadthFirstSearchAlgorithm(pool, threshold);
+                for (int query = 0; query < 8; query++) {
+                    Cell start = query % 2 == 0 ? nearestWalkable(maze, 250, 250) : randomWalkableCell(maze, random);
+                    Cell end = randomWalkableCell(maze, random);
+                    String context = "threshold " + threshold + ", " + start + " -> " + end;
+                    List<Cell> expected = bfs.findPath(maze, start, end);
+                    List<Cell> path = parallel.findPath(maze, start, end);
+                    assertEquals(expected.size(), path.size(), context);
+                    if (!expected.isEmpty()) {
+                        assertValidPath(maze, path, start, end, MovementModel.FOUR_CONNECTED, context);
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * The connectivity index answers disconnected pairs before any search runs, so the
+     * implementation is called directly to make it exhaust the start cell's side in parallel.
+     */
+    @Test
+    void disconnectedPairsExhaustTheirComponent() {
+        Maze maze = randomObstacleGrid(300, 300, 0.1, new Random(32));
+        for (int row = 0; row < maze.getRows(); row++) {
+            maze.addObstacle(row, 150);
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ParallelBreadthFirstSearchAlgorithm parallel = new ParallelBreadthFirstSearchAlgorithm(pool, 1);
+            Cell left = nearestWalkable(maze, 150, 75);
+            Cell right = nearestWalkable(maze, 150, 225);
+            assertTrue(parallel.findPath(maze, left, right).isEmpty());
+            SearchContext context = parallel.acquireContext(MovementModel.FOUR_CONNECTED);
+            try {
+                assertTrue(parallel.findPathImplementation(context, maze, left, right).isEmpty());
+                assertTrue(context.visitedCells > 10_000, "visited " + context.visitedCells);
+            } finally {
+                context.end();
+            }
+            Cell otherLeft = nearestWalkable(maze, 20, 20);
+            assertEquals(new BreadthFirstSearchAlgorithm().findPath(maze, left, otherLeft).size(),
+                    parallel.findPath(maze, left, otherLeft).size(), "the same search state serves the next query");
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static Cell nearestWalkable(Maze maze, int row, int col) {
+        for (int offset = 0; ; offset++) {
+            Cell cell = maze.getCell(row, col + offset);
+            if (cell != null && cell.isWalkable()) {
+                return cell;
+            }
+        }
+    }
+}
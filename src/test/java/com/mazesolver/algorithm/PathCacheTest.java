@@ -0,0 +1,148 @@
+package com.mazesolver.algorithm;
+
+import static com.mazesolver.algorithm.SearchAssertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.mazesolver.model.Cell;
+import com.mazesolver.model.Maze;
+import com.mazesolver.model.MovementModel;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class PathCacheTest {
+
+    @Test
+    void changedSettingsMissTheCache() {
+        Maze maze = randomObstacleGrid(20, 20, 0.2, new Random(20));
+        Cell start = maze.getStartCell();
+        Cell end = maze.getEndCell();
+        IterativeDeepeningAStarAlgorithm ida = new IterativeDeepeningAStarAlgorithm(4);
+        PathCache cache = new PathCache();
+
+        SearchResult small = cache.search(maze, start, end, ida);
+        assertTrue(small.getPath().isEmpty());
+        assertTrue(small.isBudgetExhausted());
+        assertEquals(0, cache.size(), "a result cut short by the budget is not kept");
+
+        ida.setNodeBudget(1000);
+        SearchResult large = cache.search(maze, start, end, ida);
+        assertFalse(large.isBudgetExhausted());
+        assertEquals(1, cache.size());
+        assertEquals(large.getPath(), cache.search(maze, start, end, ida).getPath());
+        assertEquals(1, cache.getHitCount());
+
+        ida.setNodeBudget(500);
+        cache.search(maze, start, end, ida);
+        assertEquals(1, cache.getHitCount(), "another budget is another key");
+    }
+
+    @Test
+    void keyIncludesMovementModel() {
+        Maze maze = randomObstacleGrid(20, 20, 0.2, new Random(21));
+        AStarAlgorithm aStar = new AStarAlgorithm();
+        PathCache cache = new PathCache();
+        PathCache.Key four = cache.key(maze, maze.getStartCell(), maze.getEndCell(), aStar, MovementModel.FOUR_CONNECTED);
+        PathCache.Key eight = cache.key(maze, maze.getStartCell(), maze.getEndCell(), aStar, MovementModel.EIGHT_CONNECTED);
+        assertNotEquals(four, eight);
+        assertEquals(four, cache.key(maze, maze.getStartCell(), maze.getEndCell(), aStar, MovementModel.FOUR_CONNECTED));
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvictedAtTheByteCap() {
+        Maze maze = randomObstacleGrid(20, 20, 0, new Random(22));
+        BreadthFirstSearchAlgorithm bfs = new BreadthFirstSearchAlgorithm();
+        // Straight paths along the first row all take the same number of words
+        SearchResult result = bfs.search(maze, maze.getCell(0, 0), maze.getCell(0, 10));
+        PathCache probe = new PathCache();
+        probe.put(probe.key(maze, maze.getCell(0, 0), maze.getCell(0, 10), bfs, MovementModel.FOUR_CONNECTED),
+                result, null);
+        long entryBytes = probe.getMemoryBytes();
+
+        PathCache cache = new PathCache(3 * entryBytes);
+        PathCache.Key[] keys = new PathCache.Key[4];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = cache.key(maze, maze.getCell(i + 1, 0), maze.getCell(i + 1, 10), bfs,
+                    MovementModel.FOUR_CONNECTED);
+        }
+        cache.put(keys[0], result, null);
+        cache.put(keys[1], result, null);
+        cache.put(keys[2], result, null);
+        assertNotNull(cache.get(keys[0], maze), "touching the eldest entry makes it the most recent");
+        cache.put(keys[3], result, null);
+
+        assertEquals(3, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals(3 * entryBytes, cache.getMemoryBytes());
+        assertNull(cache.get(keys[1], maze), "the least recently used entry goes first");
+        assertNotNull(cache.get(keys[0], maze));
+        assertNotNull(cache.get(keys[2], maze));
+        assertNotNull(cache.get(keys[3], maze));
+
+        PathCache tiny = new PathCache(entryBytes - 1);
+        tiny.put(keys[0], result, null);
+        assertEquals(0, tiny.size(), "an entry larger than the cap is not stored");
+        assertEquals(0, tiny.getEvictionCount());
+    }
+
+    /**
+     * Each kind of edit must miss the cache, and undoing it must bring the fingerprint, and so
+     * the cached entry, back.
+     */
+    @Test
+    void editsMissAndRevertedEditsHitAgain() {
+        Maze maze = randomObstacleGrid(20, 20, 0.2, new Random(23));
+        Cell start = maze.getStartCell();
+        Cell end = maze.getEndCell();
+        Random random = new Random(24);
+        Cell open;
+        do {
+            open = randomWalkableCell(maze, random);
+        } while (open == start || open == end);
+        int row = open.getRow();
+        int col = open.getCol();
+        AStarAlgorithm aStar = new AStarAlgorithm();
+        PathCache cache = new PathCache();
+        long original = maze.getFingerprint();
+        cache.search(maze, start, end, aStar);
+
+        maze.addObstacle(row, col);
+        checkMissThenRevert(cache, maze, start, end, aStar, original, () -> maze.removeObstacle(row, col));
+        maze.setCost(row, col, 9);
+        checkMissThenRevert(cache, maze, start, end, aStar, original, () -> maze.setCost(row, col, 1));
+        maze.setEndCell(row, col);
+        checkMissThenRevert(cache, maze, start, end, aStar, original,
+                () -> maze.setEndCell(end.getRow(), end.getCol()));
+        maze.setStartCell(row, col);
+        checkMissThenRevert(cache, maze, start, end, aStar, original,
+                () -> maze.setStartCell(start.getRow(), start.getCol()));
+    }
+
+    @Test
+    void openedWallMissesTheCache() {
+        Maze maze = new Maze(31, 31, 1);
+        maze.generateMaze(Maze.MazeGenerationAlgorithm.PRIMS_ALGORITHM);
+        Cell start = maze.getStartCell();
+        Cell end = maze.getEndCell();
+        BreadthFirstSearchAlgorithm bfs = new BreadthFirstSearchAlgorithm();
+        PathCache cache = new PathCache();
+        cache.search(maze, start, end, bfs);
+
+        maze.addObstacle(12, 1);
+        maze.removeObstacle(12, 1);
+        SearchResult result = cache.search(maze, start, end, bfs);
+        assertEquals(0, cache.getHitCount(), "the wall is open now, so the layout is new");
+        assertEquals(bfs.search(maze, start, end).getPath(), result.getPath());
+    }
+
+    private static void checkMissThenRevert(PathCache cache, Maze maze, Cell start, Cell end,
+                                            PathfindingAlgorithm algorithm, long original, Runnable revert) {
+        long hits = cache.getHitCount();
+        assertNotEquals(original, maze.getFingerprint());
+        cache.search(maze, start, end, algorithm);
+        assertEquals(hits, cache.getHitCount(), "an edited maze misses");
+        revert.run();
+        assertEquals(original, maze.getFingerprint(), "undoing the edit restores the fingerprint");
+        cache.search(maze, start, end, algorithm);
+        assertEquals(hits + 1, cache.getHitCount(), "the original layout hits again");
+    }
+}
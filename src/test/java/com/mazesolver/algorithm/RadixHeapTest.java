@@ -0,0 +1,61 @@
+package com.mazesolver.algorithm;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class RadixHeapTest {
+
+    /**
+     * Pushes keys no smaller than the last popped one, as Dijkstra does, with spreads from one
+     * to well past a bucket boundary.
+     */
+    @Test
+    void popsKeysInOrderUnderMonotonePushes() {
+        Random random = new Random(13);
+        for (int spread : new int[]{1, 7, 255, 1 << 20}) {
+            RadixHeap heap = new RadixHeap();
+            List<Integer> keys = new ArrayList<>();
+            int queued = 0;
+            int last = 0;
+            for (int step = 0; step < 20_000; step++) {
+                if (queued == 0 || random.nextInt(3) > 0) {
+                    int key = last + random.nextInt(spread + 1);
+                    heap.push(key, keys.size());
+                    keys.add(key);
+                    queued++;
+                } else {
+                    int expected = Integer.MAX_VALUE;
+                    for (Integer key : keys) {
+                        if (key != null) {
+                            expected = Math.min(expected, key);
+                        }
+                    }
+                    int index = heap.poll();
+                    String context = "spread " + spread + ", step " + step;
+                    assertEquals(expected, (int) keys.get(index), context);
+                    assertEquals(expected, heap.currentKey(), context);
+                    keys.set(index, null);
+                    queued--;
+                    last = expected;
+                }
+                assertEquals(queued == 0, heap.isEmpty());
+            }
+        }
+    }
+
+    @Test
+    void clearEmptiesTheHeap() {
+        RadixHeap heap = new RadixHeap();
+        heap.push(5, 1);
+        heap.push(9, 2);
+        heap.clear();
+        assertTrue(heap.isEmpty());
+        heap.push(2, 3);
+        assertEquals(3, heap.poll());
+        assertEquals(2, heap.currentKey());
+    }
+}
@@ -0,0 +1,142 @@
+package com.mazesolver.algorithm;
+
+import static com.mazesolver.algorithm.SearchAssertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.mazesolver.model.Cell;
+import com.mazesolver.model.Maze;
+import com.mazesolver.model.MovementModel;
+import com.mazesolver.util.AlgorithmManager;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks every solver of {@link AlgorithmManager} against a binary-heap Dijkstra and BFS on
+ * seeded mazes. Solvers that minimise terrain cost must match Dijkstra's cost; the others
+ * minimise steps and must match BFS's length; depth-first search only has to find a valid path.
+ */
+class RegisteredSolversTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final DijkstraAlgorithm dijkstra = new DijkstraAlgorithm(DijkstraAlgorithm.QueueStrategy.BINARY_HEAP);
+    private final BreadthFirstSearchAlgorithm bfs = new BreadthFirstSearchAlgorithm();
+
+    @Test
+    void shortestPathsOnPerfectMazes() {
+        Random random = new Random(1);
+        for (int iteration = 0; iteration < 24; iteration++) {
+            // IDA* has no closed set, so mazes stay small enough for it to enumerate
+            Maze maze = new Maze(5 + random.nextInt(8), 5 + random.nextInt(8), random.nextLong());
+            maze.generateMaze(Maze.MazeGenerationAlgorithm.values()[iteration % 3]);
+            if (iteration % 2 == 1) {
+                randomTerrain(maze, 9, random);
+            }
+            checkAllSolvers(maze, random, "perfect maze " + iteration);
+        }
+    }
+
+    @Test
+    void shortestPathsOnObstacleGrids() {
+        Random random = new Random(2);
+        for (int iteration = 0; iteration < 24; iteration++) {
+            Maze maze = randomObstacleGrid(5 + random.nextInt(6), 5 + random.nextInt(6), 0.3, random);
+            if (iteration % 2 == 1) {
+                randomTerrain(maze, 5, random);
+            }
+            checkAllSolvers(maze, random, "obstacle grid " + iteration);
+        }
+    }
+
+    @Test
+    void noPathBetweenDisconnectedCells() {
+        Maze maze = new Maze(9, 9, 3);
+        for (int row = 0; row < 9; row++) {
+            maze.addObstacle(row, 4);
+        }
+        Cell start = maze.getCell(4, 1);
+        Cell end = maze.getCell(4, 7);
+        for (Map.Entry<String, PathfindingAlgorithm> entry : AlgorithmManager.getAllAlgorithms().entrySet()) {
+            SearchResult result = assertTimeoutPreemptively(TIMEOUT, () -> entry.getValue().search(maze, start, end),
+                    entry.getKey());
+            assertTrue(result.getPath().isEmpty(), entry.getKey());
+        }
+    }
+
+    /**
+     * findPath hands out the result's own path, so every solver returns an unmodifiable list,
+     * whether it found a path or not.
+     */
+    @Test
+    void findPathReturnsUnmodifiableLists() {
+        Maze maze = new Maze(9, 9, 4);
+        for (int row = 0; row < 9; row++) {
+            maze.addObstacle(row, 4);
+        }
+        Cell start = maze.getCell(4, 1);
+        Cell[] ends = {maze.getCell(8, 2), maze.getCell(4, 7)};
+        for (Map.Entry<String, PathfindingAlgorithm> entry : AlgorithmManager.getAllAlgorithms().entrySet()) {
+            for (Cell end : ends) {
+                String context = entry.getKey() + ", " + start + " -> " + end;
+                List<Cell> path = assertTimeoutPreemptively(TIMEOUT,
+                        () -> entry.getValue().findPath(maze, start, end), context);
+                assertEquals(entry.getValue().getLastResult().getPath(), path, context);
+                assertThrows(UnsupportedOperationException.class, () -> path.add(start), context);
+            }
+        }
+    }
+
+    /**
+     * Solves a few reachable pairs of cells with every solver under every movement model it supports.
+     * Unreachable pairs are left out: IDA* proves those only by enumerating every simple path.
+     */
+    private void checkAllSolvers(Maze maze, Random random, String fixture) {
+        for (int query = 0; query < 3; query++) {
+            Cell start = randomWalkableCell(maze, random);
+            Cell end = randomWalkableCell(maze, random);
+            for (MovementModel movement : MovementModel.values()) {
+                List<Cell> cheapest = dijkstra.search(maze, start, end, movement).getPath();
+                if (cheapest.isEmpty()) {
+                    continue;
+                }
+                List<Cell> fewest = bfs.search(maze, start, end, movement).getPath();
+                for (Map.Entry<String, PathfindingAlgorithm> entry : AlgorithmManager.getAllAlgorithms().entrySet()) {
+                    PathfindingAlgorithm algorithm = entry.getValue();
+                    if (!algorithm.supportsMovementModel(movement)) {
+                        continue;
+                    }
+                    String context = fixture + ", " + entry.getKey() + ", " + movement + ", " + start + " -> " + end;
+                    List<Cell> path = assertTimeoutPreemptively(TIMEOUT,
+                            () -> algorithm.search(maze, start, end, movement).getPath(), context);
+                    assertValidPath(maze, path, start, end, movement, context);
+                    if (algorithm instanceof DepthFirstSearchAlgorithm) {
+                        continue;
+                    }
+                    if (minimisesCost(algorithm)) {
+                        assertEquals(pathCost(maze, cheapest, movement), pathCost(maze, path, movement), context);
+                    } else {
+                        assertEquals(fewest.size(), path.size(), context);
+                    }
+                }
+            }
+        }
+    }
+
+    private static boolean minimisesCost(PathfindingAlgorithm algorithm) {
+        return algorithm instanceof DijkstraAlgorithm || algorithm instanceof AStarAlgorithm
+                || algorithm instanceof IterativeDeepeningAStarAlgorithm || algorithm instanceof MemoryBoundedAStarAlgorithm
+                || algorithm instanceof AnytimeAStarAlgorithm || algorithm instanceof FlowFieldAlgorithm
+                || algorithm instanceof TreeOracleAlgorithm || algorithm instanceof ContractionHierarchyAlgorithm;
+    }
+
+    private static void randomTerrain(Maze maze, int maxCost, Random random) {
+        for (int row = 0; row < maze.getRows(); row++) {
+            for (int col = 0; col < maze.getCols(); col++) {
+                maze.setCost(row, col, 1 + random.nextInt(maxCost));
+            }
+        }
+    }
+}
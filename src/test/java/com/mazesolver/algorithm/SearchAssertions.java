@@ -0,0 +1,90 @@
+package com.mazesolver.algorithm;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.mazesolver.model.Cell;
+import com.mazesolver.model.Maze;
+import com.mazesolver.model.MovementModel;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Seeded maze fixtures and path checks shared by the solver tests.
+ */
+final class SearchAssertions {
+
+    private SearchAssertions() {
+    }
+
+    /**
+     * Builds an open grid with each cell blocked with the given probability; the start and end
+     * cells stay in their default corners and are never blocked.
+     */
+    static Maze randomObstacleGrid(int rows, int cols, double density, Random random) {
+        Maze maze = new Maze(rows, cols, random.nextLong());
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                if (random.nextDouble() < density) {
+                    maze.addObstacle(row, col);
+                }
+            }
+        }
+        return maze;
+    }
+
+    static Cell randomWalkableCell(Maze maze, Random random) {
+        while (true) {
+            Cell cell = maze.getCell(random.nextInt(maze.getRows()), random.nextInt(maze.getCols()));
+            if (cell.isWalkable()) {
+                return cell;
+            }
+        }
+    }
+
+    /**
+     * Gets the cost of a path as the solvers count it: the terrain cost of every cell entered,
+     * times the move's length under the movement model; -1 for an empty path.
+     */
+    static long pathCost(Maze maze, List<Cell> path, MovementModel movement) {
+        if (path.isEmpty()) {
+            return -1;
+        }
+        long cost = 0;
+        for (int i = 1; i < path.size(); i++) {
+            Cell from = path.get(i - 1);
+            Cell to = path.get(i);
+            boolean diagonal = from.getRow() != to.getRow() && from.getCol() != to.getCol();
+            int length = !movement.allowsDiagonals() ? 1
+                    : diagonal ? MovementModel.DIAGONAL_LENGTH : MovementModel.STRAIGHT_LENGTH;
+            cost += (long) maze.getCost(to.getRow(), to.getCol()) * length;
+        }
+        return cost;
+    }
+
+    /**
+     * Checks that a path runs from start to end over walkable cells, each step a move the
+     * movement model allows.
+     */
+    static void assertValidPath(Maze maze, List<Cell> path, Cell start, Cell end, MovementModel movement,
+                                String context) {
+        assertFalse(path.isEmpty(), context + ": empty path");
+        assertSame(start, path.get(0), context + ": path does not begin at the start cell");
+        assertSame(end, path.get(path.size() - 1), context + ": path does not finish at the end cell");
+        for (int i = 1; i < path.size(); i++) {
+            Cell from = path.get(i - 1);
+            Cell to = path.get(i);
+            int dr = Math.abs(from.getRow() - to.getRow());
+            int dc = Math.abs(from.getCol() - to.getCol());
+            String step = context + ": step " + i + " " + from + " -> " + to;
+            assertTrue(to.isWalkable(), step + " enters a blocked cell");
+            assertTrue(dr <= 1 && dc <= 1 && dr + dc > 0, step + " is not a move to a neighbor");
+            if (dr + dc == 2) {
+                assertTrue(movement.allowsDiagonals(), step + " moves diagonally");
+                if (movement == MovementModel.EIGHT_CONNECTED_NO_CORNER_CUTTING) {
+                    assertTrue(maze.getCell(from.getRow(), to.getCol()).isWalkable()
+                            && maze.getCell(to.getRow(), from.getCol()).isWalkable(), step + " cuts a corner");
+                }
+            }
+        }
+    }
+}
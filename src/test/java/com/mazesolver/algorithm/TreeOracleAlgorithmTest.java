@@ -0,0 +1,117 @@
+package com.mazesolver.algorithm;
+
+import static com.mazesolver.algorithm.SearchAssertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.mazesolver.model.Cell;
+import com.mazesolver.model.GridGraph;
+import com.mazesolver.model.Maze;
+import com.mazesolver.model.MovementModel;
+import com.mazesolver.model.TreeOracle;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class TreeOracleAlgorithmTest {
+
+    private final DijkstraAlgorithm dijkstra = new DijkstraAlgorithm(DijkstraAlgorithm.QueueStrategy.BINARY_HEAP);
+
+    /**
+     * The path between two cells of a tree is unique, so the oracle must return exactly the
+     * cells Dijkstra finds, with their cost and step count.
+     */
+    @Test
+    void answersMatchDijkstraOnSpanningTrees() {
+        Random random = new Random(21);
+        for (int iteration = 0; iteration < 15; iteration++) {
+            Maze maze = spanningTree(3 + 2 * random.nextInt(30), 3 + 2 * random.nextInt(30), random);
+            if (iteration % 2 == 1) {
+                maze.randomizeCosts(9);
+            }
+            GridGraph graph = maze.getGraph();
+            TreeOracle oracle = maze.getTreeOracle();
+            assertNotNull(oracle, "maze " + iteration);
+            for (int query = 0; query < 30; query++) {
+                Cell start = randomWalkableCell(maze, random);
+                Cell end = randomWalkableCell(maze, random);
+                String context = "maze " + iteration + ", " + start + " -> " + end;
+                List<Cell> expected = dijkstra.search(maze, start, end).getPath();
+                int from = graph.index(start);
+                int to = graph.index(end);
+                assertEquals(pathCost(maze, expected, MovementModel.FOUR_CONNECTED), oracle.distance(from, to), context);
+                assertEquals(expected.size() - 1, oracle.stepCount(from, to), context);
+                int[] expectedIndices = expected.stream().mapToInt(graph::index).toArray();
+                assertArrayEquals(expectedIndices, oracle.path(from, to), context);
+                assertEquals(expected, new TreeOracleAlgorithm().search(maze, start, end).getPath(), context);
+            }
+        }
+    }
+
+    @Test
+    void gridWithCycleHasNoOracle() {
+        Maze maze = new Maze(6, 6, 22);
+        assertNull(TreeOracle.build(maze.getGraph()), "an open grid is full of cycles");
+    }
+
+    @Test
+    void fallsBackToSearchOnceMazeHasCycles() {
+        Random random = new Random(23);
+        Maze maze = spanningTree(31, 31, random);
+        assertNotNull(maze.getTreeOracle());
+        // Opening walls closes cycles, so the oracle no longer applies
+        for (int i = 0; i < 40; i++) {
+            maze.removeObstacle(1 + random.nextInt(29), 1 + random.nextInt(29));
+        }
+        TreeOracleAlgorithm algorithm = new TreeOracleAlgorithm();
+        for (int query = 0; query < 20; query++) {
+            Cell start = randomWalkableCell(maze, random);
+            Cell end = randomWalkableCell(maze, random);
+            List<Cell> expected = dijkstra.search(maze, start, end).getPath();
+            assertEquals(expected.size(), algorithm.search(maze, start, end).getPath().size(), "query " + query);
+        }
+        assertNull(maze.getTreeOracle());
+    }
+
+    /**
+     * Carves a random spanning tree through the cells with even coordinates of an otherwise
+     * blocked grid of odd size. The generators open a few extra walls, so they can't be used here.
+     */
+    private static Maze spanningTree(int rows, int cols, Random random) {
+        Maze maze = new Maze(rows, cols, random.nextLong());
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                maze.addObstacle(row, col);
+            }
+        }
+        boolean[][] visited = new boolean[rows][cols];
+        Deque<int[]> stack = new ArrayDeque<>();
+        stack.push(new int[]{0, 0});
+        visited[0][0] = true;
+        maze.removeObstacle(0, 0);
+        int[][] steps = {{0, 2}, {2, 0}, {0, -2}, {-2, 0}};
+        while (!stack.isEmpty()) {
+            int[] cell = stack.peek();
+            List<int[]> open = new ArrayList<>();
+            for (int[] step : steps) {
+                int row = cell[0] + step[0];
+                int col = cell[1] + step[1];
+                if (row >= 0 && row < rows && col >= 0 && col < cols && !visited[row][col]) {
+                    open.add(new int[]{row, col});
+                }
+            }
+            if (open.isEmpty()) {
+                stack.pop();
+                continue;
+            }
+            int[] next = open.get(random.nextInt(open.size()));
+            visited[next[0]][next[1]] = true;
+            maze.removeObstacle((cell[0] + next[0]) / 2, (cell[1] + next[1]) / 2);
+            maze.removeObstacle(next[0], next[1]);
+            stack.push(next);
+        }
+        return maze;
+    }
+}
@@ -0,0 +1,83 @@
+package com.mazesolver.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class ConnectivityIndexTest {
+
+    /**
+     * Adds and removes obstacles one at a time, so the index is patched incrementally, and
+     * compares it after every edit with components labelled by a flood fill.
+     */
+    @Test
+    void matchesFloodFillAfterEdits() {
+        Random random = new Random(5);
+        for (int iteration = 0; iteration < 6; iteration++) {
+            int rows = 8 + random.nextInt(20);
+            int cols = 8 + random.nextInt(20);
+            Maze maze = new Maze(rows, cols, random.nextLong());
+            for (int edit = 0; edit < 300; edit++) {
+                int row = random.nextInt(rows);
+                int col = random.nextInt(cols);
+                // Mostly add obstacles so the grid splits into several regions
+                if (random.nextInt(3) > 0) {
+                    maze.addObstacle(row, col);
+                } else {
+                    maze.removeObstacle(row, col);
+                }
+                String context = "iteration " + iteration + ", edit " + edit;
+                int[] label = new int[rows * cols];
+                int components = floodFill(maze, label);
+                assertEquals(components, maze.getComponentCount(), context);
+                for (int query = 0; query < 10; query++) {
+                    Cell a = walkableCell(maze, random);
+                    Cell b = walkableCell(maze, random);
+                    assertEquals(label[a.getRow() * cols + a.getCol()] == label[b.getRow() * cols + b.getCol()],
+                            maze.isReachable(a, b), context + ", " + a + " -> " + b);
+                }
+            }
+        }
+    }
+
+    private static int floodFill(Maze maze, int[] label) {
+        int rows = maze.getRows();
+        int cols = maze.getCols();
+        int components = 0;
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int start = 0; start < rows * cols; start++) {
+            if (label[start] != 0 || !maze.getCell(start / cols, start % cols).isWalkable()) {
+                continue;
+            }
+            label[start] = ++components;
+            queue.add(start);
+            while (!queue.isEmpty()) {
+                int cell = queue.poll();
+                int row = cell / cols;
+                int col = cell % cols;
+                int[][] neighbors = {{row - 1, col}, {row + 1, col}, {row, col - 1}, {row, col + 1}};
+                for (int[] neighbor : neighbors) {
+                    Cell next = maze.getCell(neighbor[0], neighbor[1]);
+                    int index = neighbor[0] * cols + neighbor[1];
+                    if (next != null && next.isWalkable() && label[index] == 0) {
+                        label[index] = components;
+                        queue.add(index);
+                    }
+                }
+            }
+        }
+        return components;
+    }
+
+    private static Cell walkableCell(Maze maze, Random random) {
+        while (true) {
+            Cell cell = maze.getCell(random.nextInt(maze.getRows()), random.nextInt(maze.getCols()));
+            if (cell.isWalkable()) {
+                return cell;
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.mazesolver.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.mazesolver.algorithm.BreadthFirstSearchAlgorithm;
+import com.mazesolver.algorithm.CorridorAStarAlgorithm;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class CorridorGraphTest {
+
+    /**
+     * Opens and blocks random cells a few at a time; after every batch the patched graph must
+     * have the nodes and edges of one built from scratch, and corridor A* must find paths as
+     * short as BFS.
+     */
+    @Test
+    void patchedGraphMatchesRebuiltGraph() {
+        Random random = new Random(91);
+        BreadthFirstSearchAlgorithm bfs = new BreadthFirstSearchAlgorithm();
+        CorridorAStarAlgorithm corridorAStar = new CorridorAStarAlgorithm();
+        for (int iteration = 0; iteration < 6; iteration++) {
+            Maze maze = new Maze(21 + random.nextInt(20), 21 + random.nextInt(20), random.nextLong());
+            if (iteration % 2 == 0) {
+                maze.generateMaze(Maze.MazeGenerationAlgorithm.values()[iteration / 2 % 3]);
+            }
+            CorridorGraph patched = maze.getCorridorGraph();
+            for (int batch = 0; batch < 60; batch++) {
+                int edits = 1 + random.nextInt(5);
+                for (int edit = 0; edit < edits; edit++) {
+                    int row = random.nextInt(maze.getRows());
+                    int col = random.nextInt(maze.getCols());
+                    if (maze.getCell(row, col).isWalkable()) {
+                        maze.addObstacle(row, col);
+                    } else {
+                        maze.removeObstacle(row, col);
+                    }
+                }
+                String context = "iteration " + iteration + ", batch " + batch;
+                assertSame(patched, maze.getCorridorGraph(), context + ": the graph is patched, not rebuilt");
+                assertSameGraph(new CorridorGraph(maze.getGraph()), patched, context);
+
+                Cell start = randomWalkableCell(maze, random);
+                Cell end = randomWalkableCell(maze, random);
+                List<Cell> expected = bfs.findPath(maze, start, end);
+                assertEquals(expected.size(), corridorAStar.findPath(maze, start, end).size(),
+                        context + ", " + start + " -> " + end);
+            }
+        }
+    }
+
+    /**
+     * Compares two graphs by cell, since node ids depend on the order nodes were allocated.
+     */
+    private static void assertSameGraph(CorridorGraph expected, CorridorGraph actual, String context) {
+        assertEquals(expected.getNodeCount(), actual.getNodeCount(), context + ": node count");
+        GridGraph graph = expected.getGridGraph();
+        for (int cell = 0; cell < graph.size(); cell++) {
+            int expectedNode = expected.nodeOf(cell);
+            int actualNode = actual.nodeOf(cell);
+            assertEquals(expectedNode >= 0, actualNode >= 0, context + ": node at cell " + cell);
+            if (expectedNode < 0) {
+                continue;
+            }
+            assertEquals(cell, actual.cellOf(actualNode), context + ": cell of node " + actualNode);
+            for (int d = 0; d < GridGraph.DIRECTIONS; d++) {
+                String edge = context + ": edge " + d + " of cell " + cell;
+                int expectedTarget = expected.edgeTarget(expectedNode, d);
+                int actualTarget = actual.edgeTarget(actualNode, d);
+                assertEquals(expectedTarget < 0 ? -1 : expected.cellOf(expectedTarget),
+                        actualTarget < 0 ? -1 : actual.cellOf(actualTarget), edge);
+                if (expectedTarget >= 0) {
+                    assertEquals(expected.edgeWeight(expectedNode, d), actual.edgeWeight(actualNode, d), edge);
+                }
+            }
+        }
+    }
+
+    private static Cell randomWalkableCell(Maze maze, Random random) {
+        while (true) {
+            Cell cell = maze.getCell(random.nextInt(maze.getRows()), random.nextInt(maze.getCols()));
+            if (cell.isWalkable()) {
+                return cell;
+            }
+        }
+    }
+}
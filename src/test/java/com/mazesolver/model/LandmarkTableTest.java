@@ -0,0 +1,147 @@
+package com.mazesolver.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class LandmarkTableTest {
+
+    @Test
+    void distancesMatchBreadthFirstSearch() {
+        Random random = new Random(111);
+        for (int iteration = 0; iteration < 6; iteration++) {
+            Maze maze = new Maze(15 + random.nextInt(30), 15 + random.nextInt(30), random.nextLong());
+            if (iteration % 2 == 0) {
+                maze.generateMaze(Maze.MazeGenerationAlgorithm.values()[iteration / 2]);
+            } else {
+                blockRandomCells(maze, 0.3, random);
+            }
+            LandmarkTable table = maze.getLandmarks();
+            // Landmarks are picked within the start cell's component, which may be tiny on an obstacle grid
+            if (iteration % 2 == 0) {
+                assertEquals(LandmarkTable.DEFAULT_LANDMARKS, table.getLandmarkCount());
+            }
+            assertEquals(2L * maze.getRows() * maze.getCols() * table.getLandmarkCount(), table.getMemoryBytes());
+            checkDistances(maze.getGraph(), table, "maze " + iteration);
+        }
+    }
+
+    /**
+     * A serpentine corridor longer than 65535 cells needs int storage, which the table switches
+     * to partway through filling the first landmark's distances.
+     */
+    @Test
+    void longCorridorsFallBackToIntStorage() {
+        Maze maze = new Maze(263, 512, 112);
+        for (int row = 1; row < maze.getRows(); row += 2) {
+            for (int col = 0; col < maze.getCols(); col++) {
+                maze.addObstacle(row, col);
+            }
+            maze.removeObstacle(row, (row / 2) % 2 == 0 ? maze.getCols() - 1 : 0);
+        }
+        LandmarkTable table = maze.getLandmarks();
+        assertEquals(4L * maze.getRows() * maze.getCols() * table.getLandmarkCount(), table.getMemoryBytes());
+        checkDistances(maze.getGraph(), table, "serpentine");
+    }
+
+    @Test
+    void tinyMazesGetFewerLandmarks() {
+        Maze maze = new Maze(1, 3, 113);
+        LandmarkTable table = maze.getLandmarks();
+        assertEquals(3, table.getLandmarkCount());
+        assertEquals(2L * 3 * 3, table.getMemoryBytes());
+        checkDistances(maze.getGraph(), table, "1x3");
+    }
+
+    @Test
+    void obstacleEditsReplaceTheTable() {
+        Maze maze = new Maze(21, 21, 114);
+        maze.generateMaze(Maze.MazeGenerationAlgorithm.RECURSIVE_BACKTRACKING);
+        LandmarkTable first = maze.getLandmarks();
+        assertEquals(maze.getModificationCount(), first.getVersion());
+        assertSame(first, maze.getLandmarks(), "an unchanged maze keeps its table");
+
+        Random random = new Random(116);
+        Cell cell;
+        do {
+            cell = maze.getCell(random.nextInt(maze.getRows()), random.nextInt(maze.getCols()));
+        } while (!cell.isWalkable() || cell == maze.getStartCell() || cell == maze.getEndCell());
+        maze.addObstacle(cell.getRow(), cell.getCol());
+        LandmarkTable blocked = maze.getLandmarks();
+        assertNotSame(first, blocked);
+        assertEquals(maze.getModificationCount(), blocked.getVersion());
+        checkDistances(maze.getGraph(), blocked, "after blocking " + cell);
+
+        maze.removeObstacle(cell.getRow(), cell.getCol());
+        LandmarkTable reopened = maze.getLandmarks();
+        assertNotSame(blocked, reopened);
+        assertEquals(maze.getModificationCount(), reopened.getVersion());
+        checkDistances(maze.getGraph(), reopened, "after reopening " + cell);
+    }
+
+    /**
+     * A wall splits the grid in two. The landmarks all lie on the start cell's side, so a cell
+     * on the other side is unreachable from every one and gets no finite bound.
+     */
+    @Test
+    void otherComponentsAreUnreachable() {
+        Maze maze = new Maze(20, 20, 115);
+        for (int row = 0; row < maze.getRows(); row++) {
+            maze.addObstacle(row, 10);
+        }
+        LandmarkTable table = maze.getLandmarks();
+        GridGraph graph = maze.getGraph();
+        int[] target = new int[table.getLandmarkCount()];
+        table.distances(graph.index(3, 3), target);
+        assertEquals(LandmarkTable.UNREACHABLE, table.lowerBound(graph.index(15, 15), target));
+        int bound = table.lowerBound(graph.index(18, 8), target);
+        assertTrue(bound > 0 && bound <= 20, "bound " + bound + " must not exceed the distance of 20");
+        assertEquals(0, table.lowerBound(graph.index(3, 3), target));
+    }
+
+    private static void checkDistances(GridGraph graph, LandmarkTable table, String context) {
+        for (int landmark = 0; landmark < table.getLandmarkCount(); landmark++) {
+            int[] expected = bfs(graph, table.getLandmarkCell(landmark));
+            for (int cell = 0; cell < graph.size(); cell++) {
+                assertEquals(expected[cell], table.distance(landmark, cell),
+                        context + ", landmark " + landmark + ", cell " + cell);
+            }
+        }
+    }
+
+    private static int[] bfs(GridGraph graph, int source) {
+        int[] distance = new int[graph.size()];
+        Arrays.fill(distance, LandmarkTable.UNREACHABLE);
+        int[] queue = new int[graph.size()];
+        int head = 0;
+        int tail = 0;
+        distance[source] = 0;
+        queue[tail++] = source;
+        while (head < tail) {
+            int current = queue[head++];
+            int mask = graph.neighborMask(current);
+            while (mask != 0) {
+                int direction = Integer.numberOfTrailingZeros(mask);
+                mask &= mask - 1;
+                int neighbor = current + graph.step(direction);
+                if (distance[neighbor] == LandmarkTable.UNREACHABLE) {
+                    distance[neighbor] = distance[current] + 1;
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+        return distance;
+    }
+
+    private static void blockRandomCells(Maze maze, double density, Random random) {
+        for (int row = 0; row < maze.getRows(); row++) {
+            for (int col = 0; col < maze.getCols(); col++) {
+                if (random.nextDouble() < density) {
+                    maze.addObstacle(row, col);
+                }
+            }
+        }
+    }
+}
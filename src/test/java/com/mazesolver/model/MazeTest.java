@@ -0,0 +1,111 @@
+package com.mazesolver.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class MazeTest {
+
+    @Test
+    void editsAreReturnedInOrder() {
+        Maze maze = new Maze(10, 10, 1);
+        int version = maze.getModificationCount();
+        maze.addObstacle(2, 3);
+        maze.setCost(4, 5, 7);
+        maze.removeObstacle(2, 3);
+        assertArrayEquals(new int[]{23, 45, 23}, maze.getEditsSince(version));
+        assertArrayEquals(new int[]{45, 23}, maze.getEditsSince(version + 1));
+        assertArrayEquals(new int[0], maze.getEditsSince(maze.getModificationCount()));
+    }
+
+    @Test
+    void noOpEditsAreNotRecorded() {
+        Maze maze = new Maze(10, 10, 2);
+        maze.addObstacle(3, 3);
+        int version = maze.getModificationCount();
+        maze.removeObstacle(1, 1);
+        maze.setCost(1, 1, 1);
+        maze.addObstacle(3, 3);
+        maze.addObstacle(0, 0);
+        maze.addObstacle(9, 9);
+        assertEquals(version, maze.getModificationCount());
+        assertArrayEquals(new int[0], maze.getEditsSince(version));
+    }
+
+    @Test
+    void journalForgetsOldEdits() {
+        Maze maze = new Maze(20, 20, 3);
+        int version = maze.getModificationCount();
+        for (int i = 0; i < 300; i++) {
+            maze.setCost(i / 20, i % 20, 2);
+        }
+        assertNull(maze.getEditsSince(version));
+        int[] recent = maze.getEditsSince(maze.getModificationCount() - 256);
+        assertEquals(256, recent.length);
+        assertEquals(299, recent[255]);
+        assertNull(maze.getEditsSince(maze.getModificationCount() + 1));
+    }
+
+    @Test
+    void bulkChangesResetJournal() {
+        Maze maze = new Maze(11, 11, 4);
+        maze.addObstacle(5, 5);
+        int version = maze.getModificationCount();
+        maze.randomizeCosts(5);
+        assertNull(maze.getEditsSince(version));
+
+        version = maze.getModificationCount();
+        maze.generateMaze(Maze.MazeGenerationAlgorithm.KRUSKALS_ALGORITHM);
+        assertNull(maze.getEditsSince(version));
+
+        version = maze.getModificationCount();
+        maze.resetMaze();
+        assertNull(maze.getEditsSince(version));
+        assertArrayEquals(new int[0], maze.getEditsSince(maze.getModificationCount()));
+    }
+
+    /**
+     * Mixes obstacle edits on walls, open cells and obstacles with terrain and endpoint edits on
+     * a generated maze; after every edit the incremental fingerprint must equal a full rehash.
+     */
+    @Test
+    void fingerprintMatchesFullRehashAfterRandomEdits() {
+        Random random = new Random(5);
+        for (Maze.MazeGenerationAlgorithm algorithm : Maze.MazeGenerationAlgorithm.values()) {
+            Maze maze = new Maze(21, 21, random.nextLong());
+            maze.generateMaze(algorithm);
+            for (int edit = 0; edit < 2000; edit++) {
+                int row = random.nextInt(maze.getRows());
+                int col = random.nextInt(maze.getCols());
+                int kind = random.nextInt(6);
+                if (kind < 2) {
+                    maze.addObstacle(row, col);
+                } else if (kind < 4) {
+                    maze.removeObstacle(row, col);
+                } else if (kind == 4) {
+                    maze.setCost(row, col, 1 + random.nextInt(3));
+                } else if (random.nextBoolean()) {
+                    maze.setStartCell(row, col);
+                } else {
+                    maze.setEndCell(row, col);
+                }
+                assertEquals(maze.computeFingerprint(), maze.getFingerprint(), algorithm + ", edit " + edit);
+            }
+        }
+    }
+
+    @Test
+    void openingAWallChangesTheFingerprint() {
+        Maze maze = new Maze(31, 31, 1);
+        maze.generateMaze(Maze.MazeGenerationAlgorithm.PRIMS_ALGORITHM);
+        assertEquals(Cell.CellType.WALL, maze.getCell(12, 1).getType());
+        long walled = maze.getFingerprint();
+        maze.addObstacle(12, 1);
+        assertEquals(walled, maze.getFingerprint(), "a wall turned obstacle is still blocked");
+        maze.removeObstacle(12, 1);
+        assertTrue(maze.getCell(12, 1).isWalkable());
+        assertNotEquals(walled, maze.getFingerprint());
+        assertEquals(maze.computeFingerprint(), maze.getFingerprint());
+    }
+}
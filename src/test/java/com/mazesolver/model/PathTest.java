@@ -0,0 +1,148 @@
+package com.mazesolver.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class PathTest {
+
+    private static final int ROWS = 40;
+    private static final int COLS = 40;
+
+    /**
+     * Walks long enough for the packed steps to span several words; at 3 bits per step some
+     * steps straddle two words.
+     */
+    @Test
+    void straightPathsRoundTripAtTwoBitsPerStep() {
+        Random random = new Random(71);
+        for (int trial = 0; trial < 20; trial++) {
+            int[] indices = randomWalk(1 + random.nextInt(300), GridGraph.DIRECTIONS, random);
+            checkRoundTrip(indices);
+        }
+        // 128 steps at 2 bits fill exactly four words
+        assertEquals(Path.EMPTY.footprintBytes() + 4 * Long.BYTES,
+                Path.of(COLS, randomWalk(129, GridGraph.DIRECTIONS, random)).footprintBytes());
+    }
+
+    @Test
+    void diagonalPathsRoundTripAtThreeBitsPerStep() {
+        Random random = new Random(72);
+        for (int trial = 0; trial < 20; trial++) {
+            checkRoundTrip(randomWalk(2 + random.nextInt(300), GridGraph.ALL_DIRECTIONS, random));
+        }
+        // 128 steps at 3 bits take six words, one step straddling each word boundary
+        int[] zigzag = new int[129];
+        for (int i = 1; i < zigzag.length; i++) {
+            zigzag[i] = i % 2 == 1 ? COLS + 1 : 0;
+        }
+        checkRoundTrip(zigzag);
+        assertEquals(Path.EMPTY.footprintBytes() + 6 * Long.BYTES, Path.of(COLS, zigzag).footprintBytes());
+    }
+
+    @Test
+    void fromParentsMatchesTheWalkedPath() {
+        Random random = new Random(74);
+        for (int directions : new int[]{GridGraph.DIRECTIONS, GridGraph.ALL_DIRECTIONS}) {
+            for (int trial = 0; trial < 10; trial++) {
+                int[] indices = monotoneWalk(directions, random);
+                // Parent pointers of a search tree holding only the walk, which never revisits a cell
+                int[] parent = new int[ROWS * COLS];
+                Arrays.fill(parent, -2);
+                parent[indices[0]] = -1;
+                for (int i = 1; i < indices.length; i++) {
+                    parent[indices[i]] = indices[i - 1];
+                }
+                Maze maze = new Maze(ROWS, COLS, 75);
+                Path path = Path.fromParents(maze.getGraph(), parent, indices[indices.length - 1]);
+                assertEquals(Path.of(COLS, indices), path);
+                assertArrayEquals(indices, path.toIndices());
+            }
+        }
+    }
+
+    @Test
+    void listViewsDecodeToTheMazesCells() {
+        Maze maze = new Maze(ROWS, COLS, 76);
+        int[] indices = randomWalk(50, GridGraph.ALL_DIRECTIONS, new Random(77));
+        Path path = Path.of(COLS, indices);
+        List<Cell> view = path.asList(maze);
+        assertEquals(path.toList(maze), view);
+        for (int i = 0; i < indices.length; i++) {
+            assertSame(maze.getCell(indices[i] / COLS, indices[i] % COLS), view.get(i));
+        }
+        assertSame(path, Path.of(maze.getGraph(), view), "a view is encoded as its own path");
+        assertEquals(path, Path.of(maze.getGraph(), path.toList(maze)));
+        assertThrows(UnsupportedOperationException.class, () -> view.add(maze.getStartCell()));
+    }
+
+    @Test
+    void emptyAndInvalidPaths() {
+        assertSame(Path.EMPTY, Path.of(COLS, new int[0]));
+        assertTrue(Path.EMPTY.isEmpty());
+        assertEquals(-1, Path.EMPTY.getStart());
+        assertTrue(Path.EMPTY.asList(new Maze(2, 2, 78)).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> Path.of(COLS, new int[]{0, 2}));
+        assertThrows(IndexOutOfBoundsException.class, () -> Path.of(COLS, new int[]{0, 1}).direction(1));
+    }
+
+    private static void checkRoundTrip(int[] indices) {
+        Path path = Path.of(COLS, indices);
+        String context = Arrays.toString(indices);
+        assertEquals(indices.length, path.length(), context);
+        assertEquals(indices[0], path.getStart(), context);
+        assertEquals(indices[indices.length - 1], path.getEnd(), context);
+        assertArrayEquals(indices, path.toIndices(), context);
+        for (int step = 0; step < indices.length - 1; step++) {
+            int direction = path.direction(step);
+            assertEquals(indices[step + 1], indices[step] + GridGraph.rowDelta(direction) * COLS
+                    + GridGraph.colDelta(direction), context + ", step " + step);
+        }
+        assertEquals(path, Path.of(COLS, indices.clone()), context);
+    }
+
+    /**
+     * Moves only down, right or (with diagonals) down-right from the top left corner, so no cell
+     * is visited twice.
+     */
+    private static int[] monotoneWalk(int directions, Random random) {
+        int[] moves = directions > GridGraph.DIRECTIONS
+                ? new int[]{GridGraph.DOWN, GridGraph.RIGHT, GridGraph.DOWN_RIGHT}
+                : new int[]{GridGraph.DOWN, GridGraph.RIGHT};
+        int[] indices = new int[ROWS + COLS - 1];
+        int length = 1;
+        int row = 0;
+        int col = 0;
+        while (row < ROWS - 1 && col < COLS - 1) {
+            int direction = moves[random.nextInt(moves.length)];
+            row += GridGraph.rowDelta(direction);
+            col += GridGraph.colDelta(direction);
+            indices[length++] = row * COLS + col;
+        }
+        return Arrays.copyOf(indices, length);
+    }
+
+    /**
+     * Takes random moves among the first {@code directions} directions, staying inside the grid.
+     */
+    private static int[] randomWalk(int length, int directions, Random random) {
+        int[] indices = new int[length];
+        int row = random.nextInt(ROWS);
+        int col = random.nextInt(COLS);
+        indices[0] = row * COLS + col;
+        for (int i = 1; i < length; i++) {
+            int direction;
+            do {
+                direction = random.nextInt(directions);
+            } while (row + GridGraph.rowDelta(direction) < 0 || row + GridGraph.rowDelta(direction) >= ROWS
+                    || col + GridGraph.colDelta(direction) < 0 || col + GridGraph.colDelta(direction) >= COLS);
+            row += GridGraph.rowDelta(direction);
+            col += GridGraph.colDelta(direction);
+            indices[i] = row * COLS + col;
+        }
+        return indices;
+    }
+}